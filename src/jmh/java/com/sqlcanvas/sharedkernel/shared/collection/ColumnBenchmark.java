@@ -0,0 +1,94 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大量の金額・ID の保持とソート: ヒープ上の {@code List<Money>} / {@code List<UUID>} と
+ * {@link LongColumn} / {@link UuidColumn} の比較。
+ * <p>
+ * 1回の呼び出しで {@code count} 件を追加してソートし、1件を二分探索します。
+ * GC の負荷を比べる場合は {@code -prof gc} を付けて実行します。
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=ColumnBenchmark}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ColumnBenchmark {
+
+    @Param({"1000000"})
+    private int count;
+
+    private long[] amounts;
+    private UUID[] uuids;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new long[count];
+        uuids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            amounts[i] = random.nextLong(1_000_000);
+            uuids[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+    }
+
+    @Benchmark
+    public int moneyList() {
+        List<Money> monies = new ArrayList<>(count);
+        for (long amount : amounts) {
+            monies.add(Money.valueOf(amount));
+        }
+        Collections.sort(monies);
+        return Collections.binarySearch(monies, Money.valueOf(amounts[0]));
+    }
+
+    @Benchmark
+    public int longColumn() {
+        try (LongColumn column = new LongColumn()) {
+            column.appendAll(amounts);
+            column.sort();
+            return column.binarySearch(amounts[0]);
+        }
+    }
+
+    @Benchmark
+    public int uuidList() {
+        List<UUID> list = new ArrayList<>(count);
+        Collections.addAll(list, uuids);
+        Collections.sort(list);
+        return Collections.binarySearch(list, uuids[0]);
+    }
+
+    @Benchmark
+    public int uuidColumn() {
+        try (UuidColumn column = new UuidColumn()) {
+            for (UUID uuid : uuids) {
+                column.append(uuid);
+            }
+            column.sort();
+            return column.binarySearch(uuids[0]);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ID をキーとする検索: {@code HashMap<UserId, V>} と {@link EntityIdMap} の比較。
+ * <p>
+ * 1回の呼び出しで {@value #LOOKUPS} 件 (すべて存在するキー) を検索します。
+ * 各マップの保持後のヒープ使用量は Setup で計測し、それぞれのベンチマークの {@code retainedBytes} として報告します。
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=EntityIdMap}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EntityIdMapBenchmark {
+
+    public record UserId(UUID value) implements EntityId<UUID> {}
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Map<UserId, Object> hashMap;
+    private EntityIdMap<Object> entityIdMap;
+
+    // 検索に使うキー (マップに格納したものとは別インスタンス)
+    private UserId[] probes;
+
+    private long hashMapBytes;
+    private long entityIdMapBytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] msbs = new long[size];
+        long[] lsbs = new long[size];
+        for (int i = 0; i < size; i++) {
+            msbs[i] = random.nextLong();
+            lsbs[i] = random.nextLong();
+        }
+        Object value = new Object();
+
+        hashMapBytes = retained(() -> {
+            Map<UserId, Object> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(new UserId(new UUID(msbs[i], lsbs[i])), value);
+            }
+            return map;
+        });
+        entityIdMapBytes = retained(() -> {
+            EntityIdMap<Object> map = new EntityIdMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(msbs[i], lsbs[i], value);
+            }
+            return map;
+        });
+
+        hashMap = new HashMap<>();
+        entityIdMap = new EntityIdMap<>();
+        for (int i = 0; i < size; i++) {
+            UserId id = new UserId(new UUID(msbs[i], lsbs[i]));
+            hashMap.put(id, value);
+            entityIdMap.put(id, value);
+        }
+        probes = new UserId[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int k = random.nextInt(size);
+            probes[i] = new UserId(new UUID(msbs[k], lsbs[k]));
+        }
+    }
+
+    private static long retained(Supplier<Object> build) {
+        long before = usedHeap();
+        Object map = build.get();
+        long after = usedHeap();
+        // 計測が終わるまで到達可能にしておく
+        Reference.reachabilityFence(map);
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int hashMapGet(Footprint footprint) {
+        footprint.retainedBytes = hashMapBytes;
+        int found = 0;
+        for (UserId probe : probes) {
+            found += hashMap.get(probe) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int entityIdMapGet(Footprint footprint) {
+        footprint.retainedBytes = entityIdMapBytes;
+        int found = 0;
+        for (UserId probe : probes) {
+            found += entityIdMap.get(probe) != null ? 1 : 0;
+        }
+        return found;
+    }
+}
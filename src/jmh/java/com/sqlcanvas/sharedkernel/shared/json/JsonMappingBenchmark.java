@@ -0,0 +1,94 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value Object を含む DTO の JSON 読み書き: 既定の (リフレクションによる) マッピングと {@link SharedKernelModule} の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=JsonMapping}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    public record Customer(RequestId id, Email email, PhoneNumber phone, PostalCode postalCode) {}
+
+    public record OrderLine(Money amount, PositiveInt quantity) {}
+
+    public record Order(Customer customer, List<OrderLine> lines) {}
+
+    private ObjectWriter defaultWriter;
+    private ObjectReader defaultReader;
+    private ObjectWriter moduleWriter;
+    private ObjectReader moduleReader;
+
+    private Order order;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper plain = new ObjectMapper();
+        ObjectMapper withModule = new ObjectMapper().registerModule(new SharedKernelModule());
+        defaultWriter = plain.writerFor(Order.class);
+        defaultReader = plain.readerFor(Order.class);
+        moduleWriter = withModule.writerFor(Order.class);
+        moduleReader = withModule.readerFor(Order.class);
+
+        List<OrderLine> lines = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            lines.add(new OrderLine(Money.valueOf(i * 980L), PositiveInt.valueOf(i)));
+        }
+        order = new Order(new Customer(RequestId.generate(), Email.of("taro.yamada@example.co.jp").unwrap(),
+                PhoneNumber.of("090-1234-5678").unwrap(), PostalCode.of("150-0001").unwrap()), lines);
+        // どちらでも読める形 (Money の派生プロパティ zero を含まない)
+        json = moduleWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] writeDefault() throws IOException {
+        return defaultWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] writeModule() throws IOException {
+        return moduleWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order readDefault() throws IOException {
+        return defaultReader.readValue(json);
+    }
+
+    @Benchmark
+    public Order readModule() throws IOException {
+        return moduleReader.readValue(json);
+    }
+}
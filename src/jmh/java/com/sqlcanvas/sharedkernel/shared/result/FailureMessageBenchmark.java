@@ -0,0 +1,58 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 失敗した後にリカバリーされる (メッセージが表示されない) 経路での
+ * 即時メッセージ生成と遅延メッセージ生成の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=FailureMessage} (-prof gc で割り当て量も確認できます)
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureMessageBenchmark {
+
+    private String input = "not-a-uuid-" + System.nanoTime();
+    private int code = 42;
+
+    @Benchmark
+    public String eagerConcat_recovered() {
+        Result<String> r = Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: " + input + " (code=" + code + ")");
+        return r.recover(f -> "default").unwrap();
+    }
+
+    @Benchmark
+    public String lazyTemplate_recovered() {
+        Result<String> r = Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: {} (code={})", input, code);
+        return r.recover(f -> "default").unwrap();
+    }
+
+    @Benchmark
+    public String lazySupplier_recovered() {
+        Result<String> r = Result.failureLazy(CommonErrorCode.INVALID_PARAMETER, () -> "無効なID形式です: " + input + " (code=" + code + ")");
+        return r.recover(f -> "default").unwrap();
+    }
+
+    // 参考: メッセージを表示する場合は遅延生成でもコストはほぼ同等
+    @Benchmark
+    public String lazyTemplate_rendered() {
+        Result<String> r = Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: {} (code={})", input, code);
+        return r.unwrapFailure().message();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 電話番号・郵便番号: 従来の正規表現 + {@code String#replace} の経路と、走査 + 詰めた表現の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=ContactFormat} (-prof gc で割り当て量も確認できます)
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactFormatBenchmark {
+
+    private static final Pattern PHONE = Pattern.compile(PhoneNumber.REFERENCE_REGEX);
+    private static final Pattern POSTAL = Pattern.compile(PostalCode.REFERENCE_REGEX);
+
+    private String phone = "090-1234-5678";
+    private String postal = "123-4567";
+    private PhoneNumber phoneNumber = PhoneNumber.of(phone).unwrap();
+
+    @Benchmark
+    public boolean phone_regex() {
+        return PHONE.matcher(phone).matches();
+    }
+
+    @Benchmark
+    public long phone_scanner() {
+        return PhoneNumber.parse(phone);
+    }
+
+    @Benchmark
+    public Result<PhoneNumber> phone_of() {
+        return PhoneNumber.of(phone);
+    }
+
+    @Benchmark
+    public String phone_unformatted_replace() {
+        return phone.replace("-", "");
+    }
+
+    @Benchmark
+    public String phone_unformatted_packed() {
+        return phoneNumber.asUnformatted();
+    }
+
+    @Benchmark
+    public boolean postal_regex() {
+        return POSTAL.matcher(postal).matches();
+    }
+
+    @Benchmark
+    public int postal_scanner() {
+        return PostalCode.parse(postal);
+    }
+}
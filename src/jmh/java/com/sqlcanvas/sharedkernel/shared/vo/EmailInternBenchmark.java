@@ -0,0 +1,108 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 重複の多いメールアドレスを大量に保持する場合の、{@link Email#of} と {@link Email#canonical} の比較。
+ * <p>
+ * 1回の呼び出しで {@code count} 件 (異なるアドレスは {@code distinct} 件、ドメインの大文字・小文字が混在) を
+ * 生成してリストに保持し、保持後のヒープ使用量を {@code retainedBytes} として報告します。
+ * </p>
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=EmailIntern}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmailInternBenchmark {
+
+    @Param({"1000000"})
+    private int count;
+
+    @Param({"10000"})
+    private int distinct;
+
+    private String[] inputs;
+
+    @Setup
+    public void setup() {
+        inputs = new String[count];
+        for (int i = 0; i < count; i++) {
+            int n = i % distinct;
+            String domain = (i / distinct) % 2 == 0 ? "example.co.jp" : "Example.CO.JP";
+            // 入力ごとに別の String インスタンスにする (パーサーから受け取った場合と同じ状態)
+            inputs[i] = String.format(Locale.ROOT, "user%05d@%s", n, domain);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+
+        public long retainedBytes;
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private long baseline;
+
+        @Setup(Level.Invocation)
+        public void before() {
+            baseline = used();
+        }
+
+        void record(List<Email> retained) {
+            retainedBytes = used() - baseline;
+            // GC 後の計測まで保持していたことを保証する
+            if (retained.isEmpty()) {
+                throw new IllegalStateException();
+            }
+        }
+
+        private long used() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @Benchmark
+    public List<Email> of(Heap heap) {
+        List<Email> emails = new ArrayList<>(count);
+        for (String input : inputs) {
+            emails.add(Email.of(input).unwrap());
+        }
+        heap.record(emails);
+        return emails;
+    }
+
+    @Benchmark
+    public List<Email> canonical(Heap heap) {
+        List<Email> emails = new ArrayList<>(count);
+        for (String input : inputs) {
+            emails.add(Email.canonical(input).unwrap());
+        }
+        heap.record(emails);
+        return emails;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmailMembershipFilter} の判定コスト (100万件登録済み、偽陽性率 1%)。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=EmailMembershipFilter}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailMembershipFilterBenchmark {
+
+    private static final int REGISTERED = 1_000_000;
+    private static final int PROBES = 1 << 16;
+
+    private EmailMembershipFilter filter;
+    private Email[] absent;
+    private Email[] present;
+
+    @Setup
+    public void setup() {
+        filter = new EmailMembershipFilter(REGISTERED, 0.01);
+        for (int i = 0; i < REGISTERED; i++) {
+            filter.add(Email.of("user" + i + "@example.com").unwrap());
+        }
+        absent = new Email[PROBES];
+        present = new Email[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            absent[i] = Email.of("new" + i + "@example.com").unwrap();
+            present[i] = Email.of("user" + (i * 13) + "@example.com").unwrap();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean mightContainAbsent() {
+        return filter.mightContain(absent[ThreadLocalRandom.current().nextInt(PROBES)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean mightContainPresent() {
+        return filter.mightContain(present[ThreadLocalRandom.current().nextInt(PROBES)]);
+    }
+}
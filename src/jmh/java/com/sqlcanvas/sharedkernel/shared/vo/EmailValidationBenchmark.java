@@ -0,0 +1,59 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * メールアドレス検査: 参照用の正規表現と {@link EmailSyntax} の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=EmailValidation}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final Pattern REFERENCE = Pattern.compile(Email.EMAIL_REGEX);
+
+    @Param({"typical", "long", "hostile"})
+    private String kind;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = switch (kind) {
+            case "typical" -> "taro.yamada+news@mail.example.co.jp";
+            case "long" -> "a".repeat(60) + "@" + "sub.".repeat(60) + "example.com";
+            // ドメイン部の量指定子でバックトラックが増える不正な入力
+            case "hostile" -> "a@" + "a-".repeat(150) + "!";
+            default -> throw new IllegalArgumentException(kind);
+        };
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return REFERENCE.matcher(input).matches();
+    }
+
+    @Benchmark
+    public boolean scanner() {
+        return EmailSyntax.isValid(input);
+    }
+}
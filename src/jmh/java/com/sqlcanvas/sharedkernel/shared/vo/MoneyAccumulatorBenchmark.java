@@ -0,0 +1,52 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 複数スレッドからの加算: AtomicReference + {@link Money#add} の CAS ループと {@link MoneyAccumulator} の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=MoneyAccumulator}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class MoneyAccumulatorBenchmark {
+
+    private final AtomicReference<Money> atomic = new AtomicReference<>(Money.zero());
+    private final MoneyAccumulator accumulator = new MoneyAccumulator();
+    private final Money amount = Money.valueOf(120);
+
+    @Benchmark
+    public Money add_atomicMoney() {
+        for (;;) {
+            Money current = atomic.get();
+            Result<Money> next = current.add(amount);
+            if (next.isFailure() || atomic.compareAndSet(current, next.unwrap())) {
+                return current;
+            }
+        }
+    }
+
+    @Benchmark
+    public void add_accumulator() {
+        accumulator.add(amount);
+    }
+}
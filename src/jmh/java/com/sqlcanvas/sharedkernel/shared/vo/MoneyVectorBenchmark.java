@@ -0,0 +1,97 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Money#add} を1件ずつ連結する経路と {@link MoneyVector} の一括計算の比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=MoneyVector}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyVectorBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Money> boxed;
+    private List<Money> boxedDiscounts;
+    private MoneyVector vector;
+    private MoneyVector discounts;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long[] amounts = new long[size];
+        long[] off = new long[size];
+        boxed = new ArrayList<>(size);
+        boxedDiscounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            amounts[i] = 1_000 + random.nextInt(1_000_000);
+            off[i] = random.nextInt(1_000);
+            boxed.add(new Money(amounts[i]));
+            boxedDiscounts.add(new Money(off[i]));
+        }
+        vector = MoneyVector.of(amounts).unwrap();
+        discounts = MoneyVector.of(off).unwrap();
+    }
+
+    @Benchmark
+    public Result<Money> sum_boxed() {
+        Result<Money> total = Result.success(Money.zero());
+        for (Money m : boxed) {
+            total = total.flatMap(acc -> acc.add(m));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Result<Money> sum_vector() {
+        return vector.sum();
+    }
+
+    @Benchmark
+    public List<Result<Money>> subtract_boxed() {
+        List<Result<Money>> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(boxed.get(i).subtract(boxedDiscounts.get(i)));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Result<MoneyVector> subtract_vector() {
+        return vector.subtract(discounts);
+    }
+
+    @Benchmark
+    public Result<Money> max_vector() {
+        return vector.max();
+    }
+
+    @Benchmark
+    public MoneyVector filter_vector() {
+        return vector.filterGreaterThan(Money.valueOf(500_000));
+    }
+}
@@ -0,0 +1,78 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 単価 × 重量 の典型的な計算で、{@link PositiveBigDecimal} (long 演算) と素の {@link BigDecimal} を比較する。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=PositiveBigDecimal} (-prof gc で割り当て量も確認できます)
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositiveBigDecimalBenchmark {
+
+    private BigDecimal unitPrice = new BigDecimal("1280.50");
+    private BigDecimal weight = new BigDecimal("0.375000");
+    private BigDecimal surcharge = new BigDecimal("12.5");
+
+    private PositiveBigDecimal compactPrice = new PositiveBigDecimal(unitPrice);
+    private PositiveBigDecimal compactWeight = new PositiveBigDecimal(weight);
+    private PositiveBigDecimal compactSurcharge = new PositiveBigDecimal(surcharge);
+
+    @Benchmark
+    public BigDecimal bigDecimal_add() {
+        return unitPrice.add(surcharge);
+    }
+
+    @Benchmark
+    public PositiveBigDecimal compact_add() {
+        return compactPrice.add(compactSurcharge);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal_multiply() {
+        return unitPrice.multiply(weight);
+    }
+
+    @Benchmark
+    public PositiveBigDecimal compact_multiply() {
+        return compactPrice.multiply(compactWeight);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal_priceLine() {
+        return unitPrice.multiply(weight).add(surcharge).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public PositiveBigDecimal compact_priceLine() {
+        return compactPrice.multiply(compactWeight).add(compactSurcharge).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public int bigDecimal_compareTo() {
+        return unitPrice.compareTo(surcharge);
+    }
+
+    @Benchmark
+    public int compact_compareTo() {
+        return compactPrice.compareTo(compactSurcharge);
+    }
+}
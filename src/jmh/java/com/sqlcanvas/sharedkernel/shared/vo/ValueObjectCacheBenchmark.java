@@ -0,0 +1,66 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * キャッシュ範囲内 (事前生成済み) と範囲外 (毎回生成) のファクトリ呼び出しの比較。
+ * <p>
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=ValueObjectCache}
+ * 割り当て量は {@code -prof gc} の gc.alloc.rate.norm で確認します (範囲内は 0 B/op になる想定)。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectCacheBenchmark {
+
+    // 定数畳み込みされないようにフィールドから読む
+    private int smallInt = 1;
+    private int largeInt = ValueCache.DEFAULT_HIGH + 1;
+    private long smallAmount = 100;
+    private long largeAmount = 123_456;
+
+    @Benchmark
+    public Result<PositiveInt> positiveInt_cached() {
+        return PositiveInt.of(smallInt);
+    }
+
+    @Benchmark
+    public Result<PositiveInt> positiveInt_uncached() {
+        return PositiveInt.of(largeInt);
+    }
+
+    @Benchmark
+    public Result<NonNegativeLong> nonNegativeLong_cached() {
+        return NonNegativeLong.of(smallAmount);
+    }
+
+    @Benchmark
+    public Result<NonNegativeLong> nonNegativeLong_uncached() {
+        return NonNegativeLong.of(largeAmount);
+    }
+
+    @Benchmark
+    public Result<Money> money_cached() {
+        return Money.of(smallAmount);
+    }
+
+    @Benchmark
+    public Result<Money> money_uncached() {
+        return Money.of(largeAmount);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value Object の列 (注文明細 20 行分) の符号化: {@link ValueObjectCodec} と Java シリアライズの比較。
+ * <p>
+ * それぞれの形式のバイト数は {@code encodedBytes} として報告します。
+ * 実行: {@code ./gradlew jmh -Pjmh.includes=ValueObjectCodec}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectCodecBenchmark {
+
+    private final ValueObjectCodec codec = ValueObjectCodec.standard();
+
+    private List<Object> values;
+    private ByteBuffer buffer;
+    private byte[] encoded;
+    private byte[] serialized;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        public long encodedBytes;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        values = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            values.add(Money.valueOf(i * 980L));
+            values.add(PositiveInt.valueOf(i));
+            values.add(PositiveBigDecimal.of(i * 125L, 2).unwrap());
+        }
+        values.add(Email.of("taro.yamada@example.co.jp").unwrap());
+        values.add(PhoneNumber.of("090-1234-5678").unwrap());
+        values.add(PostalCode.of("150-0001").unwrap());
+
+        buffer = ByteBuffer.allocate(4096);
+        Size size = new Size();
+        encodeCodec(size);
+        encoded = new byte[buffer.remaining()];
+        buffer.get(encoded);
+        serialized = serialize(size);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeCodec(Size size) {
+        buffer.clear();
+        for (Object value : values) {
+            codec.encode(value, buffer);
+        }
+        buffer.flip();
+        size.encodedBytes = buffer.remaining();
+        return buffer;
+    }
+
+    @Benchmark
+    public Object decodeCodec(Size size) {
+        size.encodedBytes = encoded.length;
+        ByteBuffer in = ByteBuffer.wrap(encoded);
+        Object last = null;
+        while (in.hasRemaining()) {
+            last = codec.decode(in);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public byte[] serialize(Size size) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (Object value : values) {
+                out.writeObject(value);
+            }
+        }
+        byte[] result = bytes.toByteArray();
+        size.encodedBytes = result.length;
+        return result;
+    }
+
+    @Benchmark
+    public Object deserialize(Size size) throws IOException, ClassNotFoundException {
+        size.encodedBytes = serialized.length;
+        Object last = null;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            for (int i = 0; i < values.size(); i++) {
+                last = in.readObject();
+            }
+        }
+        return last;
+    }
+}
@@ -0,0 +1,118 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+/**
+ * 添字で比較・交換する、その場 (追加のメモリなし) のソート。
+ * <p>
+ * クイックソート (3点の中央値をピボット、等しい要素でも停止する分割なので重複の多い列でも偏らない) を基本とし、
+ * 小さい区間は挿入ソート、再帰が深くなりすぎた区間はヒープソートに切り替えます (イントロソート)。
+ * 安定ソートではありません。
+ * </p>
+ */
+final class ColumnSort {
+
+    interface Sortable {
+
+        int compare(int i, int j);
+
+        void swap(int i, int j);
+    }
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private ColumnSort() {}
+
+    static void sort(Sortable s, int size) {
+        if (size > 1) {
+            sort(s, 0, size - 1, 2 * (31 - Integer.numberOfLeadingZeros(size)));
+        }
+    }
+
+    private static void sort(Sortable s, int lo, int hi, int depth) {
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(s, lo, hi);
+                return;
+            }
+            int p = partition(s, lo, hi);
+            // 小さい側を再帰し、大きい側はループで処理する (スタックの深さは O(log n))
+            if (p - lo < hi - p) {
+                sort(s, lo, p - 1, depth);
+                lo = p + 1;
+            } else {
+                sort(s, p + 1, hi, depth);
+                hi = p - 1;
+            }
+        }
+        insertionSort(s, lo, hi);
+    }
+
+    // ピボットを lo に置いて分割し、ピボットの最終位置を返す
+    private static int partition(Sortable s, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (s.compare(mid, lo) < 0) {
+            s.swap(mid, lo);
+        }
+        if (s.compare(hi, lo) < 0) {
+            s.swap(hi, lo);
+        }
+        if (s.compare(hi, mid) < 0) {
+            s.swap(hi, mid);
+        }
+        s.swap(lo, mid);
+
+        int i = lo;
+        int j = hi + 1;
+        while (true) {
+            while (s.compare(++i, lo) < 0) {
+                if (i == hi) {
+                    break;
+                }
+            }
+            while (s.compare(lo, --j) < 0) {
+                // j == lo では compare が 0 になり停止する
+            }
+            if (i >= j) {
+                break;
+            }
+            s.swap(i, j);
+        }
+        s.swap(lo, j);
+        return j;
+    }
+
+    private static void insertionSort(Sortable s, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && s.compare(j, j - 1) < 0; j--) {
+                s.swap(j, j - 1);
+            }
+        }
+    }
+
+    private static void heapSort(Sortable s, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            siftDown(s, lo, k, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            s.swap(lo, lo + end);
+            siftDown(s, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(Sortable s, int lo, int k, int n) {
+        while (true) {
+            int child = 2 * k + 1;
+            if (child >= n) {
+                return;
+            }
+            if (child + 1 < n && s.compare(lo + child + 1, lo + child) > 0) {
+                child++;
+            }
+            if (s.compare(lo + k, lo + child) >= 0) {
+                return;
+            }
+            s.swap(lo + k, lo + child);
+            k = child;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 列コンテナーのヒープ外の記憶領域。
+ * <p>
+ * 最初は direct {@link ByteBuffer} に確保し、容量が閾値を超えたら一時ファイルへのメモリマップに切り替えます
+ * (以降の拡張はファイルを伸ばしてマップし直すだけで、コピーは発生しません)。
+ * 一時ファイルは {@link #close()} で削除されます。バイト順はネイティブです (一時ファイルは同じプロセスでしか読まない)。
+ * </p>
+ */
+final class ColumnStorage implements AutoCloseable {
+
+    /**
+     * 閾値の既定値を変更するシステムプロパティ (バイト数)
+     */
+    static final String SPILL_THRESHOLD_PROPERTY = "sharedkernel.collection.spill.threshold";
+
+    static final long DEFAULT_SPILL_THRESHOLD = Long.getLong(SPILL_THRESHOLD_PROPERTY, 64L << 20);
+
+    // ByteBuffer の添字は int のため、1列の上限は約 2GiB
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 7;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    private ByteBuffer buffer;
+    private FileChannel channel;
+    private boolean closed;
+
+    ColumnStorage(long spillThreshold, Path spillDirectory) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("spillThreshold must not be negative: " + spillThreshold);
+        }
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = Objects.requireNonNull(spillDirectory);
+        this.buffer = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * 現在の記憶領域を返します。{@link #ensureCapacity} を呼ぶと別のバッファーに替わることがあります。
+     */
+    ByteBuffer buffer() {
+        if (closed) {
+            throw new IllegalStateException("Column is closed");
+        }
+        return buffer;
+    }
+
+    long capacity() {
+        return closed ? 0 : buffer.capacity();
+    }
+
+    boolean isSpilled() {
+        return channel != null;
+    }
+
+    /**
+     * 先頭から {@code usedBytes} バイトを保ったまま、{@code requiredBytes} バイト以上の容量を確保します。
+     *
+     * @throws IllegalStateException 1列の上限 (約 2GiB) を超える場合
+     * @throws UncheckedIOException  一時ファイルの作成・拡張に失敗した場合
+     */
+    ByteBuffer ensureCapacity(long requiredBytes, int usedBytes) {
+        ByteBuffer current = buffer();
+        if (requiredBytes <= current.capacity()) {
+            return current;
+        }
+        if (requiredBytes > MAX_CAPACITY) {
+            throw new IllegalStateException("Column capacity exceeded: " + requiredBytes + " bytes");
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY,
+                Math.max(requiredBytes, Math.max(INITIAL_CAPACITY, (long) current.capacity() << 1)));
+        try {
+            if (channel == null && newCapacity > spillThreshold) {
+                spill(current, usedBytes, newCapacity);
+            } else if (channel != null) {
+                // ファイルの内容はそのまま残るので、大きくマップし直すだけでよい
+                buffer = map(newCapacity);
+            } else {
+                ByteBuffer next = ByteBuffer.allocateDirect(newCapacity).order(ByteOrder.nativeOrder());
+                next.put(0, current, 0, usedBytes);
+                buffer = next;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to extend column storage", e);
+        }
+        return buffer;
+    }
+
+    private void spill(ByteBuffer current, int usedBytes, int newCapacity) throws IOException {
+        Path file = Files.createTempFile(spillDirectory, "sharedkernel-column-", ".bin");
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        ByteBuffer mapped = map(newCapacity);
+        mapped.put(0, current, 0, usedBytes);
+        buffer = mapped;
+    }
+
+    private ByteBuffer map(int capacity) throws IOException {
+        // ファイルより大きくマップすると、ファイルはその大きさまで拡張される
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * 一時ファイルを閉じて削除します。
+     * <p>
+     * direct バッファーとマップは明示的に解放できないため、GC による回収時に解放されます。
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * UUID ベースの ID ({@code EntityId<UUID>}・{@link RequestId}) をキーとするマップ。
+ * <pre>{@code
+ * EntityIdMap<User> users = new EntityIdMap<>();
+ * users.put(user.id(), user);
+ * User found = users.get(userId);
+ *
+ * EntityIdMap.Snapshot<User> view = users.snapshot();   // 他のスレッドに渡して読ませる
+ * }</pre>
+ * <ul>
+ *   <li>キーは UUID の上位・下位 64bit を2本の {@code long[]} に、値は {@code Object[]} に保持します
+ *       (オープンアドレス法・線形探索)。{@code HashMap} のようなエントリー・ID・UUID のオブジェクトを持たず、
+ *       検索でポインターを辿りません。</li>
+ *   <li>ハッシュ値は上位・下位 64bit を攪拌して求めます (UUID v7 のように上位ビットが偏っていても分散します)。</li>
+ *   <li>キーは UUID の値で比較します。同じ UUID を持つ異なる型の ID は同じキーとみなします。
+ *       値に {@code null} は使えません。</li>
+ *   <li>{@link #snapshot()} は配列をコピーせずに読み取り専用のビューを返します
+ *       (次の更新時に一度だけ配列をコピーします)。ビューは不変で、複数のスレッドから同時に読めます。</li>
+ * </ul>
+ * このクラス自体はスレッドセーフではありません。
+ *
+ * @param <V> 値の型
+ */
+public final class EntityIdMap<V> {
+
+    // 線形探索は負荷率が高いと探索長が急に伸びるため、半分までに抑える
+    private static final int MAX_LOAD_PERCENT = 50;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] msbs;
+    private long[] lsbs;
+
+    // null は空きスロット
+    private Object[] values;
+
+    private int size;
+
+    // 配列をスナップショットと共有している (次の更新の前にコピーする)
+    private boolean shared;
+
+    public EntityIdMap() {
+        this(0);
+    }
+
+    /**
+     * 指定した件数まで配列を拡張せずに格納できる大きさで生成します。
+     */
+    public EntityIdMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        int capacity = capacityFor(expectedSize);
+        this.msbs = new long[capacity];
+        this.lsbs = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    // --- Lookup ---
+
+    public V get(EntityId<UUID> id) {
+        return get(id.value());
+    }
+
+    public V get(RequestId id) {
+        return get(id.value());
+    }
+
+    public V get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * UUID の上位・下位 64bit で検索します。見つからない場合は null を返します。
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long msb, long lsb) {
+        int i = indexOf(msbs, lsbs, values, msb, lsb);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    public V getOrDefault(EntityId<UUID> id, V defaultValue) {
+        V value = get(id);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(EntityId<UUID> id) {
+        return get(id) != null;
+    }
+
+    public boolean containsKey(RequestId id) {
+        return get(id) != null;
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // --- Update ---
+
+    public V put(EntityId<UUID> id, V value) {
+        return put(id.value(), value);
+    }
+
+    public V put(RequestId id, V value) {
+        return put(id.value(), value);
+    }
+
+    public V put(UUID key, V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * 値を格納し、以前の値 (なければ null) を返します。
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long msb, long lsb, V value) {
+        Objects.requireNonNull(value, "value");
+        if ((long) (size + 1) * 100 > (long) values.length * MAX_LOAD_PERCENT) {
+            // 新しい配列に移すので、共有中でもコピーは不要
+            resize(values.length << 1);
+        } else {
+            unshare();
+        }
+        int mask = values.length - 1;
+        for (int i = hash(msb, lsb) & mask; ; i = (i + 1) & mask) {
+            Object current = values[i];
+            if (current == null) {
+                msbs[i] = msb;
+                lsbs[i] = lsb;
+                values[i] = value;
+                size++;
+                return null;
+            }
+            if (msbs[i] == msb && lsbs[i] == lsb) {
+                values[i] = value;
+                return (V) current;
+            }
+        }
+    }
+
+    public V remove(EntityId<UUID> id) {
+        return remove(id.value());
+    }
+
+    public V remove(RequestId id) {
+        return remove(id.value());
+    }
+
+    /**
+     * キーを削除し、削除した値 (なければ null) を返します。
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(UUID key) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        int i = indexOf(msbs, lsbs, values, msb, lsb);
+        if (i < 0) {
+            return null;
+        }
+        unshare();
+        V removed = (V) values[i];
+        deleteSlot(i);
+        size--;
+        return removed;
+    }
+
+    public void clear() {
+        if (shared) {
+            // 共有中の配列は書き換えられないので、新しく確保する
+            msbs = new long[values.length];
+            lsbs = new long[values.length];
+            values = new Object[values.length];
+            shared = false;
+        } else {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    // --- Iteration & Snapshot ---
+
+    /**
+     * すべてのエントリーを (順序不定で) 処理します。キーの UUID はこのときに生成します。
+     */
+    public void forEach(BiConsumer<UUID, ? super V> action) {
+        forEach(msbs, lsbs, values, action);
+    }
+
+    /**
+     * 現在の内容の読み取り専用ビューを返します (配列はコピーしません)。
+     * <p>
+     * 以降にこのマップを更新してもビューは変わりません。ビューは不変なので、そのまま他のスレッドに渡して読めます。
+     * </p>
+     */
+    public Snapshot<V> snapshot() {
+        shared = true;
+        return new Snapshot<>(msbs, lsbs, values, size);
+    }
+
+    /**
+     * {@link EntityIdMap#snapshot()} が返す不変のビュー。
+     *
+     * @param <V> 値の型
+     */
+    public static final class Snapshot<V> {
+
+        private final long[] msbs;
+        private final long[] lsbs;
+        private final Object[] values;
+        private final int size;
+
+        private Snapshot(long[] msbs, long[] lsbs, Object[] values, int size) {
+            this.msbs = msbs;
+            this.lsbs = lsbs;
+            this.values = values;
+            this.size = size;
+        }
+
+        public V get(EntityId<UUID> id) {
+            return get(id.value());
+        }
+
+        public V get(RequestId id) {
+            return get(id.value());
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(UUID key) {
+            int i = indexOf(msbs, lsbs, values, key.getMostSignificantBits(), key.getLeastSignificantBits());
+            return i >= 0 ? (V) values[i] : null;
+        }
+
+        public boolean containsKey(EntityId<UUID> id) {
+            return get(id) != null;
+        }
+
+        public boolean containsKey(UUID key) {
+            return get(key) != null;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public void forEach(BiConsumer<UUID, ? super V> action) {
+            EntityIdMap.forEach(msbs, lsbs, values, action);
+        }
+
+        @Override
+        public String toString() {
+            return "EntityIdMap.Snapshot[size=" + size + "]";
+        }
+    }
+
+    // --- Internal ---
+
+    // 上位・下位を混ぜて murmur3 の fmix64 で攪拌する
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E37_79B9_7F4A_7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int indexOf(long[] msbs, long[] lsbs, Object[] values, long msb, long lsb) {
+        int mask = values.length - 1;
+        for (int i = hash(msb, lsb) & mask; ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                return -1;
+            }
+            if (msbs[i] == msb && lsbs[i] == lsb) {
+                return i;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEach(long[] msbs, long[] lsbs, Object[] values, BiConsumer<UUID, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept(new UUID(msbs[i], lsbs[i]), (V) value);
+            }
+        }
+    }
+
+    // 空きスロットの後ろに続くエントリーを、探索が途切れないように詰める (墓標を使わない削除)
+    private void deleteSlot(int hole) {
+        int mask = values.length - 1;
+        for (int j = (hole + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int home = hash(msbs[j], lsbs[j]) & mask;
+            // home が (hole, j] の範囲 (循環) にあれば、hole に移すと探索できなくなる
+            boolean reachable = hole <= j ? hole < home && home <= j : hole < home || home <= j;
+            if (!reachable) {
+                msbs[hole] = msbs[j];
+                lsbs[hole] = lsbs[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void unshare() {
+        if (shared) {
+            msbs = msbs.clone();
+            lsbs = lsbs.clone();
+            values = values.clone();
+            shared = false;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        Object[] oldValues = values;
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        values = new Object[capacity];
+        shared = false;
+        int mask = capacity - 1;
+        for (int k = 0; k < oldValues.length; k++) {
+            if (oldValues[k] != null) {
+                int i = hash(oldMsbs[k], oldLsbs[k]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                msbs[i] = oldMsbs[k];
+                lsbs[i] = oldLsbs[k];
+                values[i] = oldValues[k];
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 100 / MAX_LOAD_PERCENT + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIdMap[size=" + size + "]";
+    }
+}
@@ -0,0 +1,243 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@code long} の列をヒープ外に保持するコンテナー (バッチ処理で数百万件の金額を扱う場合など)。
+ * <pre>{@code
+ * try (LongColumn amounts = new LongColumn()) {
+ *     amounts.appendAll(monies);          // Money のコレクションをまとめて追加
+ *     amounts.sort();
+ *     int i = amounts.binarySearch(10_000);
+ *     Money money = amounts.moneyAt(0);   // Money は読み出すときに生成する
+ * }
+ * }</pre>
+ * <ul>
+ *   <li>値は direct {@link ByteBuffer} に 8 バイトずつ並べて保持します。要素ごとのオブジェクトを持たないため、
+ *       ヒープ使用量と GC の負荷は件数に比例しません。</li>
+ *   <li>確保した領域が閾値 (既定 64MiB、{@code -Dsharedkernel.collection.spill.threshold=バイト数} で変更可能) を超えると、
+ *       一時ファイルへのメモリマップに切り替えます。一時ファイルは {@link #close()} で削除されます。</li>
+ *   <li>{@link #sort()} はその場でソートし、追加のメモリを使いません。</li>
+ *   <li>1列の上限は約 2GiB (約 2.6 億件) です。</li>
+ * </ul>
+ * スレッドセーフではありません。
+ */
+public final class LongColumn implements AutoCloseable {
+
+    private static final int BYTES = Long.BYTES;
+
+    private final ColumnStorage storage;
+    private int size;
+
+    // 昇順に並んでいるか (追加のたびに更新する)
+    private boolean sorted = true;
+
+    /**
+     * 既定の閾値で生成します (閾値を超えたら一時ディレクトリのファイルに移します)。
+     */
+    public LongColumn() {
+        this(ColumnStorage.DEFAULT_SPILL_THRESHOLD, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param spillThresholdBytes この大きさを超えたらファイルへのメモリマップに切り替える (0 なら最初から)
+     * @param spillDirectory      一時ファイルを作るディレクトリ
+     */
+    public LongColumn(long spillThresholdBytes, Path spillDirectory) {
+        this.storage = new ColumnStorage(spillThresholdBytes, spillDirectory);
+    }
+
+    // --- Append ---
+
+    public void append(long value) {
+        ByteBuffer buffer = storage.ensureCapacity((long) (size + 1) * BYTES, size * BYTES);
+        if (sorted && size > 0 && value < buffer.getLong((size - 1) * BYTES)) {
+            sorted = false;
+        }
+        buffer.putLong(size * BYTES, value);
+        size++;
+    }
+
+    public void append(Money money) {
+        append(money.amount());
+    }
+
+    /**
+     * 配列の値をまとめて追加します。
+     */
+    public void appendAll(long[] values) {
+        appendAll(values, 0, values.length);
+    }
+
+    public void appendAll(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        ByteBuffer buffer = storage.ensureCapacity((long) (size + length) * BYTES, size * BYTES);
+        updateSorted(buffer, values, offset, length);
+        // ネイティブのバイト順なので、LongBuffer の一括 put はメモリのコピーになる
+        buffer.asLongBuffer().put(size, values, offset, length);
+        size += length;
+    }
+
+    /**
+     * 金額をまとめて追加します。
+     */
+    public void appendAll(Collection<Money> monies) {
+        long[] amounts = new long[monies.size()];
+        int i = 0;
+        for (Money money : monies) {
+            amounts[i++] = money.amount();
+        }
+        appendAll(amounts, 0, i);
+    }
+
+    private void updateSorted(ByteBuffer buffer, long[] values, int offset, int length) {
+        if (!sorted) {
+            return;
+        }
+        long previous = size > 0 ? buffer.getLong((size - 1) * BYTES) : Long.MIN_VALUE;
+        for (int i = offset; i < offset + length; i++) {
+            if (values[i] < previous) {
+                sorted = false;
+                return;
+            }
+            previous = values[i];
+        }
+    }
+
+    // --- Accessors ---
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return storage.buffer().getLong(index * BYTES);
+    }
+
+    /**
+     * 値を {@link Money} として返します。
+     *
+     * @throws IllegalArgumentException 値が負の場合
+     */
+    public Money moneyAt(int index) {
+        return Money.valueOf(getLong(index));
+    }
+
+    public void set(int index, long value) {
+        Objects.checkIndex(index, size);
+        storage.buffer().putLong(index * BYTES, value);
+        sorted = false;
+    }
+
+    /**
+     * 値をヒープ上の配列にコピーします。
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        storage.buffer().asLongBuffer().get(0, values);
+        return values;
+    }
+
+    // --- Sort & Search ---
+
+    /**
+     * 昇順にその場でソートします。
+     */
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+        ByteBuffer buffer = storage.buffer();
+        ColumnSort.sort(new ColumnSort.Sortable() {
+            @Override
+            public int compare(int i, int j) {
+                return Long.compare(buffer.getLong(i * BYTES), buffer.getLong(j * BYTES));
+            }
+
+            @Override
+            public void swap(int i, int j) {
+                long a = buffer.getLong(i * BYTES);
+                buffer.putLong(i * BYTES, buffer.getLong(j * BYTES));
+                buffer.putLong(j * BYTES, a);
+            }
+        }, size);
+        sorted = true;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * 二分探索します ({@link java.util.Arrays#binarySearch(long[], long)} と同じ戻り値)。
+     *
+     * @return 見つかった位置。見つからない場合は {@code -(挿入位置) - 1}
+     * @throws IllegalStateException 昇順に並んでいない場合
+     */
+    public int binarySearch(long value) {
+        if (!sorted) {
+            throw new IllegalStateException("Column is not sorted");
+        }
+        ByteBuffer buffer = storage.buffer();
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long v = buffer.getLong(mid * BYTES);
+            if (v < value) {
+                lo = mid + 1;
+            } else if (v > value) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    public boolean contains(long value) {
+        return binarySearch(value) >= 0;
+    }
+
+    // --- Storage ---
+
+    /**
+     * 確保しているヒープ外の領域のバイト数を返します。
+     */
+    public long capacityInBytes() {
+        return storage.capacity();
+    }
+
+    /**
+     * ファイルへのメモリマップに切り替わっているかを判定します。
+     */
+    public boolean isSpilled() {
+        return storage.isSpilled();
+    }
+
+    /**
+     * 一時ファイルを削除します。以降の操作は {@link IllegalStateException} をスローします。
+     */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    @Override
+    public String toString() {
+        return "LongColumn[size=" + size + (isSpilled() ? ", spilled" : "") + "]";
+    }
+}
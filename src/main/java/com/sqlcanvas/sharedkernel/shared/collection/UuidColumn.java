@@ -0,0 +1,225 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * UUID (および {@code EntityId<UUID>}) の列をヒープ外に保持するコンテナー (バッチ処理で数百万件の ID を扱う場合など)。
+ * <pre>{@code
+ * try (UuidColumn ids = new UuidColumn()) {
+ *     ids.appendAll(userIds);
+ *     ids.sort();
+ *     boolean known = ids.contains(candidate);
+ *     UserId first = ids.get(0, UserId::new);   // ID は読み出すときに生成する
+ * }
+ * }</pre>
+ * <ul>
+ *   <li>値は direct {@link ByteBuffer} に上位・下位 64bit の 16 バイトずつ並べて保持します。
+ *       要素ごとの ID・UUID オブジェクトを持たないため、ヒープ使用量と GC の負荷は件数に比例しません。</li>
+ *   <li>順序は {@link UUID#compareTo} と同じ (上位・下位 64bit を符号付きで比較) です。</li>
+ *   <li>ファイルへの切り替えと {@link #close()} は {@link LongColumn} と同じです。1列の上限は約 2GiB (約 1.3 億件) です。</li>
+ * </ul>
+ * スレッドセーフではありません。
+ */
+public final class UuidColumn implements AutoCloseable {
+
+    private static final int BYTES = 2 * Long.BYTES;
+
+    private final ColumnStorage storage;
+    private int size;
+
+    // 昇順に並んでいるか (追加のたびに更新する)
+    private boolean sorted = true;
+
+    /**
+     * 既定の閾値で生成します (閾値を超えたら一時ディレクトリのファイルに移します)。
+     */
+    public UuidColumn() {
+        this(ColumnStorage.DEFAULT_SPILL_THRESHOLD, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param spillThresholdBytes この大きさを超えたらファイルへのメモリマップに切り替える (0 なら最初から)
+     * @param spillDirectory      一時ファイルを作るディレクトリ
+     */
+    public UuidColumn(long spillThresholdBytes, Path spillDirectory) {
+        this.storage = new ColumnStorage(spillThresholdBytes, spillDirectory);
+    }
+
+    // --- Append ---
+
+    public void append(UUID uuid) {
+        append(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public void append(EntityId<UUID> id) {
+        append(id.value());
+    }
+
+    /**
+     * ID をまとめて追加します (領域の拡張は1回だけ行います)。
+     */
+    public void appendAll(Collection<? extends EntityId<UUID>> ids) {
+        int count = ids.size();
+        storage.ensureCapacity((long) (size + count) * BYTES, size * BYTES);
+        for (EntityId<UUID> id : ids) {
+            append(id.value());
+        }
+    }
+
+    private void append(long msb, long lsb) {
+        ByteBuffer buffer = storage.ensureCapacity((long) (size + 1) * BYTES, size * BYTES);
+        int offset = size * BYTES;
+        if (sorted && size > 0
+                && compare(buffer.getLong(offset - BYTES), buffer.getLong(offset - Long.BYTES), msb, lsb) > 0) {
+            sorted = false;
+        }
+        buffer.putLong(offset, msb);
+        buffer.putLong(offset + Long.BYTES, lsb);
+        size++;
+    }
+
+    // --- Accessors ---
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UUID getUuid(int index) {
+        Objects.checkIndex(index, size);
+        ByteBuffer buffer = storage.buffer();
+        int offset = index * BYTES;
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+    }
+
+    /**
+     * 値を ID として返します。
+     * <pre>{@code
+     * UserId id = column.get(i, UserId::new);
+     * }</pre>
+     */
+    public <ID extends EntityId<UUID>> ID get(int index, Function<UUID, ID> factory) {
+        return factory.apply(getUuid(index));
+    }
+
+    // --- Sort & Search ---
+
+    /**
+     * 昇順にその場でソートします。
+     */
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+        ByteBuffer buffer = storage.buffer();
+        ColumnSort.sort(new ColumnSort.Sortable() {
+            @Override
+            public int compare(int i, int j) {
+                int a = i * BYTES;
+                int b = j * BYTES;
+                return UuidColumn.compare(buffer.getLong(a), buffer.getLong(a + Long.BYTES),
+                        buffer.getLong(b), buffer.getLong(b + Long.BYTES));
+            }
+
+            @Override
+            public void swap(int i, int j) {
+                int a = i * BYTES;
+                int b = j * BYTES;
+                long msb = buffer.getLong(a);
+                long lsb = buffer.getLong(a + Long.BYTES);
+                buffer.putLong(a, buffer.getLong(b));
+                buffer.putLong(a + Long.BYTES, buffer.getLong(b + Long.BYTES));
+                buffer.putLong(b, msb);
+                buffer.putLong(b + Long.BYTES, lsb);
+            }
+        }, size);
+        sorted = true;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * 二分探索します ({@link java.util.Collections#binarySearch} と同じ戻り値)。
+     *
+     * @return 見つかった位置。見つからない場合は {@code -(挿入位置) - 1}
+     * @throws IllegalStateException 昇順に並んでいない場合
+     */
+    public int binarySearch(UUID uuid) {
+        if (!sorted) {
+            throw new IllegalStateException("Column is not sorted");
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        ByteBuffer buffer = storage.buffer();
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int offset = mid * BYTES;
+            int c = compare(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES), msb, lsb);
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    public boolean contains(UUID uuid) {
+        return binarySearch(uuid) >= 0;
+    }
+
+    public boolean contains(EntityId<UUID> id) {
+        return contains(id.value());
+    }
+
+    // UUID#compareTo と同じ順序
+    private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int c = Long.compare(msb1, msb2);
+        return c != 0 ? c : Long.compare(lsb1, lsb2);
+    }
+
+    // --- Storage ---
+
+    /**
+     * 確保しているヒープ外の領域のバイト数を返します。
+     */
+    public long capacityInBytes() {
+        return storage.capacity();
+    }
+
+    /**
+     * ファイルへのメモリマップに切り替わっているかを判定します。
+     */
+    public boolean isSpilled() {
+        return storage.isSpilled();
+    }
+
+    /**
+     * 一時ファイルを削除します。以降の操作は {@link IllegalStateException} をスローします。
+     */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    @Override
+    public String toString() {
+        return "UuidColumn[size=" + size + (isSpilled() ? ", spilled" : "") + "]";
+    }
+}
@@ -26,10 +26,11 @@ public abstract class AggregateRoot<ID> {
     @Id
     protected ID id;
 
-    // ドメインイベントの一時保管場所
+    // ドメインイベントの一時保管場所 (最初の registerEvent まで null。読み込むだけの集約ではリストを確保しない)
     // @Transient: このフィールドはDBのカラムとして保存しないことを明示
     @Transient
-    private final List<Object> domainEvents = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private List<Object> domainEvents;
 
     protected AggregateRoot(ID id) {
         this.id = id;
@@ -43,16 +44,33 @@ public abstract class AggregateRoot<ID> {
      * </p>
      */
     protected void registerEvent(Object event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>();
+        }
         this.domainEvents.add(event);
     }
 
+    /**
+     * 溜まっているイベントを返す (読み取り専用のビュー。クリアはしない)
+     */
+    public List<Object> getDomainEvents() {
+        return domainEvents == null ? List.of() : Collections.unmodifiableList(domainEvents);
+    }
+
     /**
      * 溜まったイベントを取り出してクリアする
      * (通常は Repository の save 処理前後や、ApplicationService の最後で呼び出す)
+     * <p>
+     * 溜めていたリストをコピーせずにそのまま渡し、次のイベントは新しいリストに溜めます。
+     * イベントがない場合は共有の空リストを返します。
+     * </p>
      */
     public List<Object> pullDomainEvents() {
-        var events = new ArrayList<>(domainEvents);
-        domainEvents.clear();
+        List<Object> events = domainEvents;
+        if (events == null) {
+            return List.of();
+        }
+        domainEvents = null;
         return Collections.unmodifiableList(events);
     }
 }
\ No newline at end of file
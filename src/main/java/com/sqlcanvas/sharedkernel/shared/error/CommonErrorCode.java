@@ -21,7 +21,8 @@ public enum CommonErrorCode implements ErrorCode {
 
     // --- 500 Server Errors ---
     SYSTEM_ERROR("SYS-500", "システムエラーが発生しました。", HttpStatus.INTERNAL_SERVER_ERROR),
-    SERVICE_UNAVAILABLE("SYS-503", "現在サービスを利用できません。", HttpStatus.SERVICE_UNAVAILABLE);
+    SERVICE_UNAVAILABLE("SYS-503", "現在サービスを利用できません。", HttpStatus.SERVICE_UNAVAILABLE),
+    GATEWAY_TIMEOUT("SYS-504", "外部サービスの応答がタイムアウトしました。", HttpStatus.GATEWAY_TIMEOUT);
 
     private final String code;
 
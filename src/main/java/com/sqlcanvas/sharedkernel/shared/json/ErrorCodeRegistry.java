@@ -0,0 +1,30 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * コード文字列からエラーコードを解決する表 (生成後は読み取りのみ)。
+ */
+final class ErrorCodeRegistry {
+
+    private final Map<String, ErrorCode> byCode = new HashMap<>();
+
+    ErrorCodeRegistry(ErrorCode... errorCodes) {
+        for (CommonErrorCode code : CommonErrorCode.values()) {
+            byCode.put(code.getCode(), code);
+        }
+        // アプリケーション固有のコードを優先する
+        for (ErrorCode code : errorCodes) {
+            byCode.put(code.getCode(), code);
+        }
+    }
+
+    ErrorCode resolve(String code, String message) {
+        ErrorCode errorCode = byCode.get(code);
+        return errorCode != null ? errorCode : new UnregisteredErrorCode(code, message);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.ErrorDetail;
+import com.sqlcanvas.sharedkernel.shared.result.FailureReason;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JSON の読み込み結果を例外ではなく {@link Result} で返すユーティリティ。
+ * <ul>
+ *   <li>Value Object の検証失敗 ({@link ValueObjectJsonException}) は、元の Failure のエラーコードとメッセージに
+ *       項目パス (例: {@code "customer.email"}、{@code "lines[2].amount"}) を付けた明細として返します。</li>
+ *   <li>JSON の構文・型の不一致は {@link CommonErrorCode#INVALID_PARAMETER} の Failure になります。</li>
+ * </ul>
+ */
+public final class JsonResults {
+
+    private JsonResults() {}
+
+    public static <T> Result<T> read(ObjectMapper mapper, String json, Class<T> type) {
+        return read(mapper.readerFor(type), json);
+    }
+
+    public static <T> Result<T> read(ObjectMapper mapper, byte[] json, Class<T> type) {
+        return read(mapper.readerFor(type), json);
+    }
+
+    public static <T> Result<T> read(ObjectMapper mapper, String json, TypeReference<T> type) {
+        return read(mapper.readerFor(type), json);
+    }
+
+    /**
+     * 型を指定済みの {@link ObjectReader} で読み込みます (同じ型を繰り返し読む場合はこちらを使います)。
+     */
+    public static <T> Result<T> read(ObjectReader reader, String json) {
+        try {
+            return Result.success(reader.readValue(json));
+        } catch (IOException e) {
+            return toFailure(e);
+        }
+    }
+
+    public static <T> Result<T> read(ObjectReader reader, byte[] json) {
+        try {
+            return Result.success(reader.readValue(json));
+        } catch (IOException e) {
+            return toFailure(e);
+        }
+    }
+
+    /**
+     * 読み込み時の例外を Failure に変換します。
+     */
+    public static <T> Result<T> toFailure(IOException e) {
+        if (e instanceof ValueObjectJsonException voe) {
+            Result.Failure<?> failure = voe.failure();
+            String field = path(voe.getPath());
+            if (field == null) {
+                return Result.failureWith(failure.errorCode(), failure.reason());
+            }
+            return Result.failureWith(failure.errorCode(),
+                    FailureReason.of(List.of(new ErrorDetail(failure.errorCode(), field, failure.reason()))));
+        }
+        if (e instanceof JsonProcessingException jpe) {
+            String field = e instanceof JsonMappingException jme ? path(jme.getPath()) : null;
+            String message = jpe.getOriginalMessage();
+            return field == null
+                    ? Result.failure(CommonErrorCode.INVALID_PARAMETER, "JSONの形式が不正です: {}", message)
+                    : Result.failure(CommonErrorCode.INVALID_PARAMETER,
+                            "JSONの形式が不正です: {} (項目: {})", message, field);
+        }
+        return Result.failure(CommonErrorCode.SYSTEM_ERROR, "JSONの読み込みに失敗しました: {}", e.getMessage());
+    }
+
+    // 例: [customer, email] → "customer.email"、[lines, 2, amount] → "lines[2].amount"。パスがない場合は null
+    private static String path(List<JsonMappingException.Reference> references) {
+        StringBuilder sb = new StringBuilder();
+        for (JsonMappingException.Reference ref : references) {
+            if (ref.getFieldName() != null) {
+                if (!sb.isEmpty()) {
+                    sb.append('.');
+                }
+                sb.append(ref.getFieldName());
+            } else if (ref.getIndex() >= 0) {
+                sb.append('[').append(ref.getIndex()).append(']');
+            }
+        }
+        return sb.isEmpty() ? null : sb.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.ErrorDetail;
+import com.sqlcanvas.sharedkernel.shared.result.FailureReason;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ResultSerializer} の形の JSON を {@link Result} に戻すデシリアライザー。
+ * 成功値の型は宣言された型 ({@code Result<Money>} なら {@code Money}) から決まります。
+ */
+final class ResultDeserializer extends StdDeserializer<Result<?>> implements ContextualDeserializer {
+
+    private final ErrorCodeRegistry errorCodes;
+
+    // 成功値のデシリアライザー (文脈が決まるまでは null)
+    private final JsonDeserializer<Object> valueDeserializer;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ResultDeserializer(ErrorCodeRegistry errorCodes, JsonDeserializer<Object> valueDeserializer) {
+        super((Class) Result.class);
+        this.errorCodes = errorCodes;
+        this.valueDeserializer = valueDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JavaType type = property != null ? property.getType() : ctxt.getContextualType();
+        JavaType valueType = type != null && type.containedTypeCount() > 0
+                ? type.containedType(0)
+                : ctxt.constructType(Object.class);
+        return new ResultDeserializer(errorCodes, ctxt.findContextualValueDeserializer(valueType, property));
+    }
+
+    @Override
+    public Result<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (Result<?>) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        Result<?> result = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            if (result != null) {
+                return ctxt.reportInputMismatch(this, "Result must have exactly one of 'value' or 'error'");
+            }
+            switch (field) {
+                case "value" -> result = Result.success(valueToken == JsonToken.VALUE_NULL
+                        ? valueDeserializer.getNullValue(ctxt)
+                        : valueDeserializer.deserialize(p, ctxt));
+                case "error" -> result = readFailure(p, ctxt);
+                default -> {
+                    return ctxt.reportInputMismatch(this, "Unexpected property '%s' for Result", field);
+                }
+            }
+        }
+        if (result == null) {
+            return ctxt.reportInputMismatch(this, "Result must have 'value' or 'error'");
+        }
+        return result;
+    }
+
+    private Result<?> readFailure(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (Result<?>) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        String code = null;
+        String message = null;
+        List<ErrorDetail> details = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "code" -> code = _parseString(p, ctxt);
+                case "message" -> message = _parseString(p, ctxt);
+                case "errors" -> details = readDetails(p, ctxt);
+                default -> p.skipChildren();
+            }
+        }
+        if (code == null || message == null) {
+            return ctxt.reportInputMismatch(this, "Result error requires 'code' and 'message'");
+        }
+        ErrorCode errorCode = errorCodes.resolve(code, message);
+        FailureReason reason = details != null && !details.isEmpty()
+                ? FailureReason.of(details)
+                : FailureReason.of(message);
+        return Result.failureWith(errorCode, reason);
+    }
+
+    private List<ErrorDetail> readDetails(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.reportInputMismatch(this, "Result 'errors' must be an array");
+        }
+        List<ErrorDetail> details = new ArrayList<>();
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            String code = null;
+            String field = null;
+            String message = null;
+            for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "code" -> code = _parseString(p, ctxt);
+                    case "field" -> field = _parseString(p, ctxt);
+                    case "message" -> message = _parseString(p, ctxt);
+                    default -> p.skipChildren();
+                }
+            }
+            if (code == null || message == null) {
+                return ctxt.reportInputMismatch(this, "Result error detail requires 'code' and 'message'");
+            }
+            details.add(new ErrorDetail(errorCodes.resolve(code, message), field, message));
+        }
+        return details;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sqlcanvas.sharedkernel.shared.result.ErrorDetail;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.io.IOException;
+
+/**
+ * {@link Result} のシリアライザー。
+ * <pre>{@code
+ * {"value": ...}
+ * {"error": {"code": "SYS-400", "message": "...", "errors": [{"code": "SYS-400", "field": "email", "message": "..."}]}}
+ * }</pre>
+ * {@code errors} は複数エラーの場合のみ出力します (単一エラーの明細は code / message と同じ内容のため)。
+ */
+final class ResultSerializer extends StdSerializer<Result<?>> {
+
+    static final SerializedString ERROR = new SerializedString("error");
+    static final SerializedString CODE = new SerializedString("code");
+    static final SerializedString FIELD = new SerializedString("field");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString ERRORS = new SerializedString("errors");
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ResultSerializer() {
+        super((Class) Result.class);
+    }
+
+    @Override
+    public void serialize(Result<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        switch (value) {
+            case Result.Success<?>(var v) -> {
+                gen.writeFieldName(ValueObjectSerializers.VALUE);
+                provider.defaultSerializeValue(v, gen);
+            }
+            case Result.Failure<?> failure -> {
+                gen.writeFieldName(ERROR);
+                writeFailure(failure, gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeFailure(Result.Failure<?> failure, JsonGenerator gen) throws IOException {
+        var reason = failure.reason();
+        gen.writeStartObject();
+        gen.writeFieldName(CODE);
+        gen.writeString(failure.errorCode().getCode());
+        gen.writeFieldName(MESSAGE);
+        // ErrorResponse と同じく、複数エラーの代表メッセージはエラーコードの既定メッセージ
+        gen.writeString(reason.hasDetails() ? failure.errorCode().getDefaultMessage() : reason.message());
+        if (reason.hasDetails()) {
+            gen.writeFieldName(ERRORS);
+            gen.writeStartArray();
+            for (ErrorDetail detail : reason.details()) {
+                gen.writeStartObject();
+                gen.writeFieldName(CODE);
+                gen.writeString(detail.code());
+                if (detail.field() != null) {
+                    gen.writeFieldName(FIELD);
+                    gen.writeString(detail.field());
+                }
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(detail.message());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,73 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyMoney;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+
+/**
+ * Shared Kernel の Value Object と {@link Result} 用の Jackson モジュール。
+ * <pre>{@code
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new SharedKernelModule(OrderErrorCode.values()));
+ * Result<Order> order = JsonResults.read(mapper, body, Order.class);   // 不正な値は Failure になる
+ * }</pre>
+ * <ul>
+ *   <li>各 Value Object をリフレクションを使わないストリーミング処理で読み書きします。
+ *       JSON の形は既定のマッピング (レコードのコンポーネント名) と同じです (例: {@code {"amount": 1000}})。
+ *       ただし {@link Money} の派生プロパティ {@code zero} は出力しません (読み込み時は無視します)。
+ *       読み込み時は値だけのスカラー (例: {@code 1000}) も受け付けます。</li>
+ *   <li>読み込みは各 Value Object の {@code of} を通して検証し、Failure は {@link ValueObjectJsonException} として報告します。
+ *       {@link JsonResults} を使うと、その Failure をそのまま (項目パス付きで) 受け取れます。</li>
+ *   <li>{@link CurrencyMoney} は通貨コード付きの {@code {"currency": "USD", "minorUnits": 1234}}、
+ *       {@link CurrencyUnit} は通貨コードの文字列で表します (プロセス内の通貨番号は出力しません)。</li>
+ *   <li>{@link Result} は成功を {@code {"value": ...}}、失敗を {@code {"error": {"code": ..., "message": ..., "errors": [...]}}} で表します。
+ *       失敗を読み込む際のエラーコードは {@link com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode} と
+ *       コンストラクタで渡したコードから解決し、未知のコードは {@link UnregisteredErrorCode} になります。</li>
+ * </ul>
+ */
+public final class SharedKernelModule extends SimpleModule {
+
+    /**
+     * @param errorCodes Result の失敗を読み込む際に解決するアプリケーション固有のエラーコード
+     */
+    public SharedKernelModule(ErrorCode... errorCodes) {
+        super("SharedKernelModule", Version.unknownVersion());
+
+        addSerializer(Money.class, new ValueObjectSerializers.MoneySerializer());
+        addSerializer(PositiveInt.class, new ValueObjectSerializers.PositiveIntSerializer());
+        addSerializer(NonNegativeLong.class, new ValueObjectSerializers.NonNegativeLongSerializer());
+        addSerializer(PositiveBigDecimal.class, new ValueObjectSerializers.PositiveBigDecimalSerializer());
+        addSerializer(Email.class, new ValueObjectSerializers.EmailSerializer());
+        addSerializer(PhoneNumber.class, new ValueObjectSerializers.PhoneNumberSerializer());
+        addSerializer(PostalCode.class, new ValueObjectSerializers.PostalCodeSerializer());
+        addSerializer(RequestId.class, new ValueObjectSerializers.RequestIdSerializer());
+        addSerializer(CurrencyUnit.class, new ValueObjectSerializers.CurrencyUnitSerializer());
+        addSerializer(CurrencyMoney.class, new ValueObjectSerializers.CurrencyMoneySerializer());
+
+        addDeserializer(Money.class, new ValueObjectDeserializers.MoneyDeserializer());
+        addDeserializer(PositiveInt.class, new ValueObjectDeserializers.PositiveIntDeserializer());
+        addDeserializer(NonNegativeLong.class, new ValueObjectDeserializers.NonNegativeLongDeserializer());
+        addDeserializer(PositiveBigDecimal.class, new ValueObjectDeserializers.PositiveBigDecimalDeserializer());
+        addDeserializer(Email.class, new ValueObjectDeserializers.EmailDeserializer());
+        addDeserializer(PhoneNumber.class, new ValueObjectDeserializers.PhoneNumberDeserializer());
+        addDeserializer(PostalCode.class, new ValueObjectDeserializers.PostalCodeDeserializer());
+        addDeserializer(RequestId.class, new ValueObjectDeserializers.RequestIdDeserializer());
+        addDeserializer(CurrencyUnit.class, new ValueObjectDeserializers.CurrencyUnitDeserializer());
+        addDeserializer(CurrencyMoney.class, new ValueObjectDeserializers.CurrencyMoneyDeserializer());
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Class<Result<?>> resultType = (Class) Result.class;
+        addSerializer(resultType, new ResultSerializer());
+        addDeserializer(resultType, new ResultDeserializer(new ErrorCodeRegistry(errorCodes), null));
+    }
+}
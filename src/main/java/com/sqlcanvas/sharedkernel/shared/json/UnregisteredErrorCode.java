@@ -0,0 +1,32 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.io.Serializable;
+
+/**
+ * JSON から読み込んだ失敗のうち、登録されていないエラーコード。
+ * コード文字列と受け取ったメッセージだけを保持します (ステータスは 500 として扱います)。
+ * {@link com.sqlcanvas.sharedkernel.shared.result.ResultFailureException} とともに直列化できるよう {@link Serializable} です。
+ *
+ * @param code           エラーコード (例: "ORD-001")
+ * @param defaultMessage 受け取ったメッセージ
+ */
+public record UnregisteredErrorCode(String code, String defaultMessage) implements ErrorCode, Serializable {
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getDefaultMessage() {
+        return defaultMessage;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,245 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyMoney;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+
+/**
+ * Value Object のデシリアライザー。
+ * 値は各 Value Object の {@code of} (文字列の場合はパーサーの文字バッファ上のビューを渡す {@code ofChars}) で検証し、
+ * Failure は {@link ValueObjectJsonException} としてスローします。
+ */
+final class ValueObjectDeserializers {
+
+    private ValueObjectDeserializers() {}
+
+    static <T> T unwrap(JsonParser p, Result<T> result) throws ValueObjectJsonException {
+        return switch (result) {
+            case Result.Success<T>(var value) -> value;
+            case Result.Failure<T> failure -> throw new ValueObjectJsonException(p, failure);
+        };
+    }
+
+    // {"<name>": <値>} または <値> の形を読むデシリアライザーの共通部分
+    abstract static class SingleFieldDeserializer<T> extends StdDeserializer<T> {
+
+        private final String name;
+
+        // 既定のマッピングが出力する派生プロパティ (読み込み時は無視する)
+        private final String ignored;
+
+        SingleFieldDeserializer(Class<T> type, String name) {
+            this(type, name, null);
+        }
+
+        SingleFieldDeserializer(Class<T> type, String name, String ignored) {
+            super(type);
+            this.name = name;
+            this.ignored = ignored;
+        }
+
+        @Override
+        public final T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken() && !p.hasToken(JsonToken.FIELD_NAME)) {
+                return unwrap(p, read(p, ctxt));
+            }
+            JsonToken token = p.isExpectedStartObjectToken() ? p.nextToken() : p.currentToken();
+            Result<T> result = null;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+                if (field.equals(name)) {
+                    result = read(p, ctxt);
+                } else if (field.equals(ignored)) {
+                    p.skipChildren();
+                } else {
+                    return ctxt.reportInputMismatch(this, "Unexpected property '%s' for %s (expected '%s')",
+                            field, handledType().getSimpleName(), name);
+                }
+            }
+            if (result == null) {
+                return ctxt.reportInputMismatch(this, "Missing property '%s' for %s", name, handledType().getSimpleName());
+            }
+            return unwrap(p, result);
+        }
+
+        // 現在のトークン (値) を読んで検証する
+        abstract Result<T> read(JsonParser p, DeserializationContext ctxt) throws IOException;
+
+        // 現在の文字列トークンを、パーサーの文字バッファ上のビューとして返す (String を生成しない)
+        final CharSequence text(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return ctxt.reportInputMismatch(this, "Expected a string for %s but was %s",
+                        handledType().getSimpleName(), p.currentToken());
+            }
+            return CharBuffer.wrap(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+    }
+
+    static final class MoneyDeserializer extends SingleFieldDeserializer<Money> {
+
+        MoneyDeserializer() {
+            super(Money.class, "amount", "zero");
+        }
+
+        @Override
+        Result<Money> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return Money.of(_parseLongPrimitive(p, ctxt));
+        }
+    }
+
+    static final class PositiveIntDeserializer extends SingleFieldDeserializer<PositiveInt> {
+
+        PositiveIntDeserializer() {
+            super(PositiveInt.class, "value");
+        }
+
+        @Override
+        Result<PositiveInt> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return PositiveInt.of(_parseIntPrimitive(p, ctxt));
+        }
+    }
+
+    static final class NonNegativeLongDeserializer extends SingleFieldDeserializer<NonNegativeLong> {
+
+        NonNegativeLongDeserializer() {
+            super(NonNegativeLong.class, "value");
+        }
+
+        @Override
+        Result<NonNegativeLong> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return NonNegativeLong.of(_parseLongPrimitive(p, ctxt));
+        }
+    }
+
+    static final class PositiveBigDecimalDeserializer extends SingleFieldDeserializer<PositiveBigDecimal> {
+
+        PositiveBigDecimalDeserializer() {
+            super(PositiveBigDecimal.class, "value");
+        }
+
+        @Override
+        Result<PositiveBigDecimal> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BigDecimal value = p.hasToken(JsonToken.VALUE_NUMBER_INT) || p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)
+                    ? p.getDecimalValue()
+                    : ctxt.readValue(p, BigDecimal.class);
+            return PositiveBigDecimal.of(value);
+        }
+    }
+
+    static final class EmailDeserializer extends SingleFieldDeserializer<Email> {
+
+        EmailDeserializer() {
+            super(Email.class, "value");
+        }
+
+        @Override
+        Result<Email> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return Email.ofChars(text(p, ctxt));
+        }
+    }
+
+    static final class PhoneNumberDeserializer extends SingleFieldDeserializer<PhoneNumber> {
+
+        PhoneNumberDeserializer() {
+            super(PhoneNumber.class, "value");
+        }
+
+        @Override
+        Result<PhoneNumber> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return PhoneNumber.ofChars(text(p, ctxt));
+        }
+    }
+
+    static final class PostalCodeDeserializer extends SingleFieldDeserializer<PostalCode> {
+
+        PostalCodeDeserializer() {
+            super(PostalCode.class, "value");
+        }
+
+        @Override
+        Result<PostalCode> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return PostalCode.ofChars(text(p, ctxt));
+        }
+    }
+
+    /**
+     * 標準形式の UUID は文字バッファから直接上位・下位 64bit に解析します ({@link RequestId#fromChars})。
+     */
+    static final class RequestIdDeserializer extends SingleFieldDeserializer<RequestId> {
+
+        RequestIdDeserializer() {
+            super(RequestId.class, "value");
+        }
+
+        @Override
+        Result<RequestId> read(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return RequestId.fromChars(text(p, ctxt));
+        }
+    }
+
+    static final class CurrencyUnitDeserializer extends StdDeserializer<CurrencyUnit> {
+
+        CurrencyUnitDeserializer() {
+            super(CurrencyUnit.class);
+        }
+
+        @Override
+        public CurrencyUnit deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return ctxt.reportInputMismatch(this, "Expected a currency code but was %s", p.currentToken());
+            }
+            return unwrap(p, CurrencyUnit.of(p.getText()));
+        }
+    }
+
+    static final class CurrencyMoneyDeserializer extends StdDeserializer<CurrencyMoney> {
+
+        CurrencyMoneyDeserializer() {
+            super(CurrencyMoney.class);
+        }
+
+        @Override
+        public CurrencyMoney deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.isExpectedStartObjectToken() ? p.nextToken() : p.currentToken();
+            String currency = null;
+            long minorUnits = 0;
+            boolean hasMinorUnits = false;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "currency" -> currency = _parseString(p, ctxt);
+                    case "minorUnits" -> {
+                        minorUnits = _parseLongPrimitive(p, ctxt);
+                        hasMinorUnits = true;
+                    }
+                    default -> {
+                        return ctxt.reportInputMismatch(this, "Unexpected property '%s' for CurrencyMoney", field);
+                    }
+                }
+            }
+            if (currency == null || !hasMinorUnits) {
+                return ctxt.reportInputMismatch(this, "CurrencyMoney requires 'currency' and 'minorUnits'");
+            }
+            long amount = minorUnits;
+            return unwrap(p, CurrencyUnit.of(currency).flatMap(unit -> CurrencyMoney.ofMinor(amount, unit)));
+        }
+    }
+}
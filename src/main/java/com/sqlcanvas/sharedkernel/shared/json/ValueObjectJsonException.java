@@ -0,0 +1,28 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.io.Serial;
+
+/**
+ * JSON から読み込んだ値が Value Object の検証に失敗したことを表す例外。
+ * 検証結果の {@link Result.Failure} を保持します ({@link JsonResults} はこれを Result に戻します)。
+ */
+public class ValueObjectJsonException extends JsonMappingException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient Result.Failure<?> failure;
+
+    ValueObjectJsonException(JsonParser parser, Result.Failure<?> failure) {
+        super(parser, failure.message());
+        this.failure = failure;
+    }
+
+    public Result.Failure<?> failure() {
+        return failure;
+    }
+}
@@ -0,0 +1,207 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyMoney;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Value Object のシリアライザー。
+ * フィールド名はエンコード済みの {@link SerializedString} を使い、値は型に応じたプリミティブで直接書き出します。
+ */
+final class ValueObjectSerializers {
+
+    static final SerializedString VALUE = new SerializedString("value");
+    static final SerializedString AMOUNT = new SerializedString("amount");
+    static final SerializedString CURRENCY = new SerializedString("currency");
+    static final SerializedString MINOR_UNITS = new SerializedString("minorUnits");
+
+    private ValueObjectSerializers() {}
+
+    // {"<name>": <値>} の形で書き出すシリアライザーの共通部分
+    abstract static class SingleFieldSerializer<T> extends StdSerializer<T> {
+
+        private final SerializableString name;
+
+        SingleFieldSerializer(Class<T> type, SerializableString name) {
+            super(type);
+            this.name = name;
+        }
+
+        @Override
+        public final void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(name);
+            writeValue(value, gen);
+            gen.writeEndObject();
+        }
+
+        abstract void writeValue(T value, JsonGenerator gen) throws IOException;
+    }
+
+    static final class MoneySerializer extends SingleFieldSerializer<Money> {
+
+        MoneySerializer() {
+            super(Money.class, AMOUNT);
+        }
+
+        @Override
+        void writeValue(Money value, JsonGenerator gen) throws IOException {
+            gen.writeNumber(value.amount());
+        }
+    }
+
+    static final class PositiveIntSerializer extends SingleFieldSerializer<PositiveInt> {
+
+        PositiveIntSerializer() {
+            super(PositiveInt.class, VALUE);
+        }
+
+        @Override
+        void writeValue(PositiveInt value, JsonGenerator gen) throws IOException {
+            gen.writeNumber(value.value());
+        }
+    }
+
+    static final class NonNegativeLongSerializer extends SingleFieldSerializer<NonNegativeLong> {
+
+        NonNegativeLongSerializer() {
+            super(NonNegativeLong.class, VALUE);
+        }
+
+        @Override
+        void writeValue(NonNegativeLong value, JsonGenerator gen) throws IOException {
+            gen.writeNumber(value.value());
+        }
+    }
+
+    static final class PositiveBigDecimalSerializer extends SingleFieldSerializer<PositiveBigDecimal> {
+
+        PositiveBigDecimalSerializer() {
+            super(PositiveBigDecimal.class, VALUE);
+        }
+
+        @Override
+        void writeValue(PositiveBigDecimal value, JsonGenerator gen) throws IOException {
+            gen.writeNumber(value.value());
+        }
+    }
+
+    static final class EmailSerializer extends SingleFieldSerializer<Email> {
+
+        EmailSerializer() {
+            super(Email.class, VALUE);
+        }
+
+        @Override
+        void writeValue(Email value, JsonGenerator gen) throws IOException {
+            gen.writeString(value.value());
+        }
+    }
+
+    static final class PhoneNumberSerializer extends SingleFieldSerializer<PhoneNumber> {
+
+        PhoneNumberSerializer() {
+            super(PhoneNumber.class, VALUE);
+        }
+
+        @Override
+        void writeValue(PhoneNumber value, JsonGenerator gen) throws IOException {
+            gen.writeString(value.value());
+        }
+    }
+
+    static final class PostalCodeSerializer extends SingleFieldSerializer<PostalCode> {
+
+        PostalCodeSerializer() {
+            super(PostalCode.class, VALUE);
+        }
+
+        @Override
+        void writeValue(PostalCode value, JsonGenerator gen) throws IOException {
+            gen.writeString(value.value());
+        }
+    }
+
+    /**
+     * UUID の上位・下位 64bit から直接 16進表記の文字を組み立てて書き出します (String を経由しません)。
+     */
+    static final class RequestIdSerializer extends SingleFieldSerializer<RequestId> {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        RequestIdSerializer() {
+            super(RequestId.class, VALUE);
+        }
+
+        @Override
+        void writeValue(RequestId value, JsonGenerator gen) throws IOException {
+            UUID uuid = value.value();
+            char[] chars = new char[36];
+            long msb = uuid.getMostSignificantBits();
+            long lsb = uuid.getLeastSignificantBits();
+            // 8-4-4-4-12
+            writeHex(chars, 0, msb >>> 32, 8);
+            chars[8] = '-';
+            writeHex(chars, 9, msb >>> 16, 4);
+            chars[13] = '-';
+            writeHex(chars, 14, msb, 4);
+            chars[18] = '-';
+            writeHex(chars, 19, lsb >>> 48, 4);
+            chars[23] = '-';
+            writeHex(chars, 24, lsb, 12);
+            gen.writeString(chars, 0, chars.length);
+        }
+
+        // value の下位 digits 桁を16進で書き込む
+        private static void writeHex(char[] chars, int offset, long value, int digits) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                chars[i] = HEX[(int) value & 0xF];
+                value >>>= 4;
+            }
+        }
+    }
+
+    static final class CurrencyUnitSerializer extends StdSerializer<CurrencyUnit> {
+
+        CurrencyUnitSerializer() {
+            super(CurrencyUnit.class);
+        }
+
+        @Override
+        public void serialize(CurrencyUnit value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.code());
+        }
+    }
+
+    static final class CurrencyMoneySerializer extends StdSerializer<CurrencyMoney> {
+
+        CurrencyMoneySerializer() {
+            super(CurrencyMoney.class);
+        }
+
+        @Override
+        public void serialize(CurrencyMoney value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CURRENCY);
+            gen.writeString(value.currency().code());
+            gen.writeFieldName(MINOR_UNITS);
+            gen.writeNumber(value.minorUnits());
+            gen.writeEndObject();
+        }
+    }
+}
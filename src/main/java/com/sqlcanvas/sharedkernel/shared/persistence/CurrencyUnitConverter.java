@@ -0,0 +1,22 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link CurrencyUnit} ⇔ {@code char(3)} (通貨コード)。プロセス内の通貨番号は保存しません。
+ */
+@Converter(autoApply = true)
+public class CurrencyUnitConverter implements AttributeConverter<CurrencyUnit, String> {
+
+    @Override
+    public String convertToDatabaseColumn(CurrencyUnit attribute) {
+        return attribute == null ? null : attribute.code();
+    }
+
+    @Override
+    public CurrencyUnit convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : CurrencyUnit.of(dbData).orElseThrow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link Email} ⇔ {@code varchar}。DB の値は保存時に検証済みのため、読み込み時は形式を再検証しません。
+ */
+@Converter(autoApply = true)
+public class EmailConverter implements AttributeConverter<Email, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Email attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public Email convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : new Email(dbData);
+    }
+}
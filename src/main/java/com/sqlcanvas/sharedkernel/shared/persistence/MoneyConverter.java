@@ -0,0 +1,22 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link Money} ⇔ {@code bigint}。読み込みは小さな金額のキャッシュ ({@link Money#valueOf(long)}) を使います。
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.amount();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : Money.valueOf(dbData);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link NonNegativeLong} ⇔ {@code bigint}。
+ */
+@Converter(autoApply = true)
+public class NonNegativeLongConverter implements AttributeConverter<NonNegativeLong, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(NonNegativeLong attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public NonNegativeLong convertToEntityAttribute(Long dbData) {
+        return dbData == null ? null : NonNegativeLong.valueOf(dbData);
+    }
+}
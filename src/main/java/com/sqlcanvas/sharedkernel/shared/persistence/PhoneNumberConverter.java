@@ -0,0 +1,23 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link PhoneNumber} ⇔ {@code varchar} (入力どおりのハイフン位置で保存します)。
+ * 読み込み時は形式を再検証しません (書式に合わない既存データは {@link PhoneNumber#isWellFormed()} が false になります)。
+ */
+@Converter(autoApply = true)
+public class PhoneNumberConverter implements AttributeConverter<PhoneNumber, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PhoneNumber attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public PhoneNumber convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : new PhoneNumber(dbData);
+    }
+}
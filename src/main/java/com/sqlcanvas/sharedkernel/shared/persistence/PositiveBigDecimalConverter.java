@@ -0,0 +1,24 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link PositiveBigDecimal} ⇔ {@code numeric}。
+ */
+@Converter(autoApply = true)
+public class PositiveBigDecimalConverter implements AttributeConverter<PositiveBigDecimal, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(PositiveBigDecimal attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public PositiveBigDecimal convertToEntityAttribute(BigDecimal dbData) {
+        return dbData == null ? null : new PositiveBigDecimal(dbData);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link PositiveInt} ⇔ {@code integer}。
+ */
+@Converter(autoApply = true)
+public class PositiveIntConverter implements AttributeConverter<PositiveInt, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(PositiveInt attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public PositiveInt convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : PositiveInt.valueOf(dbData);
+    }
+}
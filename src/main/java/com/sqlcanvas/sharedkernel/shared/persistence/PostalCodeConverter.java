@@ -0,0 +1,23 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link PostalCode} ⇔ {@code varchar} ("123-4567" の形式)。
+ * 読み込み時は形式を再検証しません (書式に合わない既存データは {@link PostalCode#isWellFormed()} が false になります)。
+ */
+@Converter(autoApply = true)
+public class PostalCodeConverter implements AttributeConverter<PostalCode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PostalCode attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public PostalCode convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : new PostalCode(dbData);
+    }
+}
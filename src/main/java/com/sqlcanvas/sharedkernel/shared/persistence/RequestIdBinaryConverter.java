@@ -0,0 +1,26 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link RequestId} ⇔ {@code binary(16)} (MySQL など UUID 型のない DB 用)。
+ * <p>
+ * 自動適用はしないため、{@code @Convert(converter = RequestIdBinaryConverter.class)} で指定します。
+ * UUID v7 の上位ビットは時刻なので、バイト順のままでもインデックスは挿入順に近い順序になります。
+ * </p>
+ */
+@Converter
+public class RequestIdBinaryConverter implements AttributeConverter<RequestId, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(RequestId attribute) {
+        return attribute == null ? null : UuidBytes.toBytes(attribute.value());
+    }
+
+    @Override
+    public RequestId convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : new RequestId(UuidBytes.fromBytes(dbData));
+    }
+}
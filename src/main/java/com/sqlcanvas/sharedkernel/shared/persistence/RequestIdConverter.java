@@ -0,0 +1,28 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * {@link RequestId} ⇔ {@link UUID}。
+ * <p>
+ * UUID 型のまま JDBC に渡すため、ネイティブの UUID 型を持つ DB (PostgreSQL の {@code uuid} など) では文字列を経由しません。
+ * UUID 型のない DB で {@code binary(16)} に保存する場合は {@link RequestIdBinaryConverter} を指定してください。
+ * </p>
+ */
+@Converter(autoApply = true)
+public class RequestIdConverter implements AttributeConverter<RequestId, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(RequestId attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public RequestId convertToEntityAttribute(UUID dbData) {
+        return dbData == null ? null : new RequestId(dbData);
+    }
+}
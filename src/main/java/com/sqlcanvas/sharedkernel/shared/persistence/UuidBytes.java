@@ -0,0 +1,42 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import java.util.UUID;
+
+/**
+ * UUID ⇔ 16バイト (ビッグエンディアン。{@code binary(16)} カラム用)。
+ */
+final class UuidBytes {
+
+    static final int LENGTH = 16;
+
+    private UuidBytes() {}
+
+    static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[LENGTH];
+        putLong(bytes, 0, uuid.getMostSignificantBits());
+        putLong(bytes, 8, uuid.getLeastSignificantBits());
+        return bytes;
+    }
+
+    static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("UUID column must be 16 bytes: " + bytes.length);
+        }
+        return new UUID(getLong(bytes, 0), getLong(bytes, 8));
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = offset + 7; i >= offset; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import jakarta.persistence.AttributeConverter;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@code EntityId<UUID>} ⇔ {@code binary(16)} のコンバーターの基底クラス (MySQL など UUID 型のない DB 用)。
+ * 使い方は {@link UuidEntityIdConverter} と同じです。
+ *
+ * @param <ID> ID の型
+ */
+public abstract class UuidEntityIdBinaryConverter<ID extends EntityId<UUID>> implements AttributeConverter<ID, byte[]> {
+
+    private final Function<UUID, ID> factory;
+
+    protected UuidEntityIdBinaryConverter(Function<UUID, ID> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(ID attribute) {
+        return attribute == null ? null : UuidBytes.toBytes(attribute.value());
+    }
+
+    @Override
+    public ID convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : factory.apply(UuidBytes.fromBytes(dbData));
+    }
+}
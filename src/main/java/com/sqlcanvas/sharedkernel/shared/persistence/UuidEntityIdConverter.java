@@ -0,0 +1,44 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import jakarta.persistence.AttributeConverter;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@code EntityId<UUID>} ⇔ {@link UUID} のコンバーターの基底クラス。
+ * <p>
+ * JPA はジェネリックなコンバーターを自動適用できないため、ID の型ごとにサブクラスを作ります:
+ * </p>
+ * <pre>{@code
+ * @Converter(autoApply = true)
+ * public class UserIdConverter extends UuidEntityIdConverter<UserId> {
+ *     public UserIdConverter() {
+ *         super(UserId::new);
+ *     }
+ * }
+ * }</pre>
+ * UUID 型のない DB では {@link UuidEntityIdBinaryConverter} を使います。
+ *
+ * @param <ID> ID の型
+ */
+public abstract class UuidEntityIdConverter<ID extends EntityId<UUID>> implements AttributeConverter<ID, UUID> {
+
+    private final Function<UUID, ID> factory;
+
+    protected UuidEntityIdConverter(Function<UUID, ID> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    @Override
+    public UUID convertToDatabaseColumn(ID attribute) {
+        return attribute == null ? null : attribute.value();
+    }
+
+    @Override
+    public ID convertToEntityAttribute(UUID dbData) {
+        return dbData == null ? null : factory.apply(dbData);
+    }
+}
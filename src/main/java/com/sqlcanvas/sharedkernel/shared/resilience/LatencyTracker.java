@@ -0,0 +1,56 @@
+package com.sqlcanvas.sharedkernel.shared.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 直近 N 件の成功レイテンシを保持し、パーセンタイルを求める (ヘッジ判断用)。
+ * <p>
+ * パーセンタイルは一定件数の記録ごとに再計算してキャッシュするため、
+ * 呼び出しのたびにソートは行いません。
+ * </p>
+ */
+final class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples;
+    private final int minSamples;
+
+    private int count;
+    private int next;
+    private int sinceRecompute;
+    private double cachedPercentile = Double.NaN;
+    private long cachedValue = -1;
+
+    LatencyTracker(int window, int minSamples) {
+        this.samples = new long[window];
+        this.minSamples = minSamples;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        sinceRecompute++;
+    }
+
+    /**
+     * 指定パーセンタイルのレイテンシ (ナノ秒) を返します。サンプル不足の場合は -1 です。
+     */
+    synchronized long percentile(double p) {
+        if (count < minSamples) {
+            return -1;
+        }
+        if (cachedValue < 0 || cachedPercentile != p || sinceRecompute >= RECOMPUTE_INTERVAL) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p * count) - 1;
+            cachedValue = sorted[Math.max(0, Math.min(count - 1, index))];
+            cachedPercentile = p;
+            sinceRecompute = 0;
+        }
+        return cachedValue;
+    }
+}
@@ -0,0 +1,347 @@
+package com.sqlcanvas.sharedkernel.shared.resilience;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 遅い外部依存の呼び出しを、リトライ・タイムアウト・ヘッジ付きで実行し、結果を {@link Result} で返すエグゼキューター。
+ * <pre>{@code
+ * Resilient resilient = Resilient.builder()
+ *         .maxAttempts(3)
+ *         .backoff(Duration.ofMillis(50), Duration.ofSeconds(1))
+ *         .attemptTimeout(Duration.ofSeconds(2))
+ *         .hedgeAtPercentile(0.95)
+ *         .build();
+ *
+ * Result<Price> price = resilient.call(() -> priceClient.fetch(itemId));
+ * }</pre>
+ * <ul>
+ *   <li>各試行は仮想スレッド上で実行され、呼び出し側は結果を待つだけです。</li>
+ *   <li>試行がタイムアウトすると {@link CommonErrorCode#GATEWAY_TIMEOUT}、
+ *       例外で終わる・エグゼキューターが実行を受け付けないと {@link CommonErrorCode#SERVICE_UNAVAILABLE} の Failure になります。</li>
+ *   <li>リトライ対象の失敗 (既定: 上記2つ) の場合、ジッター付き指数バックオフで待ってから再試行します。</li>
+ *   <li>ヘッジを有効にすると、試行が過去の成功レイテンシの指定パーセンタイルを超えた時点で
+ *       同じ処理をもう1本並行して開始し、先に成功した方を採用します (テールレイテンシの削減)。</li>
+ * </ul>
+ * <p>
+ * インスタンスはスレッドセーフで、同じ依存先への呼び出しで共有することを想定しています
+ * (ヘッジの判断に使うレイテンシ統計をインスタンス単位で保持するため)。
+ * </p>
+ */
+@Slf4j
+public final class Resilient {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("resilient-", 0).factory();
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long attemptTimeoutNanos;
+    private final double hedgePercentile;
+    private final Predicate<Result.Failure<?>> retryOn;
+    private final Executor executor;
+    private final LatencyTracker latencies;
+
+    private Resilient(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoff.toNanos();
+        this.maxBackoffNanos = builder.maxBackoff.toNanos();
+        this.attemptTimeoutNanos = builder.attemptTimeout.toNanos();
+        this.hedgePercentile = builder.hedgePercentile;
+        this.retryOn = builder.retryOn;
+        this.executor = builder.executor;
+        this.latencies = new LatencyTracker(builder.latencyWindow, builder.minHedgeSamples);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // --- Operations ---
+
+    /**
+     * 処理を実行し、結果を返します。
+     */
+    public <T> Result<T> call(Callable<? extends T> action) {
+        return this.<T>execute(action).result();
+    }
+
+    /**
+     * Result を返す処理を実行します。リトライ対象の Failure が返された場合も再試行します。
+     */
+    public <T> Result<T> callResult(Callable<Result<T>> action) {
+        return executeResult(action).result();
+    }
+
+    /**
+     * 処理を実行し、結果と試行回数を返します。
+     */
+    public <T> Execution<T> execute(Callable<? extends T> action) {
+        Objects.requireNonNull(action);
+        return executeResult(() -> Result.success(action.call()));
+    }
+
+    /**
+     * Result を返す処理を実行し、結果と試行回数を返します。
+     */
+    public <T> Execution<T> executeResult(Callable<Result<T>> action) {
+        Objects.requireNonNull(action);
+        long start = System.nanoTime();
+        int hedges = 0;
+        Result<T> result = null;
+        int attempt = 0;
+        while (attempt < maxAttempts) {
+            attempt++;
+            Attempt<T> outcome = attempt(action);
+            hedges += outcome.hedges();
+            result = outcome.result();
+            if (!(result instanceof Result.Failure<T> f) || !retryOn.test(f)) {
+                break;
+            }
+            if (attempt < maxAttempts && !sleepBackoff(attempt)) {
+                result = Result.failure(CommonErrorCode.SERVICE_UNAVAILABLE, "リトライ待機中に割り込まれました");
+                break;
+            }
+        }
+        return new Execution<>(result, attempt, hedges, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // --- Internal ---
+
+    // 1回分の試行 (ヘッジを含む)
+    private <T> Attempt<T> attempt(Callable<Result<T>> action) {
+        ExecutorCompletionService<Result<T>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Result<T>>> running = new ArrayList<>(2);
+        long start = System.nanoTime();
+        long deadline = start + attemptTimeoutNanos;
+        long hedgeAt = hedgePercentile > 0 ? latencies.percentile(hedgePercentile) : -1;
+        int hedges = 0;
+
+        Future<Result<T>> first = submit(completion, action);
+        if (first == null) {
+            return new Attempt<>(Result.failure(CommonErrorCode.SERVICE_UNAVAILABLE, "外部呼び出しを開始できませんでした (実行が拒否されました)"), 0);
+        }
+        running.add(first);
+        int pending = 1;
+        Result<T> lastFailure = null;
+        try {
+            while (pending > 0) {
+                long now = System.nanoTime();
+                boolean canHedge = hedgeAt > 0 && hedges == 0;
+                long waitUntil = canHedge ? Math.min(deadline, start + hedgeAt) : deadline;
+                Future<Result<T>> done = completion.poll(Math.max(0, waitUntil - now), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        return new Attempt<>(Result.failure(CommonErrorCode.GATEWAY_TIMEOUT,
+                                "外部呼び出しがタイムアウトしました ({}ms)", TimeUnit.NANOSECONDS.toMillis(attemptTimeoutNanos)), hedges);
+                    }
+                    if (canHedge) {
+                        // 応答が遅い → 同じ処理をもう1本並行して開始する (拒否された場合は先行の試行を待つだけ)
+                        Future<Result<T>> hedge = submit(completion, action);
+                        if (hedge == null) {
+                            hedgeAt = -1;
+                        } else {
+                            running.add(hedge);
+                            pending++;
+                            hedges++;
+                        }
+                    }
+                    continue;
+                }
+                pending--;
+                Result<T> result = resultOf(done);
+                if (result.isSuccess()) {
+                    latencies.record(System.nanoTime() - start);
+                    return new Attempt<>(result, hedges);
+                }
+                lastFailure = result;
+            }
+            return new Attempt<>(lastFailure, hedges);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Attempt<>(Result.failure(CommonErrorCode.SERVICE_UNAVAILABLE, "外部呼び出しの待機中に割り込まれました"), hedges);
+        } finally {
+            // 未完了の試行は中断する (負けたヘッジ、タイムアウトした試行)
+            for (Future<Result<T>> f : running) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    // エグゼキューターが受け付けなかった場合は null
+    private static <T> Future<Result<T>> submit(ExecutorCompletionService<Result<T>> completion, Callable<Result<T>> action) {
+        try {
+            return completion.submit(action);
+        } catch (RejectedExecutionException e) {
+            log.debug("Resilient attempt rejected", e);
+            return null;
+        }
+    }
+
+    private static <T> Result<T> resultOf(Future<Result<T>> future) throws InterruptedException {
+        try {
+            Result<T> result = future.get();
+            return result != null ? result : Result.failure(CommonErrorCode.SYSTEM_ERROR, "処理が null を返しました");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.debug("Resilient attempt failed", cause);
+            return Result.failureLazy(CommonErrorCode.SERVICE_UNAVAILABLE, () -> "外部呼び出しに失敗しました: " + cause);
+        } catch (CancellationException e) {
+            return Result.failure(CommonErrorCode.SERVICE_UNAVAILABLE, "外部呼び出しがキャンセルされました");
+        }
+    }
+
+    // フルジッター付き指数バックオフ: [0, min(max, initial * 2^(attempt-1))) の一様乱数
+    private boolean sleepBackoff(int attempt) {
+        if (initialBackoffNanos <= 0) {
+            return true;
+        }
+        long ceiling = backoffCeiling(initialBackoffNanos, maxBackoffNanos, attempt);
+        long sleep = ThreadLocalRandom.current().nextLong(ceiling == Long.MAX_VALUE ? ceiling : ceiling + 1);
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleep);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // min(max, initial * 2^(attempt-1))。シフトで桁あふれしないよう、シフト前に上限と比べる
+    static long backoffCeiling(long initialNanos, long maxNanos, int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        if (initialNanos > (maxNanos >> shift)) {
+            return maxNanos;
+        }
+        return Math.min(maxNanos, initialNanos << shift);
+    }
+
+    private record Attempt<T>(Result<T> result, int hedges) {}
+
+    /**
+     * 実行結果。
+     *
+     * @param result   最終的な結果
+     * @param attempts 試行回数 (リトライを含む。ヘッジは含まない)
+     * @param hedges   ヘッジとして追加で開始した呼び出しの数
+     * @param elapsed  全体の所要時間
+     */
+    public record Execution<T>(Result<T> result, int attempts, int hedges, Duration elapsed) {}
+
+    /**
+     * {@link Resilient} のビルダー。
+     */
+    public static final class Builder {
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private Duration attemptTimeout = Duration.ofSeconds(10);
+        private double hedgePercentile = 0;
+        private int latencyWindow = 256;
+        private int minHedgeSamples = 20;
+        private Predicate<Result.Failure<?>> retryOn = f ->
+                f.errorCode() == CommonErrorCode.SERVICE_UNAVAILABLE || f.errorCode() == CommonErrorCode.GATEWAY_TIMEOUT;
+        private Executor executor = task -> VIRTUAL_THREADS.newThread(task).start();
+
+        private Builder() {}
+
+        /**
+         * 最大試行回数 (初回を含む)。
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be greater than 0: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * リトライ間隔。試行ごとに2倍 (上限 max) にした値を上限とする一様乱数だけ待ちます。
+         */
+        public Builder backoff(Duration initial, Duration max) {
+            Objects.requireNonNull(initial);
+            Objects.requireNonNull(max);
+            if (initial.isNegative() || max.compareTo(initial) < 0) {
+                throw new IllegalArgumentException("invalid backoff: " + initial + " .. " + max);
+            }
+            this.initialBackoff = initial;
+            this.maxBackoff = max;
+            return this;
+        }
+
+        /**
+         * 1回の試行 (ヘッジを含む) のタイムアウト。
+         */
+        public Builder attemptTimeout(Duration timeout) {
+            Objects.requireNonNull(timeout);
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("attemptTimeout must be positive: " + timeout);
+            }
+            this.attemptTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * 試行が過去の成功レイテンシの指定パーセンタイル (例: 0.95) を超えたらヘッジ呼び出しを開始します。
+         * 統計が溜まるまで (既定: 成功20件) はヘッジしません。
+         */
+        public Builder hedgeAtPercentile(double percentile) {
+            if (!(percentile > 0 && percentile < 1)) {
+                throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile);
+            }
+            this.hedgePercentile = percentile;
+            return this;
+        }
+
+        /**
+         * ヘッジ判断に使うレイテンシ統計のサンプル数 (直近 window 件) と、ヘッジを始める最小サンプル数。
+         */
+        public Builder latencyWindow(int window, int minSamples) {
+            if (window <= 0 || minSamples <= 0 || minSamples > window) {
+                throw new IllegalArgumentException("invalid latency window: " + window + ", " + minSamples);
+            }
+            this.latencyWindow = window;
+            this.minHedgeSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * リトライ対象とする Failure の条件。
+         */
+        public Builder retryOn(Predicate<Result.Failure<?>> retryOn) {
+            this.retryOn = Objects.requireNonNull(retryOn);
+            return this;
+        }
+
+        /**
+         * 試行を実行する Executor (既定: 試行ごとに仮想スレッドを起動)。
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        public Resilient build() {
+            return new Resilient(this);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+
+import java.util.Objects;
+
+/**
+ * 1件分のエラー明細 (エラーコード・項目パス・メッセージ)。
+ * <p>
+ * メッセージは元の失敗の {@link FailureReason} を参照したまま保持し、
+ * JSON 化などで必要になった時点で初めて文字列化します。
+ * JSON では {@code {"code": "SYS-400", "field": "email", "message": "..."}} の形になります。
+ * </p>
+ *
+ * @param errorCode エラーコード
+ * @param field     項目パス (例: "address.postalCode")。特定の項目に紐づかない場合は null
+ * @param reason    メッセージの元になる失敗理由
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"code", "field", "message"})
+public record ErrorDetail(
+        @JsonIgnore ErrorCode errorCode,
+        String field,
+        @JsonIgnore FailureReason reason
+) {
+
+    public ErrorDetail {
+        Objects.requireNonNull(errorCode, "errorCode cannot be null");
+        Objects.requireNonNull(reason, "reason cannot be null");
+    }
+
+    public ErrorDetail(ErrorCode errorCode, String field, String message) {
+        this(errorCode, field, FailureReason.of(message));
+    }
+
+    @JsonProperty("code")
+    public String code() {
+        return errorCode.getCode();
+    }
+
+    @JsonProperty("message")
+    public String message() {
+        return reason.message();
+    }
+
+    /**
+     * 項目パスの先頭に親の項目名を付与した明細を返します。
+     * 例: {@code "postalCode"} に {@code "address"} を付与すると {@code "address.postalCode"}
+     */
+    public ErrorDetail withParentField(String parent) {
+        Objects.requireNonNull(parent);
+        return new ErrorDetail(errorCode, field == null ? parent : parent + "." + field, reason);
+    }
+}
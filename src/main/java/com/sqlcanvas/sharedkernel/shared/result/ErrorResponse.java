@@ -0,0 +1,39 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * API レスポンス用のエラー表現 (Jackson でそのままシリアライズ可能)。
+ * <pre>{@code
+ * {
+ *   "code": "SYS-400",
+ *   "message": "入力値が不正です。",
+ *   "errors": [
+ *     {"code": "SYS-400", "field": "email", "message": "メールアドレスの形式が不正です"}
+ *   ]
+ * }
+ * }</pre>
+ *
+ * @param code    代表エラーコード
+ * @param message 代表メッセージ
+ * @param errors  エラー明細
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ErrorResponse(String code, String message, List<ErrorDetail> errors) {
+
+    /**
+     * Failure からレスポンスを生成します。
+     * <p>
+     * 複数エラーの場合、代表メッセージにはエラーコードの既定メッセージを使い、
+     * 個々のメッセージは {@code errors} にのみ含めます (改行連結した文字列は生成しません)。
+     * </p>
+     */
+    public static ErrorResponse from(Result.Failure<?> failure) {
+        var errorCode = failure.errorCode();
+        var reason = failure.reason();
+        String message = reason.hasDetails() ? errorCode.getDefaultMessage() : reason.message();
+        return new ErrorResponse(errorCode.getCode(), message, failure.errors());
+    }
+}
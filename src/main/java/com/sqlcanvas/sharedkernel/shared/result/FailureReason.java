@@ -0,0 +1,181 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link Result.Failure} が保持する失敗理由。
+ * <p>
+ * 単一のメッセージ、または複数の {@link ErrorDetail} を保持します。
+ * 表示用メッセージ ({@link #message()}) は最初に参照された時点で組み立ててキャッシュするため、
+ * リカバリーされたり破棄されたりして誰も表示しない失敗では、文字列の生成が発生しません。
+ * </p>
+ * <p>
+ * 等価性はメッセージを生成せずに判定します: 単一メッセージ同士は文字列、複数エラー同士は明細のリスト、
+ * 遅延生成同士は生成元 (テンプレートと引数、またはサプライヤーのインスタンス) で比較します。
+ * 種類が異なる失敗理由は、表示用メッセージが同じでも等しくありません。
+ * </p>
+ */
+public final class FailureReason {
+
+    // 複数エラーの場合のみ非null
+    private final List<ErrorDetail> details;
+
+    // 遅延生成の場合のメッセージ生成元 (等価性の判定に使うため、生成後も保持する)
+    private final Supplier<String> source;
+
+    // 表示用メッセージ (遅延生成・メモ化)。単一メッセージの場合は null もあり得る
+    private volatile String message;
+
+    private FailureReason(String message, List<ErrorDetail> details, Supplier<String> source) {
+        this.message = message;
+        this.details = details;
+        this.source = source;
+    }
+
+    /**
+     * 単一メッセージの失敗理由を生成します (従来の {@code Failure(ErrorCode, String)} と同じく null も受け付けます)。
+     */
+    public static FailureReason of(String message) {
+        return new FailureReason(message, null, null);
+    }
+
+    /**
+     * メッセージを最初の参照時に生成する失敗理由を生成します。
+     */
+    public static FailureReason lazy(Supplier<String> messageSupplier) {
+        return new FailureReason(null, null, Objects.requireNonNull(messageSupplier));
+    }
+
+    /**
+     * テンプレートと引数からメッセージを最初の参照時に生成する失敗理由を生成します。
+     * <p>
+     * テンプレート中の {@code {}} を引数で順に置き換えます (SLF4J と同じ書式)。
+     * 例: {@code FailureReason.format("無効なID形式です: {}", input)}
+     * </p>
+     */
+    public static FailureReason format(String template, Object... args) {
+        Objects.requireNonNull(template);
+        return new FailureReason(null, null, new Template(template, args));
+    }
+
+    /**
+     * 複数エラーの失敗理由を生成します。
+     */
+    public static FailureReason of(List<ErrorDetail> details) {
+        Objects.requireNonNull(details, "details cannot be null");
+        if (details.isEmpty()) {
+            throw new IllegalArgumentException("details cannot be empty");
+        }
+        return new FailureReason(null, List.copyOf(details), null);
+    }
+
+    /**
+     * 表示用メッセージを返します。
+     * <p>
+     * 複数エラーの場合は {@code "[コード] メッセージ"} を改行区切りで連結した文字列になります。
+     * </p>
+     */
+    public String message() {
+        String m = message;
+        if (m == null && (details != null || source != null)) {
+            synchronized (this) {
+                m = message;
+                if (m == null) {
+                    m = details != null ? render(details) : Objects.requireNonNull(source.get());
+                    message = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    /**
+     * 複数エラーを保持しているかどうかを判定します。
+     */
+    public boolean hasDetails() {
+        return details != null;
+    }
+
+    /**
+     * 保持しているエラー明細を返します。単一メッセージの場合は空リストです。
+     */
+    public List<ErrorDetail> details() {
+        return details != null ? details : List.of();
+    }
+
+    private static String render(List<ErrorDetail> details) {
+        // 例: "[SYS-400] メールアドレスが不正です\n[SYS-400] 電話番号は必須です"
+        StringBuilder sb = new StringBuilder(details.size() * 32);
+        for (ErrorDetail detail : details) {
+            if (!sb.isEmpty()) {
+                sb.append('\n');
+            }
+            sb.append('[').append(detail.errorCode().getCode()).append("] ").append(detail.message());
+        }
+        return sb.toString();
+    }
+
+    // テンプレートと引数 (引数の配列は内容で比較する)
+    private record Template(String template, Object[] args) implements Supplier<String> {
+
+        @Override
+        public String get() {
+            if (args == null || args.length == 0) {
+                return template;
+            }
+            StringBuilder sb = new StringBuilder(template.length() + args.length * 16);
+            int argIndex = 0;
+            int from = 0;
+            int at;
+            while (argIndex < args.length && (at = template.indexOf("{}", from)) >= 0) {
+                sb.append(template, from, at).append(args[argIndex++]);
+                from = at + 2;
+            }
+            return sb.append(template, from, template.length()).toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Template other && template.equals(other.template) && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * template.hashCode() + Arrays.hashCode(args);
+        }
+    }
+
+    // メッセージを生成せずに比較する (クラスの説明を参照)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FailureReason other)) {
+            return false;
+        }
+        if (details != null || other.details != null) {
+            return Objects.equals(details, other.details);
+        }
+        if (source != null || other.source != null) {
+            return Objects.equals(source, other.source);
+        }
+        return Objects.equals(message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        if (details != null) {
+            return details.hashCode();
+        }
+        return source != null ? source.hashCode() : Objects.hashCode(message);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(message());
+    }
+}
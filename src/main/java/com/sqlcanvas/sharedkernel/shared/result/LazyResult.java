@@ -0,0 +1,199 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 評価を終端操作まで遅延する {@link Result}。
+ * <pre>{@code
+ * LazyResult<Report> report = LazyResult.of(() -> repository.find(id))
+ *         .map(this::enrich)           // まだ実行されない
+ *         .flatMap(this::render);      // まだ実行されない
+ *
+ * if (cached != null) {
+ *     return cached;                   // 上の処理は一度も実行されない
+ * }
+ * return report.unwrap();              // ここで初めてまとめて評価される
+ * }</pre>
+ * <ul>
+ *   <li>{@code map} / {@code flatMap} / {@code recover} は処理を連結した新しいインスタンスを返すだけで、何も実行しません。</li>
+ *   <li>終端操作 ({@code get} / {@code fold} / {@code orElse} / {@code unwrap} など) で、未評価の区間を1つのループで評価します
+ *       (チェーンが長くても再帰によるスタック消費はありません)。</li>
+ *   <li>各段の結果はスレッドセーフにメモ化されるため、途中の段を複数のチェーンで共有しても、
+ *       各処理が実行されるのは高々1回です。評価済みの段は前段と処理への参照を解放します。</li>
+ *   <li>失敗は後続の {@code map} / {@code flatMap} を呼び出さず、同じ {@link Result.Failure} のまま伝播します。</li>
+ * </ul>
+ * <p>
+ * 処理が例外をスローした場合、その段は未評価のまま残り、次の終端操作で再評価されます。
+ * </p>
+ *
+ * @param <T> 成功時に保持する値の型
+ */
+public final class LazyResult<T> {
+
+    // 前段 (評価後は null)
+    private volatile LazyResult<?> parent;
+
+    // 前段の結果からこの段の結果を求める処理 (評価後は null)。根の場合、引数は null
+    private Function<Result<?>, Result<T>> step;
+
+    // 評価結果 (メモ化)
+    private volatile Result<T> result;
+
+    private LazyResult(LazyResult<?> parent, Function<Result<?>, Result<T>> step, Result<T> result) {
+        this.parent = parent;
+        this.step = step;
+        this.result = result;
+    }
+
+    // --- Factories ---
+
+    /**
+     * 最初の終端操作で結果を生成する LazyResult を返します。
+     */
+    public static <T> LazyResult<T> of(Supplier<? extends Result<T>> supplier) {
+        Objects.requireNonNull(supplier);
+        return new LazyResult<>(null, ignored -> supplier.get(), null);
+    }
+
+    /**
+     * 評価済みの Result から LazyResult を生成します。
+     */
+    public static <T> LazyResult<T> from(Result<T> result) {
+        return new LazyResult<>(null, null, Objects.requireNonNull(result));
+    }
+
+    // --- Intermediate Operations (遅延) ---
+
+    /**
+     * 成功時のみ値を変換する処理を連結します。
+     */
+    public <U> LazyResult<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(r -> switch (r) {
+            case Result.Success<T>(var value) -> Result.success(mapper.apply(value));
+            case Result.Failure<T> f -> propagate(f);
+        });
+    }
+
+    /**
+     * 成功時のみ、次の Result を返す処理を連結します。
+     */
+    public <U> LazyResult<U> flatMap(Function<? super T, ? extends Result<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(r -> switch (r) {
+            case Result.Success<T>(var value) -> mapper.apply(value);
+            case Result.Failure<T> f -> propagate(f);
+        });
+    }
+
+    /**
+     * 失敗時のみ、リカバリー処理を連結します。
+     */
+    public LazyResult<T> recover(Function<Result.Failure<T>, T> recovery) {
+        Objects.requireNonNull(recovery);
+        return then(r -> switch (r) {
+            case Result.Success<T> s -> s;
+            case Result.Failure<T> f -> Result.success(recovery.apply(f));
+        });
+    }
+
+    // --- Terminal Operations ---
+
+    /**
+     * 評価して結果を返します。評価済みの場合はメモ化された結果を返します。
+     */
+    public Result<T> get() {
+        Result<T> r = result;
+        return r != null ? r : evaluate();
+    }
+
+    /**
+     * 評価済みかどうかを判定します (評価は行いません)。
+     */
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    public boolean isSuccess() {
+        return get().isSuccess();
+    }
+
+    public boolean isFailure() {
+        return get().isFailure();
+    }
+
+    public T orElse(T other) {
+        return get().orElse(other);
+    }
+
+    public T orElseGet(Supplier<? extends T> otherSupplier) {
+        return get().orElseGet(otherSupplier);
+    }
+
+    public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<Result.Failure<T>, ? extends R> onFailure) {
+        return get().fold(onSuccess, onFailure);
+    }
+
+    /**
+     * 成功時は値を返し、失敗時は {@link ResultFailureException} をスローします。
+     */
+    public T orElseThrow() {
+        return get().orElseThrow();
+    }
+
+    public T unwrap() {
+        return get().unwrap();
+    }
+
+    // --- Internal ---
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <U> LazyResult<U> then(Function<Result<T>, Result<U>> step) {
+        return new LazyResult<>(this, (Function) step, null);
+    }
+
+    // Failure は値を持たないため、型引数だけを付け替えて同じインスタンスを伝播する
+    @SuppressWarnings("unchecked")
+    private static <U> Result<U> propagate(Result.Failure<?> failure) {
+        return (Result<U>) (Result<?>) failure;
+    }
+
+    private Result<T> evaluate() {
+        // 未評価の段を 自身 → 根 の順に辿り、根側から順に評価する
+        ArrayDeque<LazyResult<?>> pending = new ArrayDeque<>();
+        LazyResult<?> node = this;
+        while (node != null && node.result == null) {
+            pending.push(node);
+            node = node.parent;
+        }
+        while (!pending.isEmpty()) {
+            pending.pop().evaluateStep();
+        }
+        return result;
+    }
+
+    private void evaluateStep() {
+        if (result != null) {
+            return;
+        }
+        synchronized (this) {
+            if (result != null) {
+                return;
+            }
+            LazyResult<?> p = parent;
+            Result<T> r = step.apply(p != null ? p.result : null);
+            result = Objects.requireNonNull(r, "LazyResult step returned null");
+            parent = null;
+            step = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        Result<T> r = result;
+        return r != null ? "LazyResult[" + r + "]" : "LazyResult[<unevaluated>]";
+    }
+}
@@ -2,6 +2,7 @@ package com.sqlcanvas.sharedkernel.shared.result;
 
 import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -25,8 +26,46 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
 
     /**
      * 失敗
+     * <p>
+     * 失敗理由は {@link FailureReason} として保持し、表示用メッセージは {@link #message()} で取得します。
+     * 複数エラー (バリデーション結果など) の場合は {@link #errors()} で明細を参照できます。
+     * </p>
+     * <p>
+     * 2番目の要素は {@code String message} から {@link FailureReason} に変わりました (破壊的変更)。
+     * レコードパターンでメッセージを取り出していた場合は {@code case Failure<T> f -> f.message()} に置き換えてください。
+     * </p>
      */
-    record Failure<T>(ErrorCode errorCode, String message) implements Result<T> {}
+    record Failure<T>(ErrorCode errorCode, FailureReason reason) implements Result<T> {
+
+        public Failure {
+            Objects.requireNonNull(errorCode, "errorCode cannot be null");
+            Objects.requireNonNull(reason, "reason cannot be null");
+        }
+
+        /**
+         * 単一メッセージの失敗を生成します (従来と同じく {@code message} は null でも構いません)。
+         */
+        public Failure(ErrorCode errorCode, String message) {
+            this(errorCode, FailureReason.of(message));
+        }
+
+        /**
+         * 表示用メッセージを返します。
+         */
+        public String message() {
+            return reason.message();
+        }
+
+        /**
+         * エラー明細を返します。単一エラーの場合は自身を表す1件のみのリストです。
+         */
+        public List<ErrorDetail> errors() {
+            if (reason.hasDetails()) {
+                return reason.details();
+            }
+            return List.of(new ErrorDetail(errorCode, null, reason));
+        }
+    }
 
     // --- Factories ---
 
@@ -42,6 +81,35 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         return new Failure<>(errorCode, message);
     }
 
+    /**
+     * メッセージを遅延生成する失敗を返します。
+     * メッセージは {@link Failure#message()} が最初に呼ばれた時点で一度だけ生成されます。
+     * <p>
+     * {@code failure(code, null)} が曖昧にならないよう、{@code failure} のオーバーロードにはしていません。
+     * </p>
+     */
+    static <T> Result<T> failureLazy(ErrorCode errorCode, Supplier<String> messageSupplier) {
+        return new Failure<>(errorCode, FailureReason.lazy(messageSupplier));
+    }
+
+    /**
+     * テンプレートと引数からメッセージを遅延生成する失敗を返します。
+     * <p>
+     * テンプレート中の {@code {}} を引数で順に置き換えます。
+     * 例: {@code Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: {}", input)}
+     * </p>
+     */
+    static <T> Result<T> failure(ErrorCode errorCode, String template, Object... args) {
+        return new Failure<>(errorCode, FailureReason.format(template, args));
+    }
+
+    /**
+     * 失敗理由 (複数エラーなど) を指定して失敗を返します。
+     */
+    static <T> Result<T> failureWith(ErrorCode errorCode, FailureReason reason) {
+        return new Failure<>(errorCode, reason);
+    }
+
     // --- Intermediate Operations (Railway) ---
 
     /**
@@ -51,7 +119,7 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         Objects.requireNonNull(mapper);
         return switch (this) {
             case Success<T>(var value) -> success(mapper.apply(value));
-            case Failure<T>(var code, var msg) -> failure(code, msg);
+            case Failure<T>(var code, var reason) -> failureWith(code, reason);
         };
     }
 
@@ -62,7 +130,7 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         Objects.requireNonNull(mapper);
         return switch (this) {
             case Success<T>(var value) -> mapper.apply(value);
-            case Failure<T>(var code, var msg) -> failure(code, msg);
+            case Failure<T>(var code, var reason) -> failureWith(code, reason);
         };
     }
 
@@ -156,19 +224,25 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         };
     }
 
+    /**
+     * 成功時は値を返し、失敗時は {@link ResultFailureException} をスローします。
+     */
+    default T orElseThrow() {
+        return switch (this) {
+            case Success<T>(var value) -> value;
+            case Failure<T> f -> throw new ResultFailureException(f);
+        };
+    }
+
     /**
      * 強制的に値を取り出します。
      * <p>
-     * 注意: 失敗時は {@link RuntimeException} がスローされます。
+     * 注意: 失敗時は {@link ResultFailureException} がスローされます。
      * ライブラリ外で特定の例外を投げたい場合は {@link #orElseThrow(Function)} を使用してください。
      * </p>
      */
     default T unwrap() {
-        return switch (this) {
-            case Success<T>(var value) -> value;
-            case Failure<T>(var code, var msg) ->
-                    throw new RuntimeException("Result failure: [" + code + "] " + msg);
-        };
+        return orElseThrow();
     }
 
     /**
@@ -180,8 +254,7 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
      */
     default Failure<T> unwrapFailure() {
         return switch (this) {
-            case Success<T> s ->
-                    throw new IllegalStateException("Called unwrapFailure() on a Success result: " + s.value());
+            case Success<T>(var value) -> throw new UnexpectedSuccessException(value);
             case Failure<T> f -> f;
         };
     }
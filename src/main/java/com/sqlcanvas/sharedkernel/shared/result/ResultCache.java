@@ -0,0 +1,500 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * {@code Function<K, Result<V>>} の結果をメモ化するキャッシュ。
+ * <pre>{@code
+ * ResultCache<UserId, User> users = ResultCache.<UserId, User>builder()
+ *         .maximumSize(10_000)
+ *         .successTtl(Duration.ofMinutes(10))
+ *         .failureTtl(Duration.ofSeconds(5))      // 失敗 (存在しない等) は短時間だけキャッシュ
+ *         .refreshAfter(Duration.ofMinutes(8))    // 期限切れ前に非同期で先読み更新
+ *         .build(userClient::find);
+ *
+ * Result<User> user = users.get(id);
+ * }</pre>
+ * <ul>
+ *   <li>Success と Failure で別々の有効期限 (TTL) を設定できます。TTL が 0 の結果はキャッシュしません。</li>
+ *   <li>同じキーへの同時ミスは1回の読み込みにまとめられ、結果を共有します。</li>
+ *   <li>件数上限を超えると Segmented LRU (probation / protected の2区画) で追い出します。
+ *       2回以上参照されたエントリは protected 区画に昇格し、1回しか参照されないエントリに押し出されにくくなります。</li>
+ *   <li>読み込み処理が例外をスローした場合はキャッシュせず、呼び出し元へそのまま伝播します。</li>
+ *   <li>読み込み中に {@link #invalidate} されたキーは、その読み込みの結果をキャッシュしません
+ *       (読み込みを待っている呼び出し元には結果を返します)。</li>
+ * </ul>
+ *
+ * @param <K> キーの型
+ * @param <V> 成功時の値の型
+ */
+@Slf4j
+public final class ResultCache<K, V> {
+
+    private final Function<? super K, Result<V>> loader;
+    private final long maximumSize;
+    private final long protectedMaximum;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, CompletableFuture<Result<V>>> loading = new ConcurrentHashMap<>();
+
+    // 追い出し順序 (Segmented LRU)。区画の操作は evictionLock で保護する
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Segment<K, V> probation = new Segment<>();
+    private final Segment<K, V> protectedSegment = new Segment<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private ResultCache(Builder<K, V> builder, Function<? super K, Result<V>> loader) {
+        this.loader = Objects.requireNonNull(loader);
+        this.maximumSize = builder.maximumSize;
+        this.protectedMaximum = builder.maximumSize - builder.maximumSize / 5; // 80%
+        this.successTtlNanos = builder.successTtl.toNanos();
+        this.failureTtlNanos = builder.failureTtl.toNanos();
+        this.refreshAfterNanos = builder.refreshAfter == null ? 0 : builder.refreshAfter.toNanos();
+        this.refreshExecutor = builder.refreshExecutor;
+        this.ticker = builder.ticker;
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    // --- Operations ---
+
+    /**
+     * キャッシュ済みの結果を返します。未キャッシュまたは期限切れの場合は読み込みます。
+     */
+    public Result<V> get(K key) {
+        Objects.requireNonNull(key);
+        Entry<K, V> entry = entries.get(key);
+        if (entry != null) {
+            long now = ticker.getAsLong();
+            if (!entry.isExpired(now)) {
+                hits.increment();
+                onAccess(entry);
+                if (refreshAfterNanos > 0 && entry.result.isSuccess() && now - entry.refreshAt >= 0) {
+                    refreshAsync(entry);
+                }
+                return entry.result;
+            }
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    /**
+     * キャッシュ済みの結果があれば返します (読み込みは行いません)。
+     */
+    public Result<V> getIfPresent(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(ticker.getAsLong())) {
+            return null;
+        }
+        onAccess(entry);
+        return entry.result;
+    }
+
+    /**
+     * キーを削除します。読み込み中の場合、その結果はキャッシュされず、次の {@link #get} で読み込み直します。
+     */
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            removeEntry(key);
+            // 読み込み中の結果を store させない (store は loading の登録が自分のままか確認する)
+            loading.remove(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            loading.clear();
+            entries.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 現在保持しているエントリ数 (期限切れで未削除のものを含む)。
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(
+                hits.sum(), misses.sum(),
+                loadSuccesses.sum(), loadFailures.sum(),
+                evictions.sum(), refreshes.sum()
+        );
+    }
+
+    // --- Loading ---
+
+    private Result<V> load(K key) {
+        CompletableFuture<Result<V>> own = new CompletableFuture<>();
+        CompletableFuture<Result<V>> running = loading.putIfAbsent(key, own);
+        if (running != null) {
+            // 同じキーを読み込み中のスレッドがいれば、その結果を待って共有する
+            return await(running);
+        }
+        try {
+            // 直前に別スレッドが読み込みを完了している場合はそれを使う
+            Entry<K, V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(ticker.getAsLong())) {
+                own.complete(entry.result);
+                return entry.result;
+            }
+            Result<V> result = Objects.requireNonNull(loader.apply(key), "loader returned null");
+            record(result);
+            store(key, result, own);
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, own);
+        }
+    }
+
+    private Result<V> await(CompletableFuture<Result<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+
+    private void refreshAsync(Entry<K, V> entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> refresh(entry));
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+            log.warn("ResultCache refresh rejected: {}", entry.key);
+        }
+    }
+
+    private void refresh(Entry<K, V> entry) {
+        try {
+            Result<V> result = Objects.requireNonNull(loader.apply(entry.key), "loader returned null");
+            record(result);
+            if (result.isSuccess()) {
+                replaceIfCurrent(entry, result);
+                return;
+            }
+            // 先読みが失敗した場合は、期限切れまで古い成功結果を使い続ける
+            log.debug("ResultCache refresh failed, keeping stale value: {}", entry.key);
+        } catch (RuntimeException e) {
+            log.warn("ResultCache refresh threw an exception: {}", entry.key, e);
+        } finally {
+            // Error の場合も含め、次の先読みを予約できる状態に戻す (置き換え済みの場合は影響しない)
+            entry.refreshAt = ticker.getAsLong() + refreshAfterNanos;
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void record(Result<V> result) {
+        if (result.isSuccess()) {
+            loadSuccesses.increment();
+        } else {
+            loadFailures.increment();
+        }
+    }
+
+    // --- Storage & Eviction ---
+
+    // 読み込みの登録 (token) がまだ有効な場合だけ格納する。読み込み中に invalidate されていれば何もしない
+    private void store(K key, Result<V> result, CompletableFuture<Result<V>> token) {
+        long ttl = result.isSuccess() ? successTtlNanos : failureTtlNanos;
+        long now = ticker.getAsLong();
+        Entry<K, V> entry = new Entry<>(key, result, now + ttl, now + refreshAfterNanos);
+        evictionLock.lock();
+        try {
+            if (loading.get(key) != token) {
+                return;
+            }
+            if (ttl <= 0) {
+                removeEntry(key);
+                return;
+            }
+            Entry<K, V> old = entries.put(key, entry);
+            if (old != null && old.segment == protectedSegment) {
+                unlink(old);
+                protectedSegment.addLast(entry);
+            } else {
+                if (old != null) {
+                    unlink(old);
+                }
+                probation.addLast(entry);
+            }
+            evictIfNeeded();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void replaceIfCurrent(Entry<K, V> current, Result<V> result) {
+        long now = ticker.getAsLong();
+        Entry<K, V> entry = new Entry<>(current.key, result, now + successTtlNanos, now + refreshAfterNanos);
+        evictionLock.lock();
+        try {
+            if (current.segment == null || !entries.replace(current.key, current, entry)) {
+                return; // 先読み中に削除・上書きされた
+            }
+            Segment<K, V> segment = current.segment;
+            unlink(current);
+            segment.addLast(entry);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(Entry<K, V> entry) {
+        // 読み取りのたびにロック待ちをしないよう、取得できなければ並び替えを諦める (近似 LRU)
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (entry.segment == probation) {
+                probation.remove(entry);
+                protectedSegment.addLast(entry);
+                if (protectedSegment.size > protectedMaximum) {
+                    probation.addLast(protectedSegment.removeFirst());
+                }
+            } else if (entry.segment == protectedSegment) {
+                protectedSegment.remove(entry);
+                protectedSegment.addLast(entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (probation.size + protectedSegment.size > maximumSize) {
+            Entry<K, V> victim = probation.head != null ? probation.removeFirst() : protectedSegment.removeFirst();
+            entries.remove(victim.key, victim);
+            evictions.increment();
+        }
+    }
+
+    // evictionLock を保持して呼ぶ
+    private void removeEntry(K key) {
+        Entry<K, V> removed = entries.remove(key);
+        if (removed != null) {
+            unlink(removed);
+        }
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.segment != null) {
+            entry.segment.remove(entry);
+        }
+    }
+
+    // --- Internal Types ---
+
+    private static final class Entry<K, V> {
+        final K key;
+        final Result<V> result;
+        final long expiresAt;
+        volatile long refreshAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        // 以下は evictionLock で保護
+        Segment<K, V> segment;
+        Entry<K, V> prev;
+        Entry<K, V> next;
+
+        Entry(K key, Result<V> result, long expiresAt, long refreshAt) {
+            this.key = key;
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    // 侵入型の双方向リスト (head = 最も古い)
+    private static final class Segment<K, V> {
+        Entry<K, V> head;
+        Entry<K, V> tail;
+        long size;
+
+        void addLast(Entry<K, V> e) {
+            e.segment = this;
+            e.prev = tail;
+            e.next = null;
+            if (tail == null) {
+                head = e;
+            } else {
+                tail.next = e;
+            }
+            tail = e;
+            size++;
+        }
+
+        Entry<K, V> removeFirst() {
+            Entry<K, V> e = head;
+            remove(e);
+            return e;
+        }
+
+        void remove(Entry<K, V> e) {
+            if (e.prev == null) {
+                head = e.next;
+            } else {
+                e.prev.next = e.next;
+            }
+            if (e.next == null) {
+                tail = e.prev;
+            } else {
+                e.next.prev = e.prev;
+            }
+            e.prev = null;
+            e.next = null;
+            e.segment = null;
+            size--;
+        }
+
+        void clear() {
+            for (Entry<K, V> e = head; e != null; ) {
+                Entry<K, V> next = e.next;
+                e.prev = null;
+                e.next = null;
+                e.segment = null;
+                e = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * キャッシュの統計情報。
+     */
+    public record Stats(long hits, long misses, long loadSuccesses, long loadFailures, long evictions, long refreshes) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * {@link ResultCache} のビルダー。
+     */
+    public static final class Builder<K, V> {
+
+        private long maximumSize = 10_000;
+        private Duration successTtl = Duration.ofMinutes(5);
+        private Duration failureTtl = Duration.ofSeconds(5);
+        private Duration refreshAfter;
+        private Executor refreshExecutor = task -> Thread.ofVirtual().name("result-cache-refresh").start(task);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {}
+
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be greater than 0: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<K, V> successTtl(Duration ttl) {
+            this.successTtl = requireNonNegative(ttl);
+            return this;
+        }
+
+        /**
+         * Failure の有効期限。{@link Duration#ZERO} を指定すると Failure はキャッシュしません。
+         */
+        public Builder<K, V> failureTtl(Duration ttl) {
+            this.failureTtl = requireNonNegative(ttl);
+            return this;
+        }
+
+        /**
+         * 指定時間が経過した Success を、次の参照時に非同期で読み込み直します (refresh-ahead)。
+         * 読み込み中は古い値を返し続けます。
+         */
+        public Builder<K, V> refreshAfter(Duration refreshAfter) {
+            this.refreshAfter = requireNonNegative(refreshAfter);
+            return this;
+        }
+
+        /**
+         * 先読み更新を実行する Executor (既定: 仮想スレッド)。
+         */
+        public Builder<K, V> refreshExecutor(Executor executor) {
+            this.refreshExecutor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * 時刻の取得元 (ナノ秒)。主にテスト用です。
+         */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public ResultCache<K, V> build(Function<? super K, Result<V>> loader) {
+            return new ResultCache<>(this, loader);
+        }
+
+        private static Duration requireNonNegative(Duration duration) {
+            Objects.requireNonNull(duration);
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("duration must not be negative: " + duration);
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * {@link Result#unwrap()} / {@link Result#orElseThrow()} が失敗時にスローする例外。
+ * <p>
+ * 失敗情報 ({@link Result.Failure}) とエラーコードをそのまま保持するため、
+ * フレームワーク側で catch した後に ErrorCode ベースでレスポンスへ変換できます。
+ * </p>
+ * <p>
+ * 生成コストを抑えるため、既定ではスタックトレースを記録せず、メッセージも
+ * {@link #getMessage()} が呼ばれるまで組み立てません。
+ * デバッグ時はシステムプロパティ {@code -Dsharedkernel.result.stackTrace=true} で
+ * スタックトレースを有効にできます。
+ * </p>
+ * <p>
+ * 直列化するとエラーコードは {@link Serializable} な実装 (enum など) の場合だけ復元されます。
+ * それ以外の場合は {@link #getErrorCode()} が null になり、コード文字列 ({@link #getCode()}) だけが残ります。
+ * </p>
+ */
+public class ResultFailureException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean("sharedkernel.result.stackTrace");
+
+    // Result.Failure は Serializable ではないため直列化対象外とする
+    private final transient Result.Failure<?> failure;
+    // ErrorCode の実装は Serializable とは限らないため、writeObject で可能な場合だけ書く
+    private transient ErrorCode errorCode;
+    private final String code;
+
+    private String message;
+
+    public ResultFailureException(Result.Failure<?> failure) {
+        this(failure, STACK_TRACE_ENABLED);
+    }
+
+    public ResultFailureException(Result.Failure<?> failure, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.failure = Objects.requireNonNull(failure);
+        this.errorCode = failure.errorCode();
+        this.code = errorCode.getCode();
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * エラーコード文字列 ({@link ErrorCode#getCode()})。直列化後も保持されます。
+     */
+    public String getCode() {
+        return code;
+    }
+
+    public Result.Failure<?> getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String getMessage() {
+        String m = message;
+        if (m == null) {
+            // 例: "Result failure: [INVALID_PARAMETER] 金額は0以上である必要があります"
+            m = "Result failure: [" + (errorCode != null ? errorCode : code) + "] " + (failure != null ? failure.message() : "");
+            message = m;
+        }
+        return m;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(errorCode instanceof Serializable ? errorCode : null);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        errorCode = (ErrorCode) in.readObject();
+    }
+}
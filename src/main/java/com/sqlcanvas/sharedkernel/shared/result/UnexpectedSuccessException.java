@@ -0,0 +1,32 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import java.io.Serial;
+
+/**
+ * {@link Result#unwrapFailure()} を Success に対して呼び出した場合の例外。
+ * <p>
+ * {@link ResultFailureException} と同様に、既定ではスタックトレースを記録せず、
+ * 成功値の文字列化はメッセージが参照されるまで行いません。
+ * </p>
+ */
+class UnexpectedSuccessException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object value;
+
+    UnexpectedSuccessException(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Called unwrapFailure() on a Success result: " + value;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ResultFailureException.STACK_TRACE_ENABLED ? super.fillInStackTrace() : this;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sqlcanvas.sharedkernel.shared.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 文字列の Value Object を String を作らずに検査するためのユーティリティ。
+ * <pre>{@code
+ * // JSON/CSV パーサーのバッファ上のフィールドをそのまま検査し、成功した場合だけ String を生成する
+ * Result<Email> email = Email.ofChars(CharSequences.utf8(buffer, offset, length));
+ * }</pre>
+ */
+public final class CharSequences {
+
+    private CharSequences() {}
+
+    /**
+     * UTF-8 バイト列の範囲を、1バイトを1文字とみなす {@link CharSequence} として返します (コピーしません)。
+     * <p>
+     * ASCII の範囲はそのまま文字になり、マルチバイト文字を構成するバイト (0x80 以上) は
+     * U+0080〜U+00FF の文字として見えます。書式が ASCII のみで定義された値 (メールアドレス・電話番号など) の検査では、
+     * これらは常に不正な文字として扱われるため、デコードした場合と同じ結果になります。
+     * {@link Object#toString()} は UTF-8 としてデコードした文字列を返します。
+     * </p>
+     * <p>
+     * 元の配列を参照し続けるため、検査が終わるまで配列の内容を変更しないでください。
+     * </p>
+     */
+    public static CharSequence utf8(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new Utf8View(bytes, offset, length);
+    }
+
+    /**
+     * ByteBuffer の position から limit までを {@link #utf8(byte[], int, int)} と同様に見せます。
+     * バッファの position は変更しません。
+     */
+    public static CharSequence utf8(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new Utf8View(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return new BufferView(buffer.slice());
+    }
+
+    /**
+     * 空、または空白文字のみかどうかを判定します ({@link String#isBlank()} と同じ判定)。
+     */
+    public static boolean isBlank(CharSequence s) {
+        if (s instanceof String str) {
+            return str.isBlank();
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isWhitespace(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Utf8View(byte[] bytes, int offset, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new Utf8View(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    private record BufferView(ByteBuffer buffer) implements CharSequence {
+
+        @Override
+        public int length() {
+            return buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length());
+            return new BufferView(buffer.slice(start, end - start));
+        }
+
+        @Override
+        public String toString() {
+            return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.UUID;
 
@@ -20,6 +21,9 @@ public record RequestId(UUID value) {
     // 暗号論的に強い乱数生成器 (ThreadSafe)
     private static final SecureRandom secureRandom = new SecureRandom();
 
+    // 標準形式 (8-4-4-4-12) の文字数
+    private static final int CANONICAL_LENGTH = 36;
+
     /**
      * UUID v7 (Unix Epoch Time based) を生成して返す
      * Java標準でv7がサポートされるまでのカスタム実装
@@ -61,21 +65,95 @@ public record RequestId(UUID value) {
      * 文字列からRequestIdを生成する
      */
     public static Result<RequestId> from(String uuidString) {
-        if (uuidString == null || uuidString.isBlank()) {
+        return fromChars(uuidString);
+    }
+
+    /**
+     * 任意の {@link CharSequence} からRequestIdを生成する
+     * 標準形式 (8-4-4-4-12, 36文字) は String を生成せずに直接解析する
+     * 入力が String 以外の場合、エラーメッセージには入力値を含めない (可変なバッファを参照し続けないため)
+     */
+    public static Result<RequestId> fromChars(CharSequence uuidString) {
+        if (uuidString == null || CharSequences.isBlank(uuidString)) {
             log.warn("RequestId is null or empty.");
             // 修正: CommonErrorCode を使用し、Result.failure ファクトリで生成
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "IDが空です");
         }
 
-        try {
-            UUID uuid = UUID.fromString(uuidString);
+        UUID uuid = parseCanonical(uuidString);
+        if (uuid == null && uuidString.length() <= CANONICAL_LENGTH) {
+            // 標準形式以外 (桁の省略など) は UUID.fromString の解釈に合わせる
+            try {
+                uuid = UUID.fromString(uuidString.toString());
+            } catch (IllegalArgumentException e) {
+                uuid = null;
+            }
+        }
+        if (uuid != null) {
             return Result.success(new RequestId(uuid));
-        } catch (IllegalArgumentException e) {
-            // クライアントからの入力ミスなどが想定されるため WARN
-            log.warn("Invalid UUID format received: {}", uuidString);
-            // 修正: CommonErrorCode を使用
-            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: " + uuidString);
         }
+
+        // クライアントからの入力ミスなどが想定されるため WARN
+        log.warn("Invalid UUID format received: {}", uuidString);
+        // 修正: CommonErrorCode を使用
+        if (uuidString instanceof String s) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です: {}", s);
+        }
+        return Result.failure(CommonErrorCode.INVALID_PARAMETER, "無効なID形式です");
+    }
+
+    /**
+     * UTF-8 バイト列の範囲からRequestIdを生成する
+     */
+    public static Result<RequestId> fromUtf8(byte[] bytes, int offset, int length) {
+        return fromChars(CharSequences.utf8(bytes, offset, length));
+    }
+
+    /**
+     * ByteBuffer の position から limit までの UTF-8 バイト列からRequestIdを生成する (position は変更しない)
+     */
+    public static Result<RequestId> fromUtf8(ByteBuffer buffer) {
+        return fromChars(CharSequences.utf8(buffer));
+    }
+
+    // 標準形式 (8-4-4-4-12) の解析。形式が異なる場合は null
+    private static UUID parseCanonical(CharSequence s) {
+        if (s.length() != CANONICAL_LENGTH
+                || s.charAt(8) != '-' || s.charAt(13) != '-' || s.charAt(18) != '-' || s.charAt(23) != '-') {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        // 不正な文字は -1 になるため、OR で集めて最後に1回だけ判定する
+        long invalid = 0;
+        for (int i = 0; i < 18; i++) {
+            if (i == 8 || i == 13) {
+                continue;
+            }
+            long d = hex(s.charAt(i));
+            invalid |= d;
+            msb = (msb << 4) | (d & 0xF);
+        }
+        for (int i = 19; i < CANONICAL_LENGTH; i++) {
+            if (i == 23) {
+                continue;
+            }
+            long d = hex(s.charAt(i));
+            invalid |= d;
+            lsb = (lsb << 4) | (d & 0xF);
+        }
+        return invalid < 0 ? null : new UUID(msb, lsb);
+    }
+
+    private static long hex(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int lower = c | 0x20;
+        if (lower >= 'a' && lower <= 'f') {
+            return lower - 'a' + 10;
+        }
+        return -1;
     }
 
     // 文字列表現を返す便宜メソッド
@@ -0,0 +1,139 @@
+package com.sqlcanvas.sharedkernel.shared.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 等しい値を1つのインスタンスに集約する、上限付き・スレッドセーフなインターナー。
+ * <pre>{@code
+ * WeakInterner<Email> interner = new WeakInterner<>(1 << 20);
+ * Email email = interner.intern(candidate);   // 等しいインスタンスが既にあればそれを返す
+ * }</pre>
+ * <ul>
+ *   <li>登録したインスタンスは弱参照で保持するため、他から参照されなくなれば GC で回収され、表からも消えます。</li>
+ *   <li>表は値のハッシュ値で複数のセグメントに分割しており、ロックの競合はセグメント単位です。</li>
+ *   <li>登録数が上限に達している間は新しい値を登録せず、引数をそのまま返します (結果の正しさは変わりません)。</li>
+ * </ul>
+ * <p>
+ * 値は不変で、{@code equals} / {@code hashCode} が正しく実装されている必要があります。
+ * </p>
+ *
+ * @param <T> インターンする値の型
+ */
+public final class WeakInterner<T> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<T>[] segments;
+    private final int mask;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 登録数の上限を指定して生成します。
+     */
+    @SuppressWarnings("unchecked")
+    public WeakInterner(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        int count = Integer.highestOneBit(Math.min(maxSize, MAX_SEGMENTS));
+        int perSegment = (int) Math.ceil((double) maxSize / count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+        this.mask = count - 1;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 値と等しい登録済みのインスタンスを返します。なければ値を登録して、値そのものを返します。
+     */
+    public T intern(T sample) {
+        Objects.requireNonNull(sample);
+        int h = sample.hashCode();
+        Segment<T> segment = segments[(h ^ (h >>> 16)) & mask];
+        T canonical;
+        synchronized (segment) {
+            canonical = segment.lookup(sample);
+            if (canonical == null && !segment.tryAdd(sample)) {
+                rejected.increment();
+                return sample;
+            }
+        }
+        if (canonical != null) {
+            hits.increment();
+            return canonical;
+        }
+        misses.increment();
+        return sample;
+    }
+
+    /**
+     * 現在の統計情報を返します。
+     */
+    public Stats stats() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), rejected.sum(), size, maxSize);
+    }
+
+    /**
+     * インターナーの統計情報。
+     *
+     * @param hits     既存のインスタンスを返した回数
+     * @param misses   新しく登録した回数
+     * @param rejected 上限に達していたため登録しなかった回数
+     * @param size     現在の登録数 (回収済みの値を除く)
+     * @param maxSize  登録数の上限
+     */
+    public record Stats(long hits, long misses, long rejected, int size, int maxSize) {
+
+        /**
+         * 既存のインスタンスを返せた割合 (呼び出しがない場合は 0)。
+         */
+        public double hitRate() {
+            long total = hits + misses + rejected;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    // 値そのものをキーにし、同じ値への弱参照を値に持つ (キーも弱参照なので表が値を生かし続けることはない)
+    private static final class Segment<T> {
+
+        private final WeakHashMap<T, WeakReference<T>> table = new WeakHashMap<>();
+        private final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        T lookup(T sample) {
+            WeakReference<T> ref = table.get(sample);
+            return ref != null ? ref.get() : null;
+        }
+
+        boolean tryAdd(T sample) {
+            // size() は回収済みのエントリを取り除いてから数える
+            if (table.size() >= capacity) {
+                return false;
+            }
+            table.put(sample, new WeakReference<>(sample));
+            return true;
+        }
+
+        int size() {
+            return table.size();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.sqlcanvas.sharedkernel.shared.validation;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 大量レコードを ForkJoinPool 上で並列に検証するエンジン。
+ * <p>
+ * 入力を固定サイズのチャンクに区切って読み込み、チャンク単位で並列検証した後、
+ * 結果を入力と同じ順序で呼び出し元へ流します。
+ * 同時に保持するのは 1チャンク分の入力と結果だけなので、入力件数に関わらずメモリ使用量は一定です。
+ * </p>
+ * <pre>{@code
+ * var validator = BulkValidator.of((CsvRow row) -> Validation.combine(
+ *         Email.of(row.email()), PhoneNumber.of(row.phone()), Contact::new));
+ * BulkValidator.Stats stats = validator.validateFailures(rows.iterator(),
+ *         (failure, row) -> report.add(row, failure.message()));
+ * }</pre>
+ *
+ * @param <I> 入力レコードの型
+ * @param <O> 検証成功時の値の型
+ */
+@Slf4j
+public final class BulkValidator<I, O> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8_192;
+
+    // これ以下の件数は分割せずに1タスクで処理する
+    private static final int MIN_SPLIT_SIZE = 256;
+
+    private final Function<? super I, Result<O>> validator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private BulkValidator(Function<? super I, Result<O>> validator, ForkJoinPool pool, int chunkSize) {
+        this.validator = Objects.requireNonNull(validator);
+        this.pool = Objects.requireNonNull(pool);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 共通プール ({@link ForkJoinPool#commonPool()}) で動作するエンジンを生成します。
+     */
+    public static <I, O> BulkValidator<I, O> of(Function<? super I, Result<O>> validator) {
+        return new BulkValidator<>(validator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 1チャンクあたりの件数を変更したエンジンを返します。
+     */
+    public BulkValidator<I, O> withChunkSize(int chunkSize) {
+        return new BulkValidator<>(validator, pool, chunkSize);
+    }
+
+    /**
+     * 検証に使用するプールを変更したエンジンを返します。
+     */
+    public BulkValidator<I, O> withPool(ForkJoinPool pool) {
+        return new BulkValidator<>(validator, pool, chunkSize);
+    }
+
+    /**
+     * 全行を検証し、行ごとの Result を入力順に sink へ渡します。
+     */
+    public Stats validate(Iterator<? extends I> source, Consumer<? super Result<O>> sink) {
+        Objects.requireNonNull(sink);
+        return run(source, (result, row) -> sink.accept(result));
+    }
+
+    /**
+     * 全行を検証し、失敗した行だけを行番号 (0始まり) と共に入力順で sink へ渡します。
+     * インポート時のエラーレポート作成を想定しています。
+     */
+    public Stats validateFailures(Iterator<? extends I> source, ObjLongConsumer<? super Result.Failure<O>> sink) {
+        Objects.requireNonNull(sink);
+        return run(source, (result, row) -> {
+            if (result instanceof Result.Failure<O> f) {
+                sink.accept(f, row);
+            }
+        });
+    }
+
+    // --- Internal ---
+
+    @SuppressWarnings("unchecked")
+    private Stats run(Iterator<? extends I> source, ObjLongConsumer<Result<O>> emitter) {
+        Objects.requireNonNull(source);
+
+        // チャンク用バッファは使い回す (メモリ使用量の上限 = chunkSize 件分)
+        Object[] inputs = new Object[chunkSize];
+        Result<?>[] results = new Result<?>[chunkSize];
+
+        long start = System.nanoTime();
+        long rows = 0;
+        long failures = 0;
+        long chunks = 0;
+
+        while (source.hasNext()) {
+            int size = 0;
+            while (size < chunkSize && source.hasNext()) {
+                inputs[size++] = source.next();
+            }
+
+            pool.invoke(new ChunkTask(inputs, results, 0, size, splitSize(size)));
+            chunks++;
+
+            for (int i = 0; i < size; i++) {
+                Result<O> result = (Result<O>) results[i];
+                if (result.isFailure()) {
+                    failures++;
+                }
+                emitter.accept(result, rows + i);
+                // 参照を残さず、次のチャンク読み込み前に GC 可能にする
+                inputs[i] = null;
+                results[i] = null;
+            }
+            rows += size;
+        }
+
+        Stats stats = new Stats(rows, failures, chunks, Duration.ofNanos(System.nanoTime() - start));
+        log.debug("Bulk validation finished: {}", stats);
+        return stats;
+    }
+
+    private int splitSize(int size) {
+        // ワーカー数の数倍に分割し、行ごとの処理時間のばらつきをワークスティーリングで吸収する
+        int target = size / (pool.getParallelism() * 4);
+        return Math.max(MIN_SPLIT_SIZE, target);
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+
+        private final Object[] inputs;
+        private final Result<?>[] results;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+
+        ChunkTask(Object[] inputs, Result<?>[] results, int from, int to, int splitSize) {
+            this.inputs = inputs;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= splitSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = Objects.requireNonNull(validator.apply((I) inputs[i]), "validator returned null");
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ChunkTask(inputs, results, from, mid, splitSize),
+                    new ChunkTask(inputs, results, mid, to, splitSize)
+            );
+        }
+    }
+
+    /**
+     * 一括検証の統計情報。
+     *
+     * @param rows     検証した行数
+     * @param failures 失敗した行数
+     * @param chunks   処理したチャンク数
+     * @param elapsed  所要時間
+     */
+    public record Stats(long rows, long failures, long chunks, Duration elapsed) {
+
+        public long successes() {
+            return rows - failures;
+        }
+
+        /**
+         * 1秒あたりの処理行数。
+         */
+        public double rowsPerSecond() {
+            long nanos = elapsed.toNanos();
+            return nanos == 0 ? 0.0 : rows * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.sqlcanvas.sharedkernel.shared.validation;
 
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.ErrorDetail;
+import com.sqlcanvas.sharedkernel.shared.result.FailureReason;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -19,14 +21,23 @@ public class Validation {
     // インスタンス化禁止
     private Validation() {}
 
+    /*
+     * 失敗時は、代表コード INVALID_PARAMETER を持つ Result.Failure を返す。
+     * 個々のエラーは ErrorDetail (コード・項目パス・メッセージ) として FailureReason に保持し、
+     * message() が呼ばれた時点で初めて改行区切りの文字列に組み立てる。
+     */
+
+    // --- Applicative Builder ---
+
     /**
-     * エラー情報のリストを持つResultのFailure型定義（便宜用）
-     * 通常のResult.Failureは単一エラーだが、バリデーション結果は複数エラーになりうるため。
-     * ここではシンプルに、最初のエラーコードを代表としつつ、メッセージに全エラーを含める簡易実装とするか、
-     * 専用のValidationError型を返す設計が考えられる。
-     * * 今回は「my-shared-kernel」の既存Result型を壊さないよう、
-     * 「失敗時は List<String> メッセージを持つ Result.Failure」を生成する戦略をとる。
+     * 任意個 (最大16個) の Result をまとめるビルダーを開始します。
+     * <pre>{@code
+     * Validation.of(r1).and(r2).and(r3).apply((v1, v2, v3) -> ...);
+     * }</pre>
      */
+    public static <T1> ValidationBuilder.Builder1<T1> of(Result<T1> r1) {
+        return new ValidationBuilder.Builder1<>(r1);
+    }
 
     // --- Combine 2 Results ---
     public static <T1, T2, R> Result<R> combine(
@@ -34,16 +45,7 @@ public class Validation {
             Result<T2> r2,
             BiFunction<T1, T2, R> combiner
     ) {
-        List<String> errors = new ArrayList<>();
-        if (r1 instanceof Result.Failure<T1> f) errors.add(formatError(f));
-        if (r2 instanceof Result.Failure<T2> f) errors.add(formatError(f));
-
-        if (!errors.isEmpty()) {
-            return createFailure(errors);
-        }
-
-        // 全て成功 (unwrapは安全)
-        return Result.success(combiner.apply(r1.unwrap(), r2.unwrap()));
+        return of(r1).and(r2).apply(combiner);
     }
 
     // --- Combine 3 Results ---
@@ -53,30 +55,54 @@ public class Validation {
             Result<T3> r3,
             TriFunction<T1, T2, T3, R> combiner
     ) {
-        List<String> errors = new ArrayList<>();
-        if (r1 instanceof Result.Failure<T1> f) errors.add(formatError(f));
-        if (r2 instanceof Result.Failure<T2> f) errors.add(formatError(f));
-        if (r3 instanceof Result.Failure<T3> f) errors.add(formatError(f));
+        return of(r1).and(r2).and(r3).apply(combiner);
+    }
 
-        if (!errors.isEmpty()) {
-            return createFailure(errors);
-        }
+    // --- Field Path ---
 
-        return Result.success(combiner.apply(r1.unwrap(), r2.unwrap(), r3.unwrap()));
+    /**
+     * 失敗時のエラー明細に項目パスを付与します。成功時はそのまま返します。
+     * <pre>{@code
+     * Validation.of(Validation.field("email", Email.of(email)))
+     *         .and(Validation.field("address", address))   // 入れ子は "address.postalCode" になる
+     *         .apply(User::new);
+     * }</pre>
+     */
+    public static <T> Result<T> field(String path, Result<T> result) {
+        Objects.requireNonNull(path);
+        if (!(result instanceof Result.Failure<T> f)) {
+            return result;
+        }
+        List<ErrorDetail> errors = f.errors();
+        List<ErrorDetail> renamed = new ArrayList<>(errors.size());
+        for (ErrorDetail detail : errors) {
+            renamed.add(detail.withParentField(path));
+        }
+        return Result.failureWith(f.errorCode(), FailureReason.of(renamed));
     }
 
     // --- Helper Methods & Interfaces ---
 
-    private static String formatError(Result.Failure<?> failure) {
-        // 例: "[INVALID_PARAMETER] メールアドレスが不正です"
-        return "[" + failure.errorCode().getCode() + "] " + failure.message();
-    }
-
-    private static <R> Result<R> createFailure(List<String> errors) {
-        // 複数のエラーがある場合、代表として INVALID_PARAMETER を返しつつ、
-        // メッセージには改行区切りで全てのエラーを含める
-        String combinedMessage = String.join("\n", errors);
-        return Result.failure(CommonErrorCode.INVALID_PARAMETER, combinedMessage);
+    /**
+     * 失敗が1つ以上含まれていることが確定した後に呼び出し、全てのエラーを収集します。
+     * エラー格納用のリストは最初の失敗を見つけた時点で初めて確保します。
+     * メッセージ文字列はここでは組み立てません。
+     */
+    static <R> Result<R> collectFailures(Result<?>... results) {
+        List<ErrorDetail> errors = null;
+        for (Result<?> result : results) {
+            if (result instanceof Result.Failure<?> f) {
+                if (errors == null) {
+                    errors = new ArrayList<>(results.length);
+                }
+                errors.addAll(f.errors());
+            }
+        }
+        if (errors == null) {
+            throw new IllegalStateException("collectFailures() called without any failure");
+        }
+        // 複数のエラーがある場合も、代表として INVALID_PARAMETER を返す
+        return Result.failureWith(CommonErrorCode.INVALID_PARAMETER, FailureReason.of(errors));
     }
 
     // Java標準にない 3引数のFunction
@@ -84,4 +110,71 @@ public class Validation {
     public interface TriFunction<T1, T2, T3, R> {
         R apply(T1 t1, T2 t2, T3 t3);
     }
+
+    // --- 4引数以上の Function (ValidationBuilder 用) ---
+
+    @FunctionalInterface
+    public interface Function4<T1, T2, T3, T4, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+    }
+
+    @FunctionalInterface
+    public interface Function5<T1, T2, T3, T4, T5, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+    }
+
+    @FunctionalInterface
+    public interface Function6<T1, T2, T3, T4, T5, T6, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
+    }
+
+    @FunctionalInterface
+    public interface Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
+    }
+
+    @FunctionalInterface
+    public interface Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+    }
+
+    @FunctionalInterface
+    public interface Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9);
+    }
+
+    @FunctionalInterface
+    public interface Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10);
+    }
+
+    @FunctionalInterface
+    public interface Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11);
+    }
+
+    @FunctionalInterface
+    public interface Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12);
+    }
+
+    @FunctionalInterface
+    public interface Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13);
+    }
+
+    @FunctionalInterface
+    public interface Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14);
+    }
+
+    @FunctionalInterface
+    public interface Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15);
+    }
+
+    @FunctionalInterface
+    public interface Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> {
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12, T13 t13, T14 t14, T15 t15, T16 t16);
+    }
 }
\ No newline at end of file
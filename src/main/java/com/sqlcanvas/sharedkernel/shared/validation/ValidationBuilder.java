@@ -0,0 +1,922 @@
+package com.sqlcanvas.sharedkernel.shared.validation;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * {@link Validation#of(Result)} から始まるアプリカティブ・ビルダー (最大16個)。
+ * <pre>{@code
+ * Result<User> user = Validation.of(Email.of(email))
+ *         .and(PhoneNumber.of(phone))
+ *         .and(PostalCode.of(zip))
+ *         .apply(User::new);
+ * }</pre>
+ * <p>
+ * 各ビルダーは Result の参照を保持するだけの不変オブジェクトです。
+ * 全て成功した場合は、生成される Result 以外に何も割り当てません
+ * (ビルダー自体はメソッドチェーン内で完結するため、JIT のエスケープ解析で除去されます)。
+ * エラーの収集領域は失敗が1つでもあった場合にのみ確保されます。
+ * </p>
+ */
+public final class ValidationBuilder {
+
+    // インスタンス化禁止
+    private ValidationBuilder() {}
+
+    public static final class Builder1<T1> {
+
+        private final Result<T1> r1;
+
+        Builder1(Result<T1> r1) {
+            this.r1 = Objects.requireNonNull(r1);
+        }
+
+        public <T2> Builder2<T1, T2> and(Result<T2> r2) {
+            return new Builder2<>(r1, r2);
+        }
+
+        public <R> Result<R> apply(Function<T1, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1) {
+                return Result.success(combiner.apply(s1.value()));
+            }
+            return Validation.collectFailures(r1);
+        }
+    }
+
+    public static final class Builder2<T1, T2> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+
+        Builder2(Result<T1> r1, Result<T2> r2) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+        }
+
+        public <T3> Builder3<T1, T2, T3> and(Result<T3> r3) {
+            return new Builder3<>(r1, r2, r3);
+        }
+
+        public <R> Result<R> apply(BiFunction<T1, T2, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2) {
+                return Result.success(combiner.apply(s1.value(), s2.value()));
+            }
+            return Validation.collectFailures(r1, r2);
+        }
+    }
+
+    public static final class Builder3<T1, T2, T3> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+
+        Builder3(Result<T1> r1, Result<T2> r2, Result<T3> r3) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+        }
+
+        public <T4> Builder4<T1, T2, T3, T4> and(Result<T4> r4) {
+            return new Builder4<>(r1, r2, r3, r4);
+        }
+
+        public <R> Result<R> apply(Validation.TriFunction<T1, T2, T3, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3) {
+                return Result.success(combiner.apply(s1.value(), s2.value(), s3.value()));
+            }
+            return Validation.collectFailures(r1, r2, r3);
+        }
+    }
+
+    public static final class Builder4<T1, T2, T3, T4> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+
+        Builder4(Result<T1> r1, Result<T2> r2, Result<T3> r3, Result<T4> r4) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+        }
+
+        public <T5> Builder5<T1, T2, T3, T4, T5> and(Result<T5> r5) {
+            return new Builder5<>(r1, r2, r3, r4, r5);
+        }
+
+        public <R> Result<R> apply(Validation.Function4<T1, T2, T3, T4, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4) {
+                return Result.success(combiner.apply(s1.value(), s2.value(), s3.value(), s4.value()));
+            }
+            return Validation.collectFailures(r1, r2, r3, r4);
+        }
+    }
+
+    public static final class Builder5<T1, T2, T3, T4, T5> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+
+        Builder5(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+        }
+
+        public <T6> Builder6<T1, T2, T3, T4, T5, T6> and(Result<T6> r6) {
+            return new Builder6<>(r1, r2, r3, r4, r5, r6);
+        }
+
+        public <R> Result<R> apply(Validation.Function5<T1, T2, T3, T4, T5, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value()
+                ));
+            }
+            return Validation.collectFailures(r1, r2, r3, r4, r5);
+        }
+    }
+
+    public static final class Builder6<T1, T2, T3, T4, T5, T6> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+
+        Builder6(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+        }
+
+        public <T7> Builder7<T1, T2, T3, T4, T5, T6, T7> and(Result<T7> r7) {
+            return new Builder7<>(r1, r2, r3, r4, r5, r6, r7);
+        }
+
+        public <R> Result<R> apply(Validation.Function6<T1, T2, T3, T4, T5, T6, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value()
+                ));
+            }
+            return Validation.collectFailures(r1, r2, r3, r4, r5, r6);
+        }
+    }
+
+    public static final class Builder7<T1, T2, T3, T4, T5, T6, T7> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+
+        Builder7(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+        }
+
+        public <T8> Builder8<T1, T2, T3, T4, T5, T6, T7, T8> and(Result<T8> r8) {
+            return new Builder8<>(r1, r2, r3, r4, r5, r6, r7, r8);
+        }
+
+        public <R> Result<R> apply(Validation.Function7<T1, T2, T3, T4, T5, T6, T7, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value()
+                ));
+            }
+            return Validation.collectFailures(r1, r2, r3, r4, r5, r6, r7);
+        }
+    }
+
+    public static final class Builder8<T1, T2, T3, T4, T5, T6, T7, T8> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+
+        Builder8(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+        }
+
+        public <T9> Builder9<T1, T2, T3, T4, T5, T6, T7, T8, T9> and(Result<T9> r9) {
+            return new Builder9<>(r1, r2, r3, r4, r5, r6, r7, r8, r9);
+        }
+
+        public <R> Result<R> apply(Validation.Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value()
+                ));
+            }
+            return Validation.collectFailures(r1, r2, r3, r4, r5, r6, r7, r8);
+        }
+    }
+
+    public static final class Builder9<T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+
+        Builder9(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+        }
+
+        public <T10> Builder10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> and(Result<T10> r10) {
+            return new Builder10<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10);
+        }
+
+        public <R> Result<R> apply(Validation.Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9);
+        }
+    }
+
+    public static final class Builder10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+
+        Builder10(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+        }
+
+        public <T11> Builder11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> and(Result<T11> r11) {
+            return new Builder11<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11);
+        }
+
+        public <R> Result<R> apply(Validation.Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10);
+        }
+    }
+
+    public static final class Builder11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+
+        Builder11(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+        }
+
+        public <T12> Builder12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> and(Result<T12> r12) {
+            return new Builder12<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12);
+        }
+
+        public <R> Result<R> apply(Validation.Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11);
+        }
+    }
+
+    public static final class Builder12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+        private final Result<T12> r12;
+
+        Builder12(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11,
+                Result<T12> r12
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+            this.r12 = Objects.requireNonNull(r12);
+        }
+
+        public <T13> Builder13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> and(Result<T13> r13) {
+            return new Builder13<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12, r13);
+        }
+
+        public <R> Result<R> apply(Validation.Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11
+                    && r12 instanceof Result.Success<T12> s12) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value(), s12.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11, r12);
+        }
+    }
+
+    public static final class Builder13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+        private final Result<T12> r12;
+        private final Result<T13> r13;
+
+        Builder13(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11,
+                Result<T12> r12,
+                Result<T13> r13
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+            this.r12 = Objects.requireNonNull(r12);
+            this.r13 = Objects.requireNonNull(r13);
+        }
+
+        public <T14> Builder14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> and(Result<T14> r14) {
+            return new Builder14<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12, r13, r14);
+        }
+
+        public <R> Result<R> apply(Validation.Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11
+                    && r12 instanceof Result.Success<T12> s12
+                    && r13 instanceof Result.Success<T13> s13) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value(), s12.value(),
+                        s13.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11, r12, r13);
+        }
+    }
+
+    public static final class Builder14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+        private final Result<T12> r12;
+        private final Result<T13> r13;
+        private final Result<T14> r14;
+
+        Builder14(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11,
+                Result<T12> r12,
+                Result<T13> r13,
+                Result<T14> r14
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+            this.r12 = Objects.requireNonNull(r12);
+            this.r13 = Objects.requireNonNull(r13);
+            this.r14 = Objects.requireNonNull(r14);
+        }
+
+        public <T15> Builder15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> and(Result<T15> r15) {
+            return new Builder15<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12, r13, r14, r15);
+        }
+
+        public <R> Result<R> apply(Validation.Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11
+                    && r12 instanceof Result.Success<T12> s12
+                    && r13 instanceof Result.Success<T13> s13
+                    && r14 instanceof Result.Success<T14> s14) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value(), s12.value(),
+                        s13.value(), s14.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11, r12, r13, r14);
+        }
+    }
+
+    public static final class Builder15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+        private final Result<T12> r12;
+        private final Result<T13> r13;
+        private final Result<T14> r14;
+        private final Result<T15> r15;
+
+        Builder15(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11,
+                Result<T12> r12,
+                Result<T13> r13,
+                Result<T14> r14,
+                Result<T15> r15
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+            this.r12 = Objects.requireNonNull(r12);
+            this.r13 = Objects.requireNonNull(r13);
+            this.r14 = Objects.requireNonNull(r14);
+            this.r15 = Objects.requireNonNull(r15);
+        }
+
+        public <T16> Builder16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> and(Result<T16> r16) {
+            return new Builder16<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12, r13, r14, r15, r16);
+        }
+
+        public <R> Result<R> apply(Validation.Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11
+                    && r12 instanceof Result.Success<T12> s12
+                    && r13 instanceof Result.Success<T13> s13
+                    && r14 instanceof Result.Success<T14> s14
+                    && r15 instanceof Result.Success<T15> s15) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value(), s12.value(),
+                        s13.value(), s14.value(), s15.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11, r12, r13, r14, r15);
+        }
+    }
+
+    public static final class Builder16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> {
+
+        private final Result<T1> r1;
+        private final Result<T2> r2;
+        private final Result<T3> r3;
+        private final Result<T4> r4;
+        private final Result<T5> r5;
+        private final Result<T6> r6;
+        private final Result<T7> r7;
+        private final Result<T8> r8;
+        private final Result<T9> r9;
+        private final Result<T10> r10;
+        private final Result<T11> r11;
+        private final Result<T12> r12;
+        private final Result<T13> r13;
+        private final Result<T14> r14;
+        private final Result<T15> r15;
+        private final Result<T16> r16;
+
+        Builder16(
+                Result<T1> r1,
+                Result<T2> r2,
+                Result<T3> r3,
+                Result<T4> r4,
+                Result<T5> r5,
+                Result<T6> r6,
+                Result<T7> r7,
+                Result<T8> r8,
+                Result<T9> r9,
+                Result<T10> r10,
+                Result<T11> r11,
+                Result<T12> r12,
+                Result<T13> r13,
+                Result<T14> r14,
+                Result<T15> r15,
+                Result<T16> r16
+        ) {
+            this.r1 = Objects.requireNonNull(r1);
+            this.r2 = Objects.requireNonNull(r2);
+            this.r3 = Objects.requireNonNull(r3);
+            this.r4 = Objects.requireNonNull(r4);
+            this.r5 = Objects.requireNonNull(r5);
+            this.r6 = Objects.requireNonNull(r6);
+            this.r7 = Objects.requireNonNull(r7);
+            this.r8 = Objects.requireNonNull(r8);
+            this.r9 = Objects.requireNonNull(r9);
+            this.r10 = Objects.requireNonNull(r10);
+            this.r11 = Objects.requireNonNull(r11);
+            this.r12 = Objects.requireNonNull(r12);
+            this.r13 = Objects.requireNonNull(r13);
+            this.r14 = Objects.requireNonNull(r14);
+            this.r15 = Objects.requireNonNull(r15);
+            this.r16 = Objects.requireNonNull(r16);
+        }
+
+        public <R> Result<R> apply(Validation.Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner) {
+            Objects.requireNonNull(combiner);
+            if (r1 instanceof Result.Success<T1> s1
+                    && r2 instanceof Result.Success<T2> s2
+                    && r3 instanceof Result.Success<T3> s3
+                    && r4 instanceof Result.Success<T4> s4
+                    && r5 instanceof Result.Success<T5> s5
+                    && r6 instanceof Result.Success<T6> s6
+                    && r7 instanceof Result.Success<T7> s7
+                    && r8 instanceof Result.Success<T8> s8
+                    && r9 instanceof Result.Success<T9> s9
+                    && r10 instanceof Result.Success<T10> s10
+                    && r11 instanceof Result.Success<T11> s11
+                    && r12 instanceof Result.Success<T12> s12
+                    && r13 instanceof Result.Success<T13> s13
+                    && r14 instanceof Result.Success<T14> s14
+                    && r15 instanceof Result.Success<T15> s15
+                    && r16 instanceof Result.Success<T16> s16) {
+                return Result.success(combiner.apply(
+                        s1.value(), s2.value(), s3.value(), s4.value(),
+                        s5.value(), s6.value(), s7.value(), s8.value(),
+                        s9.value(), s10.value(), s11.value(), s12.value(),
+                        s13.value(), s14.value(), s15.value(), s16.value()
+                ));
+            }
+            return Validation.collectFailures(
+                    r1, r2, r3, r4, r5, r6, r7, r8,
+                    r9, r10, r11, r12, r13, r14, r15, r16);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 通貨付きの金額を表す Value Object。
+ * <p>
+ * 金額は補助単位 (JPY なら円、USD ならセント) の {@code long}、通貨は {@link CurrencyUnit} の番号 ({@code short}) で保持します。
+ * 通貨の桁数やコードは {@link CurrencyUnit} の表から引くため、インスタンスは {@code long + short} 分の大きさしか持ちません。
+ * 異なる通貨同士の計算は Failure になります。
+ * </p>
+ * <p>
+ * 通貨の番号は JVM ごとに異なるため公開しません。生成は {@link CurrencyUnit} を受け取るファクトリー、
+ * 通貨の取得は {@link #currency()} で行います。
+ * </p>
+ */
+public final class CurrencyMoney implements ValueObject, Comparable<CurrencyMoney> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // 補助単位での金額 (0以上)
+    private final long minorUnits;
+
+    // 通貨の番号 (CurrencyUnit#id())
+    private final short currencyId;
+
+    private CurrencyMoney(long minorUnits, short currencyId) {
+        this.minorUnits = minorUnits;
+        this.currencyId = currencyId;
+    }
+
+    // --- Factories ---
+
+    public static CurrencyMoney zero(CurrencyUnit currency) {
+        return new CurrencyMoney(0, currency.id());
+    }
+
+    /**
+     * 補助単位の金額から生成します。例: {@code ofMinor(1234, USD)} は USD 12.34
+     */
+    public static Result<CurrencyMoney> ofMinor(long minorUnits, CurrencyUnit currency) {
+        Objects.requireNonNull(currency);
+        if (minorUnits < 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "金額は0以上である必要があります");
+        }
+        return Result.success(new CurrencyMoney(minorUnits, currency.id()));
+    }
+
+    /**
+     * {@link Money} (補助単位の金額) に通貨を付けて生成します。
+     */
+    public static CurrencyMoney of(Money money, CurrencyUnit currency) {
+        return new CurrencyMoney(money.amount(), currency.id());
+    }
+
+    /**
+     * 主単位の金額から生成します。例: {@code of(new BigDecimal("12.34"), USD)}
+     * 通貨の桁数を超える端数がある場合は Failure を返します。
+     */
+    public static Result<CurrencyMoney> of(BigDecimal amount, CurrencyUnit currency) {
+        Objects.requireNonNull(currency);
+        if (amount == null || amount.signum() < 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "金額は0以上である必要があります");
+        }
+        try {
+            long minor = amount.movePointRight(currency.fractionDigits()).longValueExact();
+            return Result.success(new CurrencyMoney(minor, currency.id()));
+        } catch (ArithmeticException e) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER,
+                    "{} の金額として表せません: {}", currency.code(), amount);
+        }
+    }
+
+    // --- Accessors ---
+
+    /**
+     * 補助単位での金額 (0以上)
+     */
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public CurrencyUnit currency() {
+        return CurrencyUnit.byId(currencyId);
+    }
+
+    /**
+     * 補助単位の金額を {@link Money} として返します。
+     */
+    public Money money() {
+        return Money.valueOf(minorUnits);
+    }
+
+    /**
+     * 主単位の金額を返します。例: USD 1234 セント → 12.34
+     */
+    public BigDecimal toMajor() {
+        return BigDecimal.valueOf(minorUnits, currency().fractionDigits());
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    // --- Business Logic ---
+
+    public Result<CurrencyMoney> add(CurrencyMoney other) {
+        if (other.currencyId != currencyId) {
+            return currencyMismatch(other);
+        }
+        long sum = minorUnits + other.minorUnits;
+        if (sum < 0) {
+            return Result.failure(CommonErrorCode.SYSTEM_ERROR, "金額の計算でオーバーフローが発生しました");
+        }
+        return Result.success(new CurrencyMoney(sum, currencyId));
+    }
+
+    public Result<CurrencyMoney> subtract(CurrencyMoney other) {
+        if (other.currencyId != currencyId) {
+            return currencyMismatch(other);
+        }
+        if (minorUnits < other.minorUnits) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "残高不足です");
+        }
+        return Result.success(new CurrencyMoney(minorUnits - other.minorUnits, currencyId));
+    }
+
+    /**
+     * 比較します。異なる通貨同士の場合は Failure を返します。
+     */
+    public Result<Boolean> isGreaterThan(CurrencyMoney other) {
+        if (other.currencyId != currencyId) {
+            return currencyMismatch(other);
+        }
+        return Result.success(minorUnits > other.minorUnits);
+    }
+
+    /**
+     * 通貨コード順、同じ通貨内では金額順に並べます (ソート用)。
+     */
+    @Override
+    public int compareTo(CurrencyMoney other) {
+        if (other.currencyId != currencyId) {
+            return currency().code().compareTo(other.currency().code());
+        }
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private <T> Result<T> currencyMismatch(CurrencyMoney other) {
+        return Result.failure(CommonErrorCode.INVALID_PARAMETER, "通貨が一致しません: {} と {}",
+                currency(), other.currency());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CurrencyMoney other
+                && minorUnits == other.minorUnits && currencyId == other.currencyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currencyId;
+    }
+
+    @Override
+    public String toString() {
+        return currency().code() + " " + toMajor().toPlainString();
+    }
+
+    // --- Serialization (番号は JVM ごとに異なるため、ValueObjectCodec の形式で通貨コードとともに直列化する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedValueObject required");
+    }
+}
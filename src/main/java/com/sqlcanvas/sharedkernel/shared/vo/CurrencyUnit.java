@@ -0,0 +1,131 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 通貨 (ISO 4217 コードと補助単位の桁数)。
+ * <p>
+ * インスタンスは通貨コードごとに1つだけ生成され (インターン)、登録順の番号 ({@link #id()}) で
+ * 表引きできます。{@link CurrencyMoney} は通貨そのものではなくこの番号だけを保持するため、
+ * 金額ごとに通貨情報を持ち歩いたり検索したりする必要がありません。
+ * </p>
+ */
+public final class CurrencyUnit {
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, CurrencyUnit> BY_CODE = new ConcurrentHashMap<>();
+
+    // id で引くための表 (追加時はコピーして差し替える)
+    private static volatile CurrencyUnit[] byId = new CurrencyUnit[0];
+
+    public static final CurrencyUnit JPY = register(Currency.getInstance("JPY"));
+    public static final CurrencyUnit USD = register(Currency.getInstance("USD"));
+    public static final CurrencyUnit EUR = register(Currency.getInstance("EUR"));
+
+    private final short id;
+    private final String code;
+    private final int fractionDigits;
+
+    private CurrencyUnit(short id, String code, int fractionDigits) {
+        this.id = id;
+        this.code = code;
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * 通貨コード (例: "JPY") から通貨を返します。未知のコードの場合は Failure を返します。
+     */
+    public static Result<CurrencyUnit> of(String code) {
+        if (code == null) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "通貨コードは必須です");
+        }
+        CurrencyUnit unit = BY_CODE.get(code);
+        if (unit != null) {
+            return Result.success(unit);
+        }
+        Currency currency;
+        try {
+            currency = Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "未知の通貨コードです: {}", code);
+        }
+        if (currency.getDefaultFractionDigits() < 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "金額を持たない通貨コードです: {}", code);
+        }
+        return Result.success(register(currency));
+    }
+
+    /**
+     * 番号から通貨を返します。
+     *
+     * @throws IllegalArgumentException 未登録の番号の場合
+     */
+    static CurrencyUnit byId(short id) {
+        CurrencyUnit[] table = byId;
+        if (id < 0 || id >= table.length) {
+            throw new IllegalArgumentException("Unknown currency id: " + id);
+        }
+        return table[id];
+    }
+
+    private static CurrencyUnit register(Currency currency) {
+        synchronized (LOCK) {
+            CurrencyUnit existing = BY_CODE.get(currency.getCurrencyCode());
+            if (existing != null) {
+                return existing;
+            }
+            CurrencyUnit[] table = byId;
+            if (table.length == Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many currencies");
+            }
+            CurrencyUnit unit = new CurrencyUnit((short) table.length, currency.getCurrencyCode(),
+                    currency.getDefaultFractionDigits());
+            CurrencyUnit[] next = Arrays.copyOf(table, table.length + 1);
+            next[unit.id] = unit;
+            byId = next;
+            BY_CODE.put(unit.code, unit);
+            return unit;
+        }
+    }
+
+    /**
+     * 登録順の番号 (同じ JVM 内でのみ有効。永続化には {@link #code()} を使用してください)。
+     */
+    public short id() {
+        return id;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * 補助単位の桁数 (JPY: 0, USD: 2)。
+     */
+    public int fractionDigits() {
+        return fractionDigits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // インターンされているので同一性で判定できる
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(code);
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
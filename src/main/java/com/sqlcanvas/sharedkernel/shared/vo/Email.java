@@ -2,14 +2,20 @@ package com.sqlcanvas.sharedkernel.shared.vo;
 
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.CharSequences;
+import com.sqlcanvas.sharedkernel.shared.util.WeakInterner;
 
-import java.util.regex.Pattern;
+import java.io.Serial;
+import java.nio.ByteBuffer;
 
 public record Email(String value) implements ValueObject {
 
-    // 簡易的なメールアドレス形式チェック用正規表現
-    private static final String EMAIL_REGEX = "^[\\w!#$%&'*+/=?^`{|}~-]+(?:\\.[\\w!#$%&'*+/=?^`{|}~-]+)*@(?:[\\w](?:[\\w-]*[\\w])?\\.)+[\\w](?:[\\w-]*[\\w])?$";
-    private static final Pattern PATTERN = Pattern.compile(EMAIL_REGEX);
+    // 簡易的なメールアドレス形式チェック用正規表現 (仕様の参照用。検査自体は EmailSyntax で行う)
+    static final String EMAIL_REGEX = "^[\\w!#$%&'*+/=?^`{|}~-]+(?:\\.[\\w!#$%&'*+/=?^`{|}~-]+)*@(?:[\\w](?:[\\w-]*[\\w])?\\.)+[\\w](?:[\\w-]*[\\w])?$";
+
+    // canonical で使うインターナーの登録数の上限
+    static final String INTERN_MAX_PROPERTY = "sharedkernel.vo.email.intern.max";
+    static final int DEFAULT_INTERN_MAX = 1 << 20;
 
     public Email {
         if (value == null) {
@@ -18,12 +24,99 @@ public record Email(String value) implements ValueObject {
     }
 
     public static Result<Email> of(String value) {
-        if (value == null || value.isBlank()) {
+        return ofChars(value);
+    }
+
+    /**
+     * 任意の {@link CharSequence} (パーサーのバッファ上のビューなど) から生成します。
+     * 検査は String を生成せずに行い、成功した場合のみ {@code toString()} で値を確定します。
+     */
+    public static Result<Email> ofChars(CharSequence value) {
+        if (value == null || CharSequences.isBlank(value)) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "メールアドレスは必須です");
         }
-        if (!PATTERN.matcher(value).matches()) {
+        if (value.length() > EmailSyntax.MAX_LENGTH) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "メールアドレスが長すぎます");
+        }
+        if (!EmailSyntax.isValid(value)) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "メールアドレスの形式が不正です");
         }
-        return Result.success(new Email(value));
+        return Result.success(new Email(value.toString()));
+    }
+
+    /**
+     * UTF-8 バイト列の範囲から生成します。検査はバイト列上で行い、成功した場合のみ String を生成します。
+     */
+    public static Result<Email> ofUtf8(byte[] bytes, int offset, int length) {
+        return ofChars(CharSequences.utf8(bytes, offset, length));
+    }
+
+    /**
+     * ByteBuffer の position から limit までの UTF-8 バイト列から生成します (position は変更しません)。
+     */
+    public static Result<Email> ofUtf8(ByteBuffer buffer) {
+        return ofChars(CharSequences.utf8(buffer));
+    }
+
+    /**
+     * ドメイン部を小文字に正規化し、等しいアドレスを1つのインスタンスに集約して返します。
+     * <p>
+     * 大量のアドレスをメモリに保持して重複排除・照合する場合に使います。
+     * 返されるインスタンスは同じアドレスに対して (GC で回収されるまでは) 常に同一のため、
+     * {@code equals} は参照の比較で済みます。ローカル部は大文字・小文字を区別するためそのまま保持します。
+     * インターナーの登録数の上限はシステムプロパティ {@value #INTERN_MAX_PROPERTY} で変更できます
+     * (既定: {@value #DEFAULT_INTERN_MAX})。
+     * </p>
+     */
+    public static Result<Email> canonical(CharSequence value) {
+        return ofChars(value).map(email -> Interner.INSTANCE.intern(email.withLowerCaseDomain()));
+    }
+
+    /**
+     * {@link #canonical(CharSequence)} で使うインターナーの統計情報を返します。
+     */
+    public static WeakInterner.Stats internerStats() {
+        return Interner.INSTANCE.stats();
+    }
+
+    // ドメイン部を小文字にしたもの (大文字を含まない場合は自身)。検査済みのため ASCII のみ
+    private Email withLowerCaseDomain() {
+        int at = value.indexOf('@');
+        char[] chars = null;
+        for (int i = at + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null) {
+                    chars = value.toCharArray();
+                }
+                chars[i] = (char) (c | 0x20);
+            }
+        }
+        return chars == null ? this : new Email(new String(chars));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // canonical で集約したインスタンス同士は参照の比較だけで判定できる
+        return this == o || (o instanceof Email other && value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    // --- Serialization (ValueObjectCodec の形式で直列化する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    // canonical を使う場合のみ生成する
+    private static final class Interner {
+
+        static final WeakInterner<Email> INSTANCE =
+                new WeakInterner<>(Math.max(1, Integer.getInteger(INTERN_MAX_PROPERTY, DEFAULT_INTERN_MAX)));
     }
-}
\ No newline at end of file
+}
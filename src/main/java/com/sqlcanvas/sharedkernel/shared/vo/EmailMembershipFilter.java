@@ -0,0 +1,379 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * メールアドレスの重複チェックの前段で使う確率的なメンバーシップフィルター (スケーラブル Bloom フィルター)。
+ * <pre>{@code
+ * if (filter.mightContain(email) && repository.existsByEmail(email)) {
+ *     return Result.failure(CommonErrorCode.CONFLICT, "既に登録されています");
+ * }
+ * repository.save(user);
+ * filter.add(email);
+ * }</pre>
+ * <ul>
+ *   <li>{@link #mightContain} が {@code false} なら確実に未登録です (偽陰性はありません)。
+ *       {@code true} の場合のみ DB で確認してください (指定した確率で偽陽性があります)。</li>
+ *   <li>キーはドメイン部を小文字にしたアドレス ({@link Email#canonical} と同じ正規化) です。</li>
+ *   <li>追加数が想定件数を超えると、容量2倍・偽陽性率半分のステージを追加して拡張します。
+ *       そのため全体の偽陽性率は指定値を超えません。</li>
+ *   <li>{@link #add} と {@link #mightContain} は複数スレッドから同時に呼び出せます。</li>
+ *   <li>{@link #writeTo} / {@link #readFrom} でファイルに保存・復元でき、再起動後すぐに使えます。</li>
+ * </ul>
+ */
+public final class EmailMembershipFilter {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int MAGIC = 0x454D_4246; // "EMBF"
+    private static final int FORMAT_VERSION = 1;
+
+    // 拡張時のステージごとの偽陽性率の比率。Σ p(1-r)r^i = p となるよう、最初のステージは p(1-r) にする
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final int GROWTH_FACTOR = 2;
+
+    // 不正なファイルで巨大な配列・ループを作らないための上限 (容量は拡張ごとに2倍になるので、これ以上のステージは作られない)
+    private static final int MAX_STAGES = 64;
+    private static final int MAX_HASHES = 255;
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    // 読み込み時はビット配列をこの long 数ずつ広げる (実際に届いたデータ分しかメモリを使わない)
+    private static final int READ_CHUNK_WORDS = 1 << 16;
+
+    // ファイル先頭 (magic, version, expectedInsertions, falsePositiveRate, ステージ数) とステージ先頭のバイト数
+    private static final int HEADER_BYTES = 28;
+    private static final int STAGE_HEADER_BYTES = 32;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 拡張時のみ差し替える (copy-on-write)
+    private volatile Stage[] stages;
+
+    /**
+     * 想定件数と、全体の偽陽性率 (0 &lt; rate &lt; 1) を指定して生成します。
+     */
+    public EmailMembershipFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be greater than 0: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = new Stage[]{Stage.create(expectedInsertions, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    private EmailMembershipFilter(long expectedInsertions, double falsePositiveRate, Stage[] stages) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = stages;
+    }
+
+    // --- Operations ---
+
+    /**
+     * アドレスを追加します。既に含まれている可能性がある場合は何もせず {@code false} を返します。
+     */
+    public boolean add(Email email) {
+        long h1 = hash(email.value());
+        long h2 = mix(h1 + 0x9E37_79B9_7F4A_7C15L);
+        Stage[] current = stages;
+        for (Stage stage : current) {
+            if (stage.mightContain(h1, h2)) {
+                return false;
+            }
+        }
+        Stage last = current[current.length - 1];
+        last.put(h1, h2);
+        if (last.count.sum() >= last.capacity) {
+            grow(last);
+        }
+        return true;
+    }
+
+    /**
+     * アドレスが含まれている可能性があるかを判定します。{@code false} の場合は確実に含まれていません。
+     */
+    public boolean mightContain(Email email) {
+        long h1 = hash(email.value());
+        long h2 = mix(h1 + 0x9E37_79B9_7F4A_7C15L);
+        for (Stage stage : stages) {
+            if (stage.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 追加されたアドレスのおおよその件数 (偽陽性で追加されなかったものは含みません)。
+     */
+    public long approximateCount() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += stage.count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 現在のビット配列の合計サイズ (バイト)。
+     */
+    public long sizeInBytes() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += (long) stage.words.length * Long.BYTES;
+        }
+        return total;
+    }
+
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    private synchronized void grow(Stage full) {
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+        // 他のスレッドが既に拡張していれば何もしない
+        if (last != full) {
+            return;
+        }
+        Stage[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = Stage.create(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+        stages = next;
+    }
+
+    // --- Persistence ---
+
+    /**
+     * ファイルに保存します。並行して追加が行われている場合、その一部は含まれないことがあります。
+     */
+    public void writeTo(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            writeTo(out);
+        }
+    }
+
+    /**
+     * ストリームに書き出します (ストリームは閉じません)。
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        Stage[] snapshot = stages;
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(expectedInsertions);
+        data.writeDouble(falsePositiveRate);
+        data.writeInt(snapshot.length);
+        for (Stage stage : snapshot) {
+            data.writeLong(stage.capacity);
+            data.writeDouble(stage.falsePositiveRate);
+            data.writeInt(stage.hashes);
+            data.writeLong(stage.count.sum());
+            data.writeInt(stage.words.length);
+            for (int i = 0; i < stage.words.length; i++) {
+                data.writeLong((long) WORDS.getVolatile(stage.words, i));
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * {@link #writeTo(Path)} で保存したファイルから復元します。
+     */
+    public static EmailMembershipFilter readFrom(Path path) throws IOException {
+        long size = Files.size(path);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return readFrom(in, size);
+        }
+    }
+
+    /**
+     * {@link #writeTo(OutputStream)} で書き出したストリームから復元します。
+     */
+    public static EmailMembershipFilter readFrom(InputStream in) throws IOException {
+        return readFrom(in, Long.MAX_VALUE);
+    }
+
+    // size: 読み込めるバイト数の上限 (ファイルの場合はファイルサイズ)
+    private static EmailMembershipFilter readFrom(InputStream in, long size) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not an EmailMembershipFilter file");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported format version: " + version);
+        }
+        long expectedInsertions = data.readLong();
+        double falsePositiveRate = data.readDouble();
+        int stageCount = data.readInt();
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)
+                || stageCount <= 0 || stageCount > MAX_STAGES) {
+            throw new StreamCorruptedException("Invalid EmailMembershipFilter header");
+        }
+        long remaining = size - HEADER_BYTES;
+        // 各ステージの容量と偽陽性率はヘッダーから決まる (コンストラクター・grow と同じ計算)。
+        // ファイルに書かれた値はそれと一致する場合だけ受け付ける
+        long capacity = expectedInsertions;
+        double rate = falsePositiveRate * (1 - TIGHTENING_RATIO);
+        Stage[] stages = new Stage[stageCount];
+        for (int s = 0; s < stageCount; s++) {
+            if (s > 0) {
+                if (capacity > Long.MAX_VALUE / GROWTH_FACTOR) {
+                    throw new StreamCorruptedException("Invalid EmailMembershipFilter stage count: " + stageCount);
+                }
+                capacity *= GROWTH_FACTOR;
+                rate *= TIGHTENING_RATIO;
+            }
+            long expectedWords = wordsFor(capacity, rate);
+            if (expectedWords > MAX_WORDS) {
+                throw new StreamCorruptedException("EmailMembershipFilter stage is too large: capacity=" + capacity);
+            }
+            long storedCapacity = data.readLong();
+            double storedRate = data.readDouble();
+            int hashes = data.readInt();
+            long count = data.readLong();
+            int length = data.readInt();
+            if (storedCapacity != capacity || Double.compare(storedRate, rate) != 0
+                    || hashes <= 0 || hashes > MAX_HASHES || count < 0) {
+                throw new StreamCorruptedException("Invalid EmailMembershipFilter stage");
+            }
+            if (length != expectedWords) {
+                throw new StreamCorruptedException("EmailMembershipFilter stage size does not match its capacity: " + length);
+            }
+            remaining -= STAGE_HEADER_BYTES + (long) length * Long.BYTES;
+            if (remaining < 0) {
+                throw new StreamCorruptedException("EmailMembershipFilter file is truncated");
+            }
+            Stage stage = new Stage(capacity, rate, hashes, readWords(data, length));
+            stage.count.add(count);
+            stages[s] = stage;
+        }
+        return new EmailMembershipFilter(expectedInsertions, falsePositiveRate, stages);
+    }
+
+    // 一度に length 分を確保せず、読めた分だけ配列を広げる (途中で終わるストリームは EOFException)
+    private static long[] readWords(DataInputStream data, int length) throws IOException {
+        long[] words = new long[Math.min(length, READ_CHUNK_WORDS)];
+        for (int i = 0; i < length; i++) {
+            if (i == words.length) {
+                words = Arrays.copyOf(words, (int) Math.min(length, (long) words.length * 2));
+            }
+            words[i] = data.readLong();
+        }
+        return words;
+    }
+
+    // ステージのビット配列の long 数。読み込み時の検証にも使うため、実行環境で結果が変わらない StrictMath で計算する
+    static long wordsFor(long capacity, double falsePositiveRate) {
+        double m = -capacity * StrictMath.log(falsePositiveRate) / (StrictMath.log(2) * StrictMath.log(2));
+        return Math.max(1, (long) Math.ceil(m / Long.SIZE));
+    }
+
+    // --- Hashing ---
+
+    // ドメイン部の英大文字を小文字とみなして (Email#canonical と同じキーで) ハッシュ値を求める。
+    // FNV-1a で畳み込み、最後に攪拌する
+    static long hash(String address) {
+        long h = 0xCBF2_9CE4_8422_2325L;
+        boolean domain = false;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (domain && c >= 'A' && c <= 'Z') {
+                c = (char) (c | 0x20);
+            } else if (c == '@') {
+                domain = true;
+            }
+            h = (h ^ c) * 0x0100_0000_01B3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 の fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CE_B9FE_1A85_EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "EmailMembershipFilter[count=" + approximateCount() + ", stages=" + stages.length
+                + ", bytes=" + sizeInBytes() + "]";
+    }
+
+    // --- Stage (固定サイズの Bloom フィルター) ---
+
+    private static final class Stage {
+
+        final long capacity;
+        final double falsePositiveRate;
+        final int hashes;
+        final long[] words;
+        final long bits;
+        final LongAdder count = new LongAdder();
+
+        Stage(long capacity, double falsePositiveRate, int hashes, long[] words) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.hashes = hashes;
+            this.words = words;
+            this.bits = (long) words.length * Long.SIZE;
+        }
+
+        // 最適なビット数 m = -n ln p / (ln 2)^2、ハッシュ数 k = (m / n) ln 2
+        static Stage create(long capacity, double falsePositiveRate) {
+            long words = wordsFor(capacity, falsePositiveRate);
+            if (words > MAX_WORDS) {
+                throw new IllegalArgumentException("EmailMembershipFilter is too large: capacity=" + capacity
+                        + ", falsePositiveRate=" + falsePositiveRate);
+            }
+            long k = Math.round(words * Long.SIZE / (double) capacity * StrictMath.log(2));
+            int hashes = (int) Math.max(1, Math.min(MAX_HASHES, k));
+            return new Stage(capacity, falsePositiveRate, hashes, new long[(int) words]);
+        }
+
+
+        void put(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(combined, bits);
+                WORDS.getAndBitwiseOr(words, (int) (index >>> 6), 1L << index);
+                combined += h2;
+            }
+            count.increment();
+        }
+
+        boolean mightContain(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(combined, bits);
+                long word = (long) WORDS.getAcquire(words, (int) (index >>> 6));
+                if ((word & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+    }
+}
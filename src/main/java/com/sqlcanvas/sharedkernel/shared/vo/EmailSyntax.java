@@ -0,0 +1,105 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+/**
+ * メールアドレスの書式検査 (1パス・線形時間・割り当てなし)。
+ * <p>
+ * {@link Email#EMAIL_REGEX} と同じ言語を受理します。正規表現は入れ子の量指定子を含むため、
+ * 細工された長い入力でバックトラックが爆発することがありますが、こちらは各文字を1回ずつ見るだけです。
+ * </p>
+ * <pre>
+ * local  = atext+ ("." atext+)*
+ * domain = label ("." label)+
+ * label  = word | word (word | "-")* word
+ * word   = [A-Za-z0-9_]
+ * atext  = word | [!#$%&'*+/=?^`{|}~-]
+ * </pre>
+ */
+final class EmailSyntax {
+
+    /**
+     * 受け付ける最大長 (ローカル部 64 + "@" + ドメイン 255)。これを超える入力は走査せずに不正とします。
+     */
+    static final int MAX_LENGTH = 320;
+
+    private static final byte WORD = 1;
+    private static final byte ATEXT = 2;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = WORD | ATEXT;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] = WORD | ATEXT;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = WORD | ATEXT;
+        }
+        CLASSES['_'] = WORD | ATEXT;
+        for (char c : "!#$%&'*+/=?^`{|}~-".toCharArray()) {
+            CLASSES[c] = ATEXT;
+        }
+    }
+
+    private EmailSyntax() {}
+
+    static boolean isValid(CharSequence s) {
+        int n = s.length();
+        if (n == 0 || n > MAX_LENGTH) {
+            return false;
+        }
+
+        // ローカル部: "." の直後 (と先頭) は atext が必要
+        int i = 0;
+        boolean needAtext = true;
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (needAtext) {
+                    return false;
+                }
+                needAtext = true;
+            } else if (is(c, ATEXT)) {
+                needAtext = false;
+            } else {
+                return false;
+            }
+        }
+        if (i == n || needAtext) {
+            return false;
+        }
+
+        // ドメイン部: ラベルは word で始まり word で終わる。ラベルは2つ以上
+        int dots = 0;
+        boolean needWord = true;
+        char prev = '@';
+        for (i++; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '.') {
+                if (needWord || prev == '-') {
+                    return false;
+                }
+                dots++;
+                needWord = true;
+            } else if (c == '-') {
+                if (needWord) {
+                    return false;
+                }
+            } else if (is(c, WORD)) {
+                needWord = false;
+            } else {
+                return false;
+            }
+            prev = c;
+        }
+        return !needWord && prev != '-' && dots > 0;
+    }
+
+    private static boolean is(char c, byte cls) {
+        return c < 128 && (CLASSES[c] & cls) != 0;
+    }
+}
@@ -4,6 +4,8 @@ import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 import lombok.NonNull;
 
+import java.io.Serial;
+
 /**
  * 金額を表す Value Object。
  * <p>
@@ -20,28 +22,48 @@ public record Money(long amount) implements ValueObject, Comparable<Money> {
         }
     }
 
+    private static final Money ZERO = new Money(0);
+
     // --- Factories ---
 
     public static Money zero() {
-        return new Money(0);
+        return ZERO;
     }
 
     /**
      * 安全にMoneyを生成するファクトリ。
+     * <p>
+     * 0 から {@link ValueCache#high()} までの金額は事前生成した Result を返します (割り当てなし)。
+     * </p>
      */
     public static Result<Money> of(long amount) {
         if (amount < 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "金額は0以上である必要があります");
         }
+        if (amount <= Cache.HIGH) {
+            return Cache.RESULTS[(int) amount];
+        }
         return Result.success(new Money(amount));
     }
 
+    /**
+     * インスタンスを返します。キャッシュ範囲内の金額は共有インスタンスを返します。
+     *
+     * @throws IllegalArgumentException 金額が負の場合
+     */
+    public static Money valueOf(long amount) {
+        if (amount >= 0 && amount <= Cache.HIGH) {
+            return Cache.VALUES[(int) amount];
+        }
+        return new Money(amount);
+    }
+
     // --- Business Logic ---
 
     public Result<Money> add(Money other) {
         try {
             long result = Math.addExact(this.amount, other.amount); // オーバーフロー検知
-            return Result.success(new Money(result));
+            return of(result);
         } catch (ArithmeticException e) {
             return Result.failure(CommonErrorCode.SYSTEM_ERROR, "金額の計算でオーバーフローが発生しました");
         }
@@ -51,7 +73,32 @@ public record Money(long amount) implements ValueObject, Comparable<Money> {
         if (this.amount < other.amount) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "残高不足です");
         }
-        return Result.success(new Money(this.amount - other.amount));
+        return of(this.amount - other.amount);
+    }
+
+    /**
+     * 比率に従って按分します (最大剰余方式)。結果の合計は必ず元の金額と一致します。
+     * <p>
+     * 例: {@code Money.of(100).unwrap().allocate(1, 1, 1)} は {@code [34, 33, 33]}
+     * </p>
+     */
+    public Result<Money[]> allocate(long... ratios) {
+        return MoneyAllocation.byRatios(this.amount, ratios).map(Money::toMonies);
+    }
+
+    /**
+     * n 等分します。端数は先頭から1ずつ配ります。
+     */
+    public Result<Money[]> allocate(int parts) {
+        return MoneyAllocation.evenly(this.amount, parts).map(Money::toMonies);
+    }
+
+    private static Money[] toMonies(long[] amounts) {
+        Money[] monies = new Money[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            monies[i] = valueOf(amounts[i]);
+        }
+        return monies;
     }
 
     // --- Utilities ---
@@ -66,4 +113,26 @@ public record Money(long amount) implements ValueObject, Comparable<Money> {
     public boolean isGreaterThan(Money other) { return this.amount > other.amount; }
 
     public boolean isGreaterThanOrEqual(Money other) { return this.amount >= other.amount; }
-}
\ No newline at end of file
+
+    // --- Serialization (ValueObjectCodec の形式で直列化する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    // 初回利用時に生成する (0 は zero() と共有)
+    private static final class Cache {
+
+        static final int HIGH = ValueCache.high();
+        static final Money[] VALUES = new Money[HIGH + 1];
+        static final Result<Money>[] RESULTS;
+
+        static {
+            for (int i = 0; i <= HIGH; i++) {
+                VALUES[i] = i == 0 ? ZERO : new Money(i);
+            }
+            RESULTS = ValueCache.successes(VALUES);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 複数スレッドから金額を加算し続ける集計用のアキュムレーター (売上カウンターなど)。
+ * <pre>{@code
+ * MoneyAccumulator revenue = new MoneyAccumulator();
+ * revenue.add(order.total());            // 各リクエストスレッドから
+ * Result<Money> total = revenue.sum();   // オーバーフローしていれば Failure
+ * }</pre>
+ * <p>
+ * {@link java.util.concurrent.atomic.LongAdder} と同様に加算先を複数のセルに分散させ、
+ * スレッド間の CAS 競合を避けます。加えて、各セルへの加算は {@link Math#addExact} で行い、
+ * オーバーフローを検知した場合はその加算を捨てて以降の {@link #sum()} を Failure にします。
+ * 加算できるのは {@link Money} (非負) のみなので、合計が負になることはありません。
+ * </p>
+ * <p>
+ * {@link #sum()} は各セルを順に読むだけのため、並行して加算が行われている間はその一部だけを含むことがあります
+ * (LongAdder と同じ一貫性です)。
+ * </p>
+ */
+public final class MoneyAccumulator {
+
+    private static final VarHandle VALUE;
+    private static final VarHandle OVERFLOWED;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(CellValue.class, "value", long.class);
+            OVERFLOWED = MethodHandles.lookup().findVarHandle(MoneyAccumulator.class, "overflowed", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Cell[] cells;
+    private final int mask;
+
+    // いずれかのセルでオーバーフローが発生した (reset まで保持)
+    private volatile boolean overflowed;
+
+    /**
+     * CPU 数に応じたセル数で生成します。
+     */
+    public MoneyAccumulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 指定した並行度 (2のべき乗に切り上げ、最大 {@value #MAX_STRIPES}) のセル数で生成します。
+     */
+    public MoneyAccumulator(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be greater than 0: " + concurrency);
+        }
+        int stripes = concurrency == 1 ? 1 : Integer.highestOneBit(Math.min(concurrency, MAX_STRIPES) - 1) << 1;
+        this.cells = new Cell[stripes];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell();
+        }
+        this.mask = cells.length - 1;
+    }
+
+    // --- Operations ---
+
+    /**
+     * 金額を加算します。
+     */
+    public void add(Money money) {
+        long amount = money.amount();
+        if (amount == 0) {
+            return;
+        }
+        int i = index();
+        for (;;) {
+            Cell cell = cells[i];
+            long current = cell.value;
+            long next;
+            try {
+                next = Math.addExact(current, amount);
+            } catch (ArithmeticException e) {
+                overflowed = true;
+                return;
+            }
+            if (VALUE.compareAndSet(cell, current, next)) {
+                return;
+            }
+            // 競合した場合は隣のセルで再試行する
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 現在の合計を返します。オーバーフローが発生していた場合は Failure を返します。
+     */
+    public Result<Money> sum() {
+        if (overflowed) {
+            return overflow();
+        }
+        long total = 0;
+        try {
+            for (Cell cell : cells) {
+                total = Math.addExact(total, cell.value);
+            }
+        } catch (ArithmeticException e) {
+            return overflow();
+        }
+        return Money.of(total);
+    }
+
+    /**
+     * 現在の合計を返し、0 にリセットします。
+     * <p>
+     * 並行して加算が行われている場合、リセットの前後どちらに含まれるかは保証されません
+     * (どちらか一方には必ず含まれます)。
+     * </p>
+     */
+    public Result<Money> sumThenReset() {
+        // 読み取りとクリアの間に発生したオーバーフローを取りこぼさないよう、1回の操作で行う
+        boolean overflow = (boolean) OVERFLOWED.getAndSet(this, false);
+        long total = 0;
+        for (Cell cell : cells) {
+            long v = (long) VALUE.getAndSet(cell, 0L);
+            if (!overflow) {
+                long next = total + v;
+                overflow = next < 0;
+                total = next;
+            }
+        }
+        return overflow ? overflow() : Money.of(total);
+    }
+
+    /**
+     * 0 にリセットします。
+     */
+    public void reset() {
+        for (Cell cell : cells) {
+            VALUE.setVolatile(cell, 0L);
+        }
+        overflowed = false;
+    }
+
+    // --- Internal ---
+
+    private int index() {
+        // スレッドIDを攪拌して初期セルを決める (同じスレッドは同じセルを使う)
+        long h = Thread.currentThread().threadId() * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+
+    private static Result<Money> overflow() {
+        return Result.failure(CommonErrorCode.SYSTEM_ERROR, "金額の集計でオーバーフローが発生しました");
+    }
+
+    @Override
+    public String toString() {
+        return sum().fold(m -> "MoneyAccumulator[" + m.amount() + "]", f -> "MoneyAccumulator[overflow]");
+    }
+
+    // --- Cells (偽共有を避けるため前後をパディングする。フィールドはスーパークラスから順に配置される) ---
+
+    @SuppressWarnings("unused")
+    private abstract static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private abstract static class CellValue extends LeftPadding {
+        volatile long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Cell extends CellValue {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+}
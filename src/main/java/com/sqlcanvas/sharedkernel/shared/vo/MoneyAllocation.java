@@ -0,0 +1,114 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 金額の按分 (最大剰余方式)。{@link Money#allocate} と {@link MoneyVector#allocate} の実装。
+ * <p>
+ * 各要素に {@code floor(金額 * 比率 / 比率合計)} を割り当て、端数の合計 (要素数未満) を
+ * 剰余の大きい順に1ずつ配ります。剰余が同じ場合は先頭の要素を優先します。
+ * 結果の合計は必ず元の金額と一致します。
+ * </p>
+ */
+final class MoneyAllocation {
+
+    private MoneyAllocation() {}
+
+    /**
+     * 比率に従って按分します。
+     */
+    static Result<long[]> byRatios(long amount, long[] ratios) {
+        int n = ratios.length;
+        if (n == 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "按分の比率が指定されていません");
+        }
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            long ratio = ratios[i];
+            if (ratio < 0) {
+                return Result.failure(CommonErrorCode.INVALID_PARAMETER, "按分の比率は0以上である必要があります: index={}, ratio={}", i, ratio);
+            }
+            total += ratio;
+            if (total < 0) {
+                return Result.failure(CommonErrorCode.SYSTEM_ERROR, "按分の比率の合計がオーバーフローしました");
+            }
+        }
+        if (total == 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "按分の比率の合計が0です");
+        }
+
+        long[] shares = new long[n];
+        long[] remainders = new long[n];
+        long allocated = 0;
+        for (int i = 0; i < n; i++) {
+            // amount * ratio は最大 2^126 になり得るので、128bit の積を見て除算方法を選ぶ
+            long ratio = ratios[i];
+            long high = Math.multiplyHigh(amount, ratio);
+            long low = amount * ratio;
+            if (high == 0) {
+                // 積が 2^64 未満: 符号なし除算で足りる
+                shares[i] = Long.divideUnsigned(low, total);
+                remainders[i] = Long.remainderUnsigned(low, total);
+            } else {
+                BigInteger[] qr = BigInteger.valueOf(amount).multiply(BigInteger.valueOf(ratio))
+                        .divideAndRemainder(BigInteger.valueOf(total));
+                shares[i] = qr[0].longValueExact();
+                remainders[i] = qr[1].longValueExact();
+            }
+            // 各 share <= amount * ratio / total なので合計は amount を超えない
+            allocated += shares[i];
+        }
+
+        distributeLeftover(shares, remainders, amount - allocated);
+        return Result.success(shares);
+    }
+
+    /**
+     * n 等分します。端数は先頭から1ずつ配ります。
+     */
+    static Result<long[]> evenly(long amount, int parts) {
+        if (parts <= 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "按分数は1以上である必要があります: {}", parts);
+        }
+        long share = amount / parts;
+        long leftover = amount % parts;
+        long[] shares = new long[parts];
+        Arrays.fill(shares, share);
+        for (int i = 0; i < leftover; i++) {
+            shares[i]++;
+        }
+        return Result.success(shares);
+    }
+
+    // 剰余の大きい順に leftover 件へ1ずつ配る
+    private static void distributeLeftover(long[] shares, long[] remainders, long leftover) {
+        if (leftover == 0) {
+            return;
+        }
+        int n = shares.length;
+        // leftover 番目に大きい剰余を閾値とし、それより大きいものは全て、等しいものは先頭から不足分だけ配る
+        long[] sorted = remainders.clone();
+        Arrays.sort(sorted);
+        long threshold = sorted[n - (int) leftover];
+        long aboveThreshold = 0;
+        for (long r : remainders) {
+            if (r > threshold) {
+                aboveThreshold++;
+            }
+        }
+        long atThreshold = leftover - aboveThreshold;
+        for (int i = 0; i < n; i++) {
+            long r = remainders[i];
+            if (r > threshold) {
+                shares[i]++;
+            } else if (r == threshold && atThreshold > 0) {
+                shares[i]++;
+                atThreshold--;
+            }
+        }
+    }
+}
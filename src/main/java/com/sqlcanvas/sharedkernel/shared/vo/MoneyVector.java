@@ -0,0 +1,306 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * 金額 ({@link Money}) の列を {@code long[]} のまま扱う、一括計算用の不変コレクション。
+ * <pre>{@code
+ * MoneyVector charges = MoneyVector.of(amounts).unwrap();
+ * Result<Money> total = charges.sum();
+ * Result<MoneyVector> net = charges.subtract(discounts);   // 1件でも負になれば Failure
+ * }</pre>
+ * <p>
+ * 要素ごとに {@code Money} と {@code Result} を生成する代わりに、プリミティブ配列上の単純なループで計算し、
+ * 不変条件 (非負) の違反やオーバーフローはループの後でまとめて1つの {@link Result} として返します。
+ * ループは分岐を持たない形で書いてあるため、JIT (C2) の自動ベクトル化の対象になります
+ * (SIMD 命令が使えない環境では通常のスカラーループとして動きます)。
+ * </p>
+ */
+public final class MoneyVector {
+
+    private static final MoneyVector EMPTY = new MoneyVector(new long[0]);
+
+    // すべて 0 以上 (生成時に検証済み)
+    private final long[] amounts;
+
+    private MoneyVector(long[] amounts) {
+        this.amounts = amounts;
+    }
+
+    // --- Factories ---
+
+    public static MoneyVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 金額の配列から生成します (配列はコピーされます)。
+     * 負の金額が含まれる場合は Failure を返します。
+     */
+    public static Result<MoneyVector> of(long... amounts) {
+        Objects.requireNonNull(amounts);
+        long signs = 0;
+        for (long amount : amounts) {
+            signs |= amount;
+        }
+        if (signs < 0) {
+            int index = firstNegative(amounts);
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER,
+                    "金額は0以上である必要があります: index={}, amount={}", index, amounts[index]);
+        }
+        return Result.success(new MoneyVector(amounts.clone()));
+    }
+
+    /**
+     * Money のコレクションから生成します。
+     */
+    public static MoneyVector of(Collection<Money> monies) {
+        long[] amounts = new long[monies.size()];
+        int i = 0;
+        for (Money money : monies) {
+            amounts[i++] = money.amount();
+        }
+        return new MoneyVector(amounts);
+    }
+
+    /**
+     * 金額を比率に従って按分したベクトルを返します (最大剰余方式)。
+     * 結果の合計は必ず元の金額と一致します。
+     */
+    public static Result<MoneyVector> allocate(Money total, long... ratios) {
+        Objects.requireNonNull(total);
+        Objects.requireNonNull(ratios);
+        return MoneyAllocation.byRatios(total.amount(), ratios).map(MoneyVector::new);
+    }
+
+    // --- Accessors ---
+
+    public int size() {
+        return amounts.length;
+    }
+
+    public boolean isEmpty() {
+        return amounts.length == 0;
+    }
+
+    public Money get(int index) {
+        return Money.valueOf(amounts[index]);
+    }
+
+    public long amountAt(int index) {
+        return amounts[index];
+    }
+
+    public long[] toArray() {
+        return amounts.clone();
+    }
+
+    public List<Money> toList() {
+        Money[] monies = new Money[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            monies[i] = Money.valueOf(amounts[i]);
+        }
+        return List.of(monies);
+    }
+
+    // --- Aggregations ---
+
+    /**
+     * 合計金額を返します。オーバーフローした場合は Failure を返します。
+     */
+    public Result<Money> sum() {
+        // 上位・下位32bitを別々に合計する。要素数 < 2^31 なのでどちらの合計も long に収まり、
+        // ループ内でオーバーフロー判定が不要になる (単純な加算の縮約としてベクトル化できる)
+        long high = 0;
+        long low = 0;
+        for (long amount : amounts) {
+            high += amount >>> 32;
+            low += amount & 0xFFFF_FFFFL;
+        }
+        if (high > (Long.MAX_VALUE >>> 32)) {
+            return overflow();
+        }
+        long total = (high << 32) + low;
+        if (total < 0) {
+            return overflow();
+        }
+        return Money.of(total);
+    }
+
+    /**
+     * 最小の金額を返します。空の場合は Failure を返します。
+     */
+    public Result<Money> min() {
+        if (amounts.length == 0) {
+            return emptyFailure();
+        }
+        long min = Long.MAX_VALUE;
+        for (long amount : amounts) {
+            min = Math.min(min, amount);
+        }
+        return Money.of(min);
+    }
+
+    /**
+     * 最大の金額を返します。空の場合は Failure を返します。
+     */
+    public Result<Money> max() {
+        if (amounts.length == 0) {
+            return emptyFailure();
+        }
+        long max = 0;
+        for (long amount : amounts) {
+            max = Math.max(max, amount);
+        }
+        return Money.of(max);
+    }
+
+    // --- Element-wise Operations ---
+
+    /**
+     * 要素ごとに加算します。長さが異なる場合、またはいずれかの要素がオーバーフローした場合は Failure を返します。
+     */
+    public Result<MoneyVector> add(MoneyVector other) {
+        Objects.requireNonNull(other);
+        if (other.amounts.length != amounts.length) {
+            return sizeMismatch(other);
+        }
+        long[] a = amounts;
+        long[] b = other.amounts;
+        long[] out = new long[a.length];
+        // 非負同士の加算はオーバーフローすると負になるので、符号ビットを OR で集める
+        long signs = 0;
+        for (int i = 0; i < a.length; i++) {
+            long s = a[i] + b[i];
+            out[i] = s;
+            signs |= s;
+        }
+        if (signs < 0) {
+            return Result.failure(CommonErrorCode.SYSTEM_ERROR,
+                    "金額の計算でオーバーフローが発生しました: index={}", firstNegative(out));
+        }
+        return Result.success(new MoneyVector(out));
+    }
+
+    /**
+     * 要素ごとに減算します。長さが異なる場合、またはいずれかの要素が負になる場合は Failure を返します。
+     */
+    public Result<MoneyVector> subtract(MoneyVector other) {
+        Objects.requireNonNull(other);
+        if (other.amounts.length != amounts.length) {
+            return sizeMismatch(other);
+        }
+        long[] a = amounts;
+        long[] b = other.amounts;
+        long[] out = new long[a.length];
+        long signs = 0;
+        for (int i = 0; i < a.length; i++) {
+            long d = a[i] - b[i];
+            out[i] = d;
+            signs |= d;
+        }
+        if (signs < 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "残高不足です: index={}", firstNegative(out));
+        }
+        return Result.success(new MoneyVector(out));
+    }
+
+    // --- Filters ---
+
+    /**
+     * 閾値より大きい金額だけを残します。
+     */
+    public MoneyVector filterGreaterThan(Money threshold) {
+        long t = threshold.amount();
+        long[] out = new long[amounts.length];
+        int n = 0;
+        for (long amount : amounts) {
+            // 分岐なしの圧縮: 常に書き込み、条件を満たす場合だけ位置を進める
+            out[n] = amount;
+            n += amount > t ? 1 : 0;
+        }
+        return compact(out, n);
+    }
+
+    /**
+     * 閾値以下の金額だけを残します。
+     */
+    public MoneyVector filterLessThanOrEqual(Money threshold) {
+        long t = threshold.amount();
+        long[] out = new long[amounts.length];
+        int n = 0;
+        for (long amount : amounts) {
+            out[n] = amount;
+            n += amount <= t ? 1 : 0;
+        }
+        return compact(out, n);
+    }
+
+    /**
+     * 条件を満たす金額だけを残します。
+     */
+    public MoneyVector filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        long[] out = new long[amounts.length];
+        int n = 0;
+        for (long amount : amounts) {
+            if (predicate.test(amount)) {
+                out[n++] = amount;
+            }
+        }
+        return compact(out, n);
+    }
+
+    // --- Internal ---
+
+    private static MoneyVector compact(long[] out, int n) {
+        if (n == 0) {
+            return EMPTY;
+        }
+        return new MoneyVector(n == out.length ? out : Arrays.copyOf(out, n));
+    }
+
+    private static int firstNegative(long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> Result<T> overflow() {
+        return Result.failure(CommonErrorCode.SYSTEM_ERROR, "金額の計算でオーバーフローが発生しました");
+    }
+
+    private static <T> Result<T> emptyFailure() {
+        return Result.failure(CommonErrorCode.INVALID_PARAMETER, "金額が1件もありません");
+    }
+
+    private <T> Result<T> sizeMismatch(MoneyVector other) {
+        return Result.failure(CommonErrorCode.INVALID_PARAMETER,
+                "要素数が一致しません: {} != {}", amounts.length, other.amounts.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof MoneyVector other && Arrays.equals(amounts, other.amounts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(amounts);
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyVector" + Arrays.toString(amounts);
+    }
+}
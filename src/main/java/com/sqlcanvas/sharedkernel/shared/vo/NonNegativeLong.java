@@ -4,6 +4,8 @@ import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 import lombok.NonNull;
 
+import java.io.Serial;
+
 /**
  * 非負の長整数 (値 >= 0) を表す Value Object。
  * <p>
@@ -18,19 +20,40 @@ public record NonNegativeLong(long value) implements ValueObject, Comparable<Non
         }
     }
 
+    /**
+     * ファクトリメソッド
+     * <p>
+     * 0 から {@link ValueCache#high()} までの値は事前生成した Result を返します (割り当てなし)。
+     * </p>
+     */
     public static Result<NonNegativeLong> of(long value) {
         if (value < 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "値は0以上である必要があります");
         }
+        if (value <= Cache.HIGH) {
+            return Cache.RESULTS[(int) value];
+        }
         return Result.success(new NonNegativeLong(value));
     }
 
+    /**
+     * インスタンスを返します。キャッシュ範囲内の値は共有インスタンスを返します。
+     *
+     * @throws IllegalArgumentException 値が負の場合
+     */
+    public static NonNegativeLong valueOf(long value) {
+        if (value >= 0 && value <= Cache.HIGH) {
+            return Cache.VALUES[(int) value];
+        }
+        return new NonNegativeLong(value);
+    }
+
     public static final NonNegativeLong ZERO = new NonNegativeLong(0);
 
     // --- Operations ---
 
     public NonNegativeLong increment() {
-        return new NonNegativeLong(Math.addExact(this.value, 1));
+        return valueOf(Math.addExact(this.value, 1));
     }
 
     public Result<NonNegativeLong> add(long other) {
@@ -41,7 +64,7 @@ public record NonNegativeLong(long value) implements ValueObject, Comparable<Non
             }
         }
         try {
-            return Result.success(new NonNegativeLong(Math.addExact(this.value, other)));
+            return of(Math.addExact(this.value, other));
         } catch (ArithmeticException e) {
             return Result.failure(CommonErrorCode.SYSTEM_ERROR, "オーバーフローしました");
         }
@@ -51,4 +74,26 @@ public record NonNegativeLong(long value) implements ValueObject, Comparable<Non
     public int compareTo(@NonNull NonNegativeLong other) {
         return Long.compare(this.value, other.value);
     }
-}
\ No newline at end of file
+
+    // --- Serialization (ValueObjectCodec の形式で直列化する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    // 初回利用時に生成する (0 は ZERO を共有)
+    private static final class Cache {
+
+        static final int HIGH = ValueCache.high();
+        static final NonNegativeLong[] VALUES = new NonNegativeLong[HIGH + 1];
+        static final Result<NonNegativeLong>[] RESULTS;
+
+        static {
+            for (int i = 0; i <= HIGH; i++) {
+                VALUES[i] = i == 0 ? ZERO : new NonNegativeLong(i);
+            }
+            RESULTS = ValueCache.successes(VALUES);
+        }
+    }
+}
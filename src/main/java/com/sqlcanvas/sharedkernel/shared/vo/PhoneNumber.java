@@ -1,35 +1,266 @@
 package com.sqlcanvas.sharedkernel.shared.vo;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.CharSequences;
 
-import java.util.regex.Pattern;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
 
-public record PhoneNumber(String value) implements ValueObject {
+/**
+ * 日本の電話番号（ハイフン許容）: 090-1234-5678 or 03-1234-5678
+ * <p>
+ * 書式は {@value #REFERENCE_REGEX} と同じです。検査は1パスの走査で行い、
+ * 数字列 (最大13桁) とハイフンの位置を1つの {@code long} に詰めて保持します。
+ * 等価性・ハッシュ値はハイフンを除いた数字列で判定します ({@code 090-1234-5678} と {@code 09012345678} は等しい)。
+ * </p>
+ * <p>
+ * コンストラクターは従来どおり書式を検査しません (DB・JSON から読み込んだ既存データの復元用)。
+ * 書式に合わない値は文字列のまま保持し、{@link #isWellFormed()} が false になります
+ * (等価性は文字列で判定します)。入力の検証には {@link #of} を使ってください。
+ * </p>
+ */
+public final class PhoneNumber implements ValueObject {
 
-    // 日本の電話番号（ハイフン許容）: 090-1234-5678 or 03-1234-5678
-    private static final Pattern PATTERN = Pattern.compile("^0\\d{1,4}-?\\d{1,4}-?\\d{3,4}$");
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    public PhoneNumber {
+    // 書式の参照用 (検査自体は parse で行う)
+    static final String REFERENCE_REGEX = "^0\\d{1,4}-?\\d{1,4}-?\\d{3,4}$";
+
+    // packed のレイアウト: [0, 44) 数字列の値 / [44, 48) 桁数 / [48, 52) 1つ目のハイフン位置 / [52, 56) 2つ目のハイフン位置
+    private static final int DIGITS_BITS = 44;
+    private static final long DIGITS_MASK = (1L << DIGITS_BITS) - 1;
+    private static final long NORMALIZED_MASK = (1L << (DIGITS_BITS + 4)) - 1;
+
+    // 書式に合う場合の詰めた表現 (合わない場合は 0)
+    private final long packed;
+
+    // 書式に合わない値 (合う場合は null)
+    private final String unparsed;
+
+    /**
+     * 値をそのまま復元します (書式は検査しません)。JSON の形はレコードだった頃と同じ {"value": "..."}
+     *
+     * @throws IllegalArgumentException 値が null の場合
+     */
+    @JsonCreator
+    public PhoneNumber(@JsonProperty("value") String value) {
         if (value == null) {
             throw new IllegalArgumentException("PhoneNumber cannot be null");
         }
+        long p = parse(value);
+        this.packed = p < 0 ? 0 : p;
+        this.unparsed = p < 0 ? value : null;
+    }
+
+    private PhoneNumber(long packed) {
+        this.packed = packed;
+        this.unparsed = null;
     }
 
     public static Result<PhoneNumber> of(String value) {
-        if (value == null || value.isBlank()) {
+        return ofChars(value);
+    }
+
+    /**
+     * 任意の {@link CharSequence} から生成します。文字列は保持しないため、String は生成されません。
+     */
+    public static Result<PhoneNumber> ofChars(CharSequence value) {
+        if (value == null || CharSequences.isBlank(value)) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "電話番号は必須です");
         }
-        if (!PATTERN.matcher(value).matches()) {
+        long p = parse(value);
+        if (p < 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "電話番号の形式が不正です");
         }
-        return Result.success(new PhoneNumber(value));
+        return Result.success(new PhoneNumber(p));
+    }
+
+    /**
+     * UTF-8 バイト列の範囲から生成します。検査はバイト列上で行い、成功した場合のみ値を生成します。
+     */
+    public static Result<PhoneNumber> ofUtf8(byte[] bytes, int offset, int length) {
+        return ofChars(CharSequences.utf8(bytes, offset, length));
+    }
+
+    /**
+     * ByteBuffer の position から limit までの UTF-8 バイト列から生成します (position は変更しません)。
+     */
+    public static Result<PhoneNumber> ofUtf8(ByteBuffer buffer) {
+        return ofChars(CharSequences.utf8(buffer));
+    }
+
+    /**
+     * 入力どおりの (ハイフン位置を保った) 形式を取得
+     */
+    @JsonProperty("value")
+    public String value() {
+        if (unparsed != null) {
+            return unparsed;
+        }
+        int length = length();
+        int h1 = (int) (packed >>> 48) & 0xF;
+        int h2 = (int) (packed >>> 52) & 0xF;
+        int hyphens = (h1 > 0 ? 1 : 0) + (h2 > 0 ? 1 : 0);
+        char[] chars = new char[length + hyphens];
+        long digits = packed & DIGITS_MASK;
+        int pos = chars.length;
+        // 末尾の桁から詰め、i 桁目の直前がハイフン位置ならハイフンを置く
+        for (int i = length; i > 0; i--) {
+            chars[--pos] = (char) ('0' + digits % 10);
+            digits /= 10;
+            if (i > 1 && (i - 1 == h1 || i - 1 == h2)) {
+                chars[--pos] = '-';
+            }
+        }
+        return new String(chars);
     }
 
     /**
      * ハイフンを除去した数値のみの形式を取得
      */
     public String asUnformatted() {
-        return value.replace("-", "");
+        if (unparsed != null) {
+            return unparsed.replace("-", "");
+        }
+        int length = length();
+        char[] chars = new char[length];
+        long digits = packed & DIGITS_MASK;
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 書式に合う値かどうかを判定します ({@link #of} で生成した値は常に true)。
+     */
+    @JsonIgnore
+    public boolean isWellFormed() {
+        return unparsed == null;
+    }
+
+    private int length() {
+        return (int) (packed >>> DIGITS_BITS) & 0xF;
+    }
+
+    /**
+     * 書式を検査し、詰めた表現を返します。不正な場合は -1
+     * <p>
+     * ハイフンで区切った各部分の桁数が以下のいずれかであれば正しい書式です (先頭は必ず 0)。
+     * 区切りなし: 6〜13 / 2部分: (2〜5, 4〜8) または (3〜9, 3〜4) / 3部分: (2〜5, 1〜4, 3〜4)
+     * </p>
+     */
+    static long parse(CharSequence s) {
+        int n = s.length();
+        // 最長は 13桁 + ハイフン2つ
+        if (n < 6 || n > 15 || s.charAt(0) != '0') {
+            return -1;
+        }
+        long digits = 0;
+        int count = 0;
+        int hyphens = 0;
+        int h1 = 0;
+        int h2 = 0;
+        int first = 0;
+        int second = 0;
+        int piece = 0;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = digits * 10 + (c - '0');
+                count++;
+                piece++;
+            } else if (c == '-' && piece > 0 && hyphens < 2) {
+                if (hyphens++ == 0) {
+                    h1 = count;
+                    first = piece;
+                } else {
+                    h2 = count;
+                    second = piece;
+                }
+                piece = 0;
+            } else {
+                return -1;
+            }
+        }
+        boolean valid = switch (hyphens) {
+            case 0 -> count >= 6 && count <= 13;
+            case 1 -> piece > 0 && ((between(first, 2, 5) && between(piece, 4, 8))
+                    || (between(first, 3, 9) && between(piece, 3, 4)));
+            default -> between(first, 2, 5) && between(second, 1, 4) && between(piece, 3, 4);
+        };
+        if (!valid) {
+            return -1;
+        }
+        return digits | (long) count << DIGITS_BITS | (long) h1 << 48 | (long) h2 << 52;
+    }
+
+    private static boolean between(int v, int min, int max) {
+        return v >= min && v <= max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PhoneNumber other)) {
+            return false;
+        }
+        if (unparsed != null || other.unparsed != null) {
+            return unparsed != null && unparsed.equals(other.unparsed);
+        }
+        return (packed & NORMALIZED_MASK) == (other.packed & NORMALIZED_MASK);
+    }
+
+    @Override
+    public int hashCode() {
+        return unparsed != null ? unparsed.hashCode() : Long.hashCode(packed & NORMALIZED_MASK);
+    }
+
+    @Override
+    public String toString() {
+        return "PhoneNumber[value=" + value() + "]";
+    }
+
+    // --- ValueObjectCodec 用 ---
+
+    /**
+     * 詰めた表現。書式に合わない値の場合は 0
+     */
+    long packed() {
+        return packed;
+    }
+
+    /**
+     * {@link #packed()} の値から復元します。書式として正しくない値の場合は IllegalArgumentException
+     */
+    static PhoneNumber fromPacked(long packed) {
+        PhoneNumber candidate = new PhoneNumber(packed);
+        // 詰めた表現が書式から作られたものと一致することを、文字列に戻して確認する
+        if (packed < 0 || parse(candidate.value()) != packed) {
+            throw new IllegalArgumentException("Invalid packed PhoneNumber: " + packed);
+        }
+        return candidate;
+    }
+
+    // --- Serialization (ValueObjectCodec の形式で直列化し、復元時に書式を再検証する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedValueObject required");
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,14 @@
 package com.sqlcanvas.sharedkernel.shared.vo;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 import lombok.NonNull;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
@@ -13,14 +18,66 @@ import java.util.Objects;
  * <p>
  * 用途例: 重量、体積、単価(0円不可)
  * </p>
+ * <p>
+ * 値が {@code long} の非スケール値とスケール (0〜{@value #MAX_COMPACT_SCALE}) で表せる場合は
+ * その2つだけを保持し (コンパクト表現)、加算・乗算・スケール調整を {@code long} の演算で行います。
+ * オーバーフローする場合や表せない値の場合のみ {@link BigDecimal} で計算します。
+ * 比較・等価性は従来どおり {@link BigDecimal} と同じです ({@code equals} はスケールも比較し、
+ * {@code compareTo} は数値のみを比較します)。
+ * </p>
  */
-public record PositiveBigDecimal(BigDecimal value) implements ValueObject, Comparable<PositiveBigDecimal> {
+public final class PositiveBigDecimal implements ValueObject, Comparable<PositiveBigDecimal> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final int MAX_COMPACT_SCALE = 18;
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
 
-    public PositiveBigDecimal {
+    // コンパクト表現 (inflated == null の場合のみ有効)
+    private final long unscaled;
+    private final int scale;
+
+    // コンパクト表現で表せない値
+    private final BigDecimal inflated;
+
+    // value() の結果のキャッシュ (BigDecimal は不変なので競合しても問題ない)
+    private transient BigDecimal cachedValue;
+
+    // JSON の形はレコードだった頃と同じ {"value": ...}
+    @JsonCreator
+    public PositiveBigDecimal(@JsonProperty("value") BigDecimal value) {
         Objects.requireNonNull(value, "Value cannot be null");
-        if (value.compareTo(BigDecimal.ZERO) <= 0) {
+        if (value.signum() <= 0) {
             throw new IllegalArgumentException("PositiveBigDecimal must be greater than 0: " + value);
         }
+        long u = compactUnscaled(value);
+        if (u > 0) {
+            this.unscaled = u;
+            this.scale = value.scale();
+            this.inflated = null;
+            this.cachedValue = value;
+        } else {
+            this.unscaled = 0;
+            this.scale = 0;
+            this.inflated = value;
+        }
+    }
+
+    private PositiveBigDecimal(long unscaled, int scale) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.inflated = null;
     }
 
     public static Result<PositiveBigDecimal> of(BigDecimal value) {
@@ -38,26 +95,231 @@ public record PositiveBigDecimal(BigDecimal value) implements ValueObject, Compa
         return of(BigDecimal.valueOf(value));
     }
 
+    /**
+     * 非スケール値とスケールから生成します ({@code unscaled × 10^-scale})。
+     * 例: {@code of(1250, 2)} は 12.50
+     */
+    public static Result<PositiveBigDecimal> of(long unscaled, int scale) {
+        if (unscaled <= 0) {
+            return Result.failure(CommonErrorCode.INVALID_PARAMETER, "値は正数である必要があります");
+        }
+        if (scale >= 0 && scale <= MAX_COMPACT_SCALE) {
+            return Result.success(new PositiveBigDecimal(unscaled, scale));
+        }
+        return Result.success(new PositiveBigDecimal(BigDecimal.valueOf(unscaled, scale)));
+    }
+
+    /**
+     * 値を返します。
+     */
+    @JsonProperty("value")
+    public BigDecimal value() {
+        if (inflated != null) {
+            return inflated;
+        }
+        BigDecimal v = cachedValue;
+        if (v == null) {
+            v = BigDecimal.valueOf(unscaled, scale);
+            cachedValue = v;
+        }
+        return v;
+    }
+
     // --- Operations ---
 
     public PositiveBigDecimal add(PositiveBigDecimal other) {
-        return new PositiveBigDecimal(this.value.add(other.value));
+        if (inflated == null && other.inflated == null) {
+            // スケールを大きい方に揃えて加算 (BigDecimal#add と同じスケール)
+            int s = Math.max(scale, other.scale);
+            long a = rescaleUp(unscaled, s - scale);
+            long b = rescaleUp(other.unscaled, s - other.scale);
+            if (a > 0 && b > 0) {
+                long sum = a + b;
+                if (sum > 0) {
+                    return new PositiveBigDecimal(sum, s);
+                }
+            }
+        }
+        return new PositiveBigDecimal(this.value().add(other.value()));
     }
 
     public Result<PositiveBigDecimal> multiply(BigDecimal multiplier) {
         if (multiplier.compareTo(BigDecimal.ZERO) <= 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "乗数は正数である必要があります");
         }
-        return Result.success(new PositiveBigDecimal(this.value.multiply(multiplier)));
+        if (inflated == null) {
+            long m = compactUnscaled(multiplier);
+            PositiveBigDecimal product = m > 0 ? multiplyCompact(m, multiplier.scale()) : null;
+            if (product != null) {
+                return Result.success(product);
+            }
+        }
+        return Result.success(new PositiveBigDecimal(this.value().multiply(multiplier)));
+    }
+
+    /**
+     * 乗算します (正数同士の積は常に正数)。
+     */
+    public PositiveBigDecimal multiply(PositiveBigDecimal multiplier) {
+        if (inflated == null && multiplier.inflated == null) {
+            PositiveBigDecimal product = multiplyCompact(multiplier.unscaled, multiplier.scale);
+            if (product != null) {
+                return product;
+            }
+        }
+        return new PositiveBigDecimal(this.value().multiply(multiplier.value()));
     }
 
     // スケール調整（DB保存前などに使う）
     public PositiveBigDecimal setScale(int newScale, RoundingMode roundingMode) {
-        return new PositiveBigDecimal(this.value.setScale(newScale, roundingMode));
+        Objects.requireNonNull(roundingMode);
+        if (inflated == null && newScale >= 0 && newScale <= MAX_COMPACT_SCALE) {
+            if (newScale >= scale) {
+                long v = rescaleUp(unscaled, newScale - scale);
+                if (v > 0) {
+                    return new PositiveBigDecimal(v, newScale);
+                }
+            } else {
+                long v = divideAndRound(unscaled, POWERS_OF_TEN[scale - newScale], roundingMode);
+                if (v <= 0) {
+                    throw new IllegalArgumentException("PositiveBigDecimal must be greater than 0: "
+                            + BigDecimal.valueOf(v, newScale));
+                }
+                return new PositiveBigDecimal(v, newScale);
+            }
+        }
+        return new PositiveBigDecimal(this.value().setScale(newScale, roundingMode));
     }
 
     @Override
     public int compareTo(@NonNull PositiveBigDecimal other) {
-        return this.value.compareTo(other.value);
+        if (inflated == null && other.inflated == null) {
+            if (scale == other.scale) {
+                return Long.compare(unscaled, other.unscaled);
+            }
+            int s = Math.max(scale, other.scale);
+            long a = rescaleUp(unscaled, s - scale);
+            long b = rescaleUp(other.unscaled, s - other.scale);
+            if (a > 0 && b > 0) {
+                return Long.compare(a, b);
+            }
+        }
+        return this.value().compareTo(other.value());
+    }
+
+    // --- Internal ---
+
+    // 正の値をコンパクト表現にした場合の非スケール値。表せない場合は -1
+    private static long compactUnscaled(BigDecimal value) {
+        int s = value.scale();
+        if (s < 0 || s > MAX_COMPACT_SCALE || value.precision() > MAX_COMPACT_SCALE + 1) {
+            return -1;
+        }
+        BigDecimal integral = value.scaleByPowerOfTen(s);
+        // 19桁は long に収まらない場合がある
+        return integral.precision() <= MAX_COMPACT_SCALE || integral.compareTo(LONG_MAX) <= 0
+                ? integral.longValueExact() : -1;
+    }
+
+    // 乗算の結果のスケールは両者の和 (BigDecimal#multiply と同じ)。表せない場合は null
+    private PositiveBigDecimal multiplyCompact(long otherUnscaled, int otherScale) {
+        int s = scale + otherScale;
+        if (s > MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long hi = Math.multiplyHigh(unscaled, otherUnscaled);
+        long lo = unscaled * otherUnscaled;
+        if (hi != 0 || lo < 0) {
+            return null;
+        }
+        return new PositiveBigDecimal(lo, s);
+    }
+
+    // value × 10^digits。オーバーフローする場合は -1
+    private static long rescaleUp(long value, int digits) {
+        if (digits == 0) {
+            return value;
+        }
+        long p = POWERS_OF_TEN[digits];
+        long hi = Math.multiplyHigh(value, p);
+        long lo = value * p;
+        return hi == 0 && lo >= 0 ? lo : -1;
+    }
+
+    // 正数 value / divisor を指定の丸めモードで整数に丸める
+    private static long divideAndRound(long value, long divisor, RoundingMode mode) {
+        long q = value / divisor;
+        long r = value % divisor;
+        if (r == 0) {
+            return q;
+        }
+        // r < divisor <= 10^18 なので 2r はオーバーフローしない
+        int half = Long.compare(r * 2, divisor);
+        boolean roundUp = switch (mode) {
+            case UP, CEILING -> true;
+            case DOWN, FLOOR -> false;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (q & 1) == 1);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return roundUp ? q + 1 : q;
+    }
+
+    // 等価性・ハッシュ値・文字列表現は従来のレコード (value のみを持つ) と同じ
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PositiveBigDecimal other)) {
+            return false;
+        }
+        // 表現は値とスケールから一意に決まるため、コンパクト表現同士か BigDecimal 同士でのみ等しくなり得る
+        if (inflated == null) {
+            return other.inflated == null && unscaled == other.unscaled && scale == other.scale;
+        }
+        return inflated.equals(other.inflated);
+    }
+
+    @Override
+    public int hashCode() {
+        if (inflated != null) {
+            return inflated.hashCode();
+        }
+        // BigDecimal#hashCode と同じ計算 (unscaled > 0)
+        int temp = (int) (((int) (unscaled >>> 32)) * 31 + (unscaled & 0xFFFF_FFFFL));
+        return 31 * temp + scale;
+    }
+
+    @Override
+    public String toString() {
+        return "PositiveBigDecimal[value=" + value() + "]";
+    }
+
+    // --- ValueObjectCodec 用 ---
+
+    /**
+     * コンパクト表現の非スケール値。コンパクト表現でない場合は -1
+     */
+    long compactUnscaledValue() {
+        return inflated == null ? unscaled : -1;
+    }
+
+    int compactScale() {
+        return scale;
+    }
+
+    // --- Serialization (ValueObjectCodec の形式で直列化し、復元時に不変条件を再検証する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedValueObject required");
     }
-}
\ No newline at end of file
+}
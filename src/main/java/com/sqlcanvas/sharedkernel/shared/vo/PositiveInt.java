@@ -4,6 +4,8 @@ import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
 import lombok.NonNull;
 
+import java.io.Serial;
+
 /**
  * 正の整数 (値 > 0) を表す Value Object。
  * <p>
@@ -21,19 +23,37 @@ public record PositiveInt(int value) implements ValueObject, Comparable<Positive
 
     /**
      * ファクトリメソッド
+     * <p>
+     * 1 から {@link ValueCache#high()} までの値は事前生成した Result を返します (割り当てなし)。
+     * </p>
      */
     public static Result<PositiveInt> of(int value) {
         if (value <= 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "値は1以上の正数である必要があります");
         }
+        if (value <= Cache.HIGH) {
+            return Cache.RESULTS[value - 1];
+        }
         return Result.success(new PositiveInt(value));
     }
 
+    /**
+     * インスタンスを返します。キャッシュ範囲内の値は共有インスタンスを返します。
+     *
+     * @throws IllegalArgumentException 値が0以下の場合
+     */
+    public static PositiveInt valueOf(int value) {
+        if (value > 0 && value <= Cache.HIGH) {
+            return Cache.VALUES[value - 1];
+        }
+        return new PositiveInt(value);
+    }
+
     // --- Operations ---
 
     public PositiveInt add(PositiveInt other) {
         // 正数 + 正数 は必ず正数 (オーバーフローは検知)
-        return new PositiveInt(Math.addExact(this.value, other.value));
+        return valueOf(Math.addExact(this.value, other.value));
     }
 
     public Result<PositiveInt> multiply(int multiplier) {
@@ -41,7 +61,7 @@ public record PositiveInt(int value) implements ValueObject, Comparable<Positive
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "乗数は正数である必要があります");
         }
         try {
-            return Result.success(new PositiveInt(Math.multiplyExact(this.value, multiplier)));
+            return of(Math.multiplyExact(this.value, multiplier));
         } catch (ArithmeticException e) {
             return Result.failure(CommonErrorCode.SYSTEM_ERROR, "計算結果がオーバーフローしました");
         }
@@ -51,4 +71,26 @@ public record PositiveInt(int value) implements ValueObject, Comparable<Positive
     public int compareTo(@NonNull PositiveInt other) {
         return Integer.compare(this.value, other.value);
     }
+
+    // --- Serialization (ValueObjectCodec の形式で直列化する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    // 初回利用時に生成する (Integer.IntegerCache と同様)
+    private static final class Cache {
+
+        static final int HIGH = ValueCache.high();
+        static final PositiveInt[] VALUES = new PositiveInt[Math.max(HIGH, 0)];
+        static final Result<PositiveInt>[] RESULTS;
+
+        static {
+            for (int i = 0; i < HIGH; i++) {
+                VALUES[i] = new PositiveInt(i + 1);
+            }
+            RESULTS = ValueCache.successes(VALUES);
+        }
+    }
 }
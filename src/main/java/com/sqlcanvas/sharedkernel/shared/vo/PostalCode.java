@@ -1,29 +1,213 @@
 package com.sqlcanvas.sharedkernel.shared.vo;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
 import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.CharSequences;
 
-import java.util.regex.Pattern;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
 
-public record PostalCode(String value) implements ValueObject {
+/**
+ * 日本の郵便番号: 123-4567 (ハイフン必須)
+ * <p>
+ * 7桁の数字を {@code int} で保持し、文字列表現は必要な時に生成します。
+ * </p>
+ * <p>
+ * コンストラクターは従来どおり書式を検査しません (DB・JSON から読み込んだ既存データの復元用)。
+ * 書式に合わない値は文字列のまま保持し、{@link #isWellFormed()} が false になります
+ * (等価性は文字列で判定します)。入力の検証には {@link #of} を使ってください。
+ * </p>
+ */
+public final class PostalCode implements ValueObject {
 
-    // 日本の郵便番号: 123-4567 (ハイフン必須とする場合の例)
-    private static final Pattern PATTERN = Pattern.compile("^\\d{3}-\\d{4}$");
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    public PostalCode {
+    // 書式の参照用 (検査自体は parse で行う)
+    static final String REFERENCE_REGEX = "^\\d{3}-\\d{4}$";
+
+    // 0〜9999999 (書式に合わない場合は -1)
+    private final int code;
+
+    // 書式に合わない値 (合う場合は null)
+    private final String unparsed;
+
+    /**
+     * 値をそのまま復元します (書式は検査しません)。JSON の形はレコードだった頃と同じ {"value": "..."}
+     *
+     * @throws IllegalArgumentException 値が null の場合
+     */
+    @JsonCreator
+    public PostalCode(@JsonProperty("value") String value) {
         if (value == null) {
             throw new IllegalArgumentException("PostalCode cannot be null");
         }
+        int c = parse(value);
+        this.code = c;
+        this.unparsed = c < 0 ? value : null;
+    }
+
+    private PostalCode(int code) {
+        this.code = code;
+        this.unparsed = null;
     }
 
     public static Result<PostalCode> of(String value) {
-        if (value == null || value.isBlank()) {
+        return ofChars(value);
+    }
+
+    /**
+     * 任意の {@link CharSequence} から生成します。文字列は保持しないため、String は生成されません。
+     */
+    public static Result<PostalCode> ofChars(CharSequence value) {
+        if (value == null || CharSequences.isBlank(value)) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "郵便番号は必須です");
         }
         // ハイフンなしで来た場合に補完するロジックを入れても良いが、ここでは厳格にチェック
-        if (!PATTERN.matcher(value).matches()) {
+        int c = parse(value);
+        if (c < 0) {
             return Result.failure(CommonErrorCode.INVALID_PARAMETER, "郵便番号は '123-4567' の形式である必要があります");
         }
-        return Result.success(new PostalCode(value));
+        return Result.success(new PostalCode(c));
+    }
+
+    /**
+     * UTF-8 バイト列の範囲から生成します。検査はバイト列上で行い、成功した場合のみ値を生成します。
+     */
+    public static Result<PostalCode> ofUtf8(byte[] bytes, int offset, int length) {
+        return ofChars(CharSequences.utf8(bytes, offset, length));
+    }
+
+    /**
+     * ByteBuffer の position から limit までの UTF-8 バイト列から生成します (position は変更しません)。
+     */
+    public static Result<PostalCode> ofUtf8(ByteBuffer buffer) {
+        return ofChars(CharSequences.utf8(buffer));
+    }
+
+    /**
+     * ハイフン付きの形式 (例: "123-4567") を取得
+     */
+    @JsonProperty("value")
+    public String value() {
+        if (unparsed != null) {
+            return unparsed;
+        }
+        char[] chars = new char[8];
+        int c = code;
+        for (int i = 7; i >= 0; i--) {
+            if (i == 3) {
+                chars[i] = '-';
+                continue;
+            }
+            chars[i] = (char) ('0' + c % 10);
+            c /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * ハイフンを除去した数値のみの形式 (例: "1234567") を取得
+     */
+    public String asUnformatted() {
+        if (unparsed != null) {
+            return unparsed.replace("-", "");
+        }
+        char[] chars = new char[7];
+        int c = code;
+        for (int i = 6; i >= 0; i--) {
+            chars[i] = (char) ('0' + c % 10);
+            c /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 書式に合う値かどうかを判定します ({@link #of} で生成した値は常に true)。
+     */
+    @JsonIgnore
+    public boolean isWellFormed() {
+        return unparsed == null;
+    }
+
+    /**
+     * 書式を検査し、7桁の数値を返します。不正な場合は -1
+     */
+    static int parse(CharSequence s) {
+        if (s.length() != 8 || s.charAt(3) != '-') {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < 8; i++) {
+            if (i == 3) {
+                continue;
+            }
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            code = code * 10 + d;
+        }
+        return code;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostalCode other)) {
+            return false;
+        }
+        if (unparsed != null || other.unparsed != null) {
+            return unparsed != null && unparsed.equals(other.unparsed);
+        }
+        return code == other.code;
+    }
+
+    @Override
+    public int hashCode() {
+        return unparsed != null ? unparsed.hashCode() : Integer.hashCode(code);
+    }
+
+    @Override
+    public String toString() {
+        return "PostalCode[value=" + value() + "]";
+    }
+
+    // --- ValueObjectCodec 用 ---
+
+    /**
+     * 7桁の数値。書式に合わない値の場合は -1
+     */
+    int code() {
+        return code;
+    }
+
+    /**
+     * 7桁の数値から復元します。範囲外の場合は IllegalArgumentException
+     */
+    static PostalCode fromCode(int code) {
+        if (code < 0 || code > 9_999_999) {
+            throw new IllegalArgumentException("Invalid PostalCode: " + code);
+        }
+        return new PostalCode(code);
+    }
+
+    // --- Serialization (ValueObjectCodec の形式で直列化し、復元時に範囲を再検証する) ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedValueObject(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedValueObject required");
     }
-}
\ No newline at end of file
+}
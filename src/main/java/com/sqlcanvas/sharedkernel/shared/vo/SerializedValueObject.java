@@ -0,0 +1,79 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serial;
+
+/**
+ * Value Object の Java シリアライズ形式 (各 Value Object の {@code writeReplace} が返す)。
+ * <p>
+ * 中身は {@link ValueObjectCodec#standard()} で符号化したバイト列だけなので、
+ * 型ごとのクラス記述子やフィールド名はストリームに含まれません (このクラスの記述子がストリームごとに1回だけ書かれます)。
+ * 復元時は各 Value Object の検証を通すため、不正なバイト列は {@link InvalidObjectException} になります。
+ * </p>
+ * <p>
+ * record だった頃の {@link PositiveBigDecimal}・{@link PhoneNumber}・{@link PostalCode} を Java シリアライズしたストリームは読めません
+ * (serialVersionUID が異なるため {@link java.io.InvalidClassException} になります)。
+ * 永続化したストリームは旧バージョンで読み込み、値 ({@code value()}) を経由して移行してください。
+ * </p>
+ */
+final class SerializedValueObject implements Externalizable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // 長さがこの値未満なら1バイトで書く
+    private static final int LONG_LENGTH = 0xFF;
+
+    // 不正なストリームで巨大な配列を確保しないための上限
+    private static final int MAX_LENGTH = 1 << 20;
+
+    private Object value;
+
+    // Externalizable の復元に必要
+    public SerializedValueObject() {}
+
+    SerializedValueObject(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        byte[] bytes = ValueObjectCodec.standard().toBytes(value);
+        if (bytes.length < LONG_LENGTH) {
+            out.writeByte(bytes.length);
+        } else {
+            out.writeByte(LONG_LENGTH);
+            out.writeInt(bytes.length);
+        }
+        out.write(bytes);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        int length = in.readUnsignedByte();
+        if (length == LONG_LENGTH) {
+            length = in.readInt();
+            if (length < 0 || length > MAX_LENGTH) {
+                throw new InvalidObjectException("Invalid length: " + length);
+            }
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        try {
+            value = ValueObjectCodec.standard().fromBytes(bytes);
+        } catch (IllegalArgumentException e) {
+            InvalidObjectException ex = new InvalidObjectException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    @Serial
+    private Object readResolve() {
+        return value;
+    }
+}
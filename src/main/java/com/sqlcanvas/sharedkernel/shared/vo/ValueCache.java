@@ -0,0 +1,46 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+
+/**
+ * 小さな値の Value Object とその {@link Result.Success} を事前生成しておくキャッシュの設定
+ * ({@link Integer#valueOf(int)} と同じ考え方)。
+ * <p>
+ * キャッシュする上限値はシステムプロパティ {@value #HIGH_PROPERTY} で変更できます (既定: {@value #DEFAULT_HIGH})。
+ * 0 以下を指定するとキャッシュを無効にします (0 も含めて事前生成せず、参照もしません)。
+ * 例: 金額が 10000 円以下に集中する場合は {@code -Dsharedkernel.vo.cache.high=10000}
+ * </p>
+ */
+final class ValueCache {
+
+    static final String HIGH_PROPERTY = "sharedkernel.vo.cache.high";
+    static final int DEFAULT_HIGH = 1024;
+
+    // キャッシュ無効時の上限。どの値 (0 を含む) もこれ以下にならないので参照を飛ばせる
+    static final int DISABLED = -1;
+
+    // 設定ミスで巨大な配列を確保しないための上限
+    private static final int MAX_HIGH = 1 << 20;
+
+    private ValueCache() {}
+
+    /**
+     * キャッシュする値の上限 (この値を含む) を返します。無効の場合は {@value #DISABLED}
+     */
+    static int high() {
+        int high = Integer.getInteger(HIGH_PROPERTY, DEFAULT_HIGH);
+        return high <= 0 ? DISABLED : Math.min(high, MAX_HIGH);
+    }
+
+    /**
+     * 各値を保持する Success を生成します。
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Result<T>[] successes(T[] values) {
+        Result<T>[] results = (Result<T>[]) new Result<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            results[i] = Result.success(values[i]);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,457 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.util.CharSequences;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object をコンパクトなバイト列に符号化するコーデックのレジストリ (キャッシュ・セッション複製用)。
+ * <pre>{@code
+ * ValueObjectCodec codec = ValueObjectCodec.standard()
+ *         .with(64, UserId.class, new ValueObjectCodec.Encoder<>() { ... });
+ * codec.encode(money, buffer);          // [タグ][値]
+ * Money restored = codec.decode(buffer, Money.class);
+ * }</pre>
+ * <ul>
+ *   <li>各値は「型タグ (可変長整数) + 型ごとの符号化」で書きます。整数は可変長整数なので小さな値ほど短くなります
+ *       (例: {@code Money(1000)} は 3 バイト)。</li>
+ *   <li>タグ 0〜{@value #FIRST_APPLICATION_TAG}未満は Shared Kernel の型用に予約しています。
+ *       アプリケーションの型は {@link #with} で {@value #FIRST_APPLICATION_TAG} 以上のタグを付けて追加します。</li>
+ *   <li>復元時は各 Value Object の検証を通します。不正なバイト列は {@link IllegalArgumentException} になります。</li>
+ *   <li>Shared Kernel の Value Object の Java シリアライズも、この形式を経由します ({@code writeReplace})。</li>
+ * </ul>
+ * インスタンスは不変で、スレッドセーフです。
+ */
+public final class ValueObjectCodec {
+
+    /**
+     * 1つの型の符号化・復号。
+     *
+     * @param <T> 対象の型
+     */
+    public interface Encoder<T> {
+
+        /**
+         * 値を書き込みます。容量が足りない場合は {@link BufferOverflowException} をスローします。
+         */
+        void encode(T value, ByteBuffer out);
+
+        /**
+         * 値を読み込みます。不正な値の場合は {@link IllegalArgumentException} をスローします。
+         */
+        T decode(ByteBuffer in);
+    }
+
+    public static final int FIRST_APPLICATION_TAG = 64;
+
+    private static final int MAX_TAG = 1023;
+
+    private static final int MAX_UNPARSED_LENGTH = 1 << 16;
+
+    private static final ValueObjectCodec STANDARD = new ValueObjectCodec(new Entry<?>[0])
+            .register(1, Money.class, new MoneyEncoder())
+            .register(2, PositiveInt.class, new PositiveIntEncoder())
+            .register(3, NonNegativeLong.class, new NonNegativeLongEncoder())
+            .register(4, PositiveBigDecimal.class, new PositiveBigDecimalEncoder())
+            .register(5, Email.class, new EmailEncoder())
+            .register(6, PhoneNumber.class, new PhoneNumberEncoder())
+            .register(7, PostalCode.class, new PostalCodeEncoder())
+            .register(8, CurrencyMoney.class, new CurrencyMoneyEncoder())
+            .register(9, RequestId.class, new RequestIdEncoder());
+
+    // タグを添字とする表 (未登録は null)
+    private final Entry<?>[] byTag;
+
+    private final ClassValue<Entry<?>> byType = new ClassValue<>() {
+        @Override
+        protected Entry<?> computeValue(Class<?> type) {
+            for (Entry<?> entry : byTag) {
+                if (entry != null && entry.type == type) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    };
+
+    private ValueObjectCodec(Entry<?>[] byTag) {
+        this.byTag = byTag;
+    }
+
+    /**
+     * Shared Kernel の Value Object と {@link RequestId} を登録済みのコーデックを返します。
+     */
+    public static ValueObjectCodec standard() {
+        return STANDARD;
+    }
+
+    /**
+     * 型を追加したコーデックを返します (このインスタンスは変更しません)。
+     *
+     * @param tag {@value #FIRST_APPLICATION_TAG} 以上 1023 以下の、未使用のタグ
+     */
+    public <T> ValueObjectCodec with(int tag, Class<T> type, Encoder<T> encoder) {
+        if (tag < FIRST_APPLICATION_TAG) {
+            throw new IllegalArgumentException("Tags below " + FIRST_APPLICATION_TAG + " are reserved: " + tag);
+        }
+        return register(tag, type, encoder);
+    }
+
+    private <T> ValueObjectCodec register(int tag, Class<T> type, Encoder<T> encoder) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(encoder);
+        if (tag <= 0 || tag > MAX_TAG) {
+            throw new IllegalArgumentException("Tag must be in [1, " + MAX_TAG + "]: " + tag);
+        }
+        if (tag < byTag.length && byTag[tag] != null) {
+            throw new IllegalArgumentException("Tag " + tag + " is already used by " + byTag[tag].type.getName());
+        }
+        if (supports(type)) {
+            throw new IllegalArgumentException(type.getName() + " is already registered");
+        }
+        Entry<?>[] next = Arrays.copyOf(byTag, Math.max(byTag.length, tag + 1));
+        next[tag] = new Entry<>(tag, type, encoder);
+        return new ValueObjectCodec(next);
+    }
+
+    /**
+     * 型が登録されているかを判定します。
+     */
+    public boolean supports(Class<?> type) {
+        return byType.get(type) != null;
+    }
+
+    // --- Encoding ---
+
+    /**
+     * 型タグと値を書き込みます。容量が足りない場合は {@link BufferOverflowException} をスローします
+     * (その場合 position は不定です)。
+     */
+    public void encode(Object value, ByteBuffer out) {
+        Entry<?> entry = entryFor(value);
+        Varints.writeUnsigned(out, entry.tag);
+        entry.encode(value, out);
+    }
+
+    /**
+     * 型タグと値をバイト列に符号化します。
+     */
+    public byte[] toBytes(Object value) {
+        Entry<?> entry = entryFor(value);
+        for (int capacity = 32; ; capacity <<= 1) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            try {
+                Varints.writeUnsigned(buffer, entry.tag);
+                entry.encode(value, buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException e) {
+                // 容量を倍にして再試行する
+            }
+        }
+    }
+
+    // --- Decoding ---
+
+    /**
+     * 型タグと値を読み込みます。
+     *
+     * @throws IllegalArgumentException 未登録のタグ、途中で終わっている、または値が不正な場合
+     */
+    public Object decode(ByteBuffer in) {
+        try {
+            long tag = Varints.readUnsigned(in);
+            Entry<?> entry = tag > 0 && tag < byTag.length ? byTag[(int) tag] : null;
+            if (entry == null) {
+                throw new IllegalArgumentException("Unknown type tag: " + tag);
+            }
+            return entry.encoder.decode(in);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated value", e);
+        }
+    }
+
+    /**
+     * 型を指定して読み込みます。別の型が書かれていた場合は {@link IllegalArgumentException} をスローします。
+     */
+    public <T> T decode(ByteBuffer in, Class<T> type) {
+        Object value = decode(in);
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Expected " + type.getName() + " but was " + value.getClass().getName());
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * {@link #toBytes} で符号化したバイト列を復元します (余分なバイトがある場合は不正とみなします)。
+     */
+    public Object fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        Object value = decode(in);
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes: " + in.remaining());
+        }
+        return value;
+    }
+
+    private Entry<?> entryFor(Object value) {
+        Entry<?> entry = byType.get(value.getClass());
+        if (entry == null) {
+            throw new IllegalArgumentException("No encoder registered for " + value.getClass().getName());
+        }
+        return entry;
+    }
+
+    private record Entry<T>(int tag, Class<T> type, Encoder<T> encoder) {
+
+        void encode(Object value, ByteBuffer out) {
+            encoder.encode(type.cast(value), out);
+        }
+    }
+
+    // --- Encoders ---
+
+    // Result の Failure を復号の例外にする
+    private static <T> T valid(Result<T> result) {
+        return result.fold(value -> value, failure -> {
+            throw new IllegalArgumentException(failure.message());
+        });
+    }
+
+    // 書式に合わない値 (既存データの復元用) は UTF-8 で長さ付きで書く
+    private static void writeUnparsed(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        Varints.writeUnsigned(out, bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readUnparsed(ByteBuffer in) {
+        int length = (int) readNonNegative(in, MAX_UNPARSED_LENGTH);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer slice = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    private static long readNonNegative(ByteBuffer in, long max) {
+        long value = Varints.readUnsigned(in);
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException("Value out of range: " + Long.toUnsignedString(value));
+        }
+        return value;
+    }
+
+    private static final class MoneyEncoder implements Encoder<Money> {
+
+        @Override
+        public void encode(Money value, ByteBuffer out) {
+            Varints.writeUnsigned(out, value.amount());
+        }
+
+        @Override
+        public Money decode(ByteBuffer in) {
+            return Money.valueOf(readNonNegative(in, Long.MAX_VALUE));
+        }
+    }
+
+    private static final class PositiveIntEncoder implements Encoder<PositiveInt> {
+
+        @Override
+        public void encode(PositiveInt value, ByteBuffer out) {
+            Varints.writeUnsigned(out, value.value());
+        }
+
+        @Override
+        public PositiveInt decode(ByteBuffer in) {
+            return valid(PositiveInt.of((int) readNonNegative(in, Integer.MAX_VALUE)));
+        }
+    }
+
+    private static final class NonNegativeLongEncoder implements Encoder<NonNegativeLong> {
+
+        @Override
+        public void encode(NonNegativeLong value, ByteBuffer out) {
+            Varints.writeUnsigned(out, value.value());
+        }
+
+        @Override
+        public NonNegativeLong decode(ByteBuffer in) {
+            return NonNegativeLong.valueOf(readNonNegative(in, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * [スケール (ZigZag)][非スケール値]。非スケール値は long に収まれば {@code 値 << 1}、
+     * 収まらなければ {@code バイト数 << 1 | 1} に続けて2の補数のバイト列。
+     */
+    private static final class PositiveBigDecimalEncoder implements Encoder<PositiveBigDecimal> {
+
+        @Override
+        public void encode(PositiveBigDecimal value, ByteBuffer out) {
+            long unscaled = value.compactUnscaledValue();
+            if (unscaled > 0 && unscaled <= (Long.MAX_VALUE >>> 1)) {
+                Varints.writeSigned(out, value.compactScale());
+                Varints.writeUnsigned(out, unscaled << 1);
+                return;
+            }
+            BigDecimal decimal = value.value();
+            Varints.writeSigned(out, decimal.scale());
+            BigInteger u = decimal.unscaledValue();
+            if (u.bitLength() < Long.SIZE - 2) {
+                Varints.writeUnsigned(out, u.longValueExact() << 1);
+            } else {
+                byte[] bytes = u.toByteArray();
+                Varints.writeUnsigned(out, (long) bytes.length << 1 | 1);
+                out.put(bytes);
+            }
+        }
+
+        @Override
+        public PositiveBigDecimal decode(ByteBuffer in) {
+            long scale = Varints.readSigned(in);
+            if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Scale out of range: " + scale);
+            }
+            long head = Varints.readUnsigned(in);
+            if ((head & 1) == 0) {
+                return valid(PositiveBigDecimal.of(head >>> 1, (int) scale));
+            }
+            long length = head >>> 1;
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[(int) length];
+            in.get(bytes);
+            return valid(PositiveBigDecimal.of(new BigDecimal(new BigInteger(bytes), (int) scale)));
+        }
+    }
+
+    /**
+     * [長さ][ASCII]。メールアドレスは検証済みで ASCII のみのため、1文字1バイトで書きます。
+     */
+    private static final class EmailEncoder implements Encoder<Email> {
+
+        @Override
+        public void encode(Email value, ByteBuffer out) {
+            String s = value.value();
+            if (!EmailSyntax.isValid(s)) {
+                // コンストラクターで復元した既存データ (書式外・非 ASCII) は、長さ 0 の後に UTF-8 でそのまま書く
+                Varints.writeUnsigned(out, 0);
+                writeUnparsed(out, s);
+                return;
+            }
+            Varints.writeUnsigned(out, s.length());
+            for (int i = 0; i < s.length(); i++) {
+                out.put((byte) s.charAt(i));
+            }
+        }
+
+        @Override
+        public Email decode(ByteBuffer in) {
+            int length = (int) readNonNegative(in, EmailSyntax.MAX_LENGTH);
+            if (length == 0) {
+                return new Email(readUnparsed(in));
+            }
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            ByteBuffer slice = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            return valid(Email.ofChars(CharSequences.utf8(slice)));
+        }
+    }
+
+    private static final class PhoneNumberEncoder implements Encoder<PhoneNumber> {
+
+        @Override
+        public void encode(PhoneNumber value, ByteBuffer out) {
+            // 詰めた表現は 0 にならないので、0 の後に書式に合わない値をそのまま書く
+            Varints.writeUnsigned(out, value.packed());
+            if (!value.isWellFormed()) {
+                writeUnparsed(out, value.value());
+            }
+        }
+
+        @Override
+        public PhoneNumber decode(ByteBuffer in) {
+            long packed = Varints.readUnsigned(in);
+            return packed == 0 ? new PhoneNumber(readUnparsed(in)) : PhoneNumber.fromPacked(packed);
+        }
+    }
+
+    private static final class PostalCodeEncoder implements Encoder<PostalCode> {
+
+        // 7桁の数値には現れない値。この後に書式に合わない値をそのまま書く
+        private static final int UNPARSED = 10_000_000;
+
+        @Override
+        public void encode(PostalCode value, ByteBuffer out) {
+            if (value.isWellFormed()) {
+                Varints.writeUnsigned(out, value.code());
+            } else {
+                Varints.writeUnsigned(out, UNPARSED);
+                writeUnparsed(out, value.value());
+            }
+        }
+
+        @Override
+        public PostalCode decode(ByteBuffer in) {
+            int code = (int) readNonNegative(in, Integer.MAX_VALUE);
+            return code == UNPARSED ? new PostalCode(readUnparsed(in)) : PostalCode.fromCode(code);
+        }
+    }
+
+    /**
+     * [補助単位の金額][通貨コード3文字]。通貨番号は JVM ごとに異なるため書きません。
+     */
+    private static final class CurrencyMoneyEncoder implements Encoder<CurrencyMoney> {
+
+        private static final int CODE_LENGTH = 3;
+
+        @Override
+        public void encode(CurrencyMoney value, ByteBuffer out) {
+            Varints.writeUnsigned(out, value.minorUnits());
+            String code = value.currency().code();
+            for (int i = 0; i < CODE_LENGTH; i++) {
+                out.put((byte) code.charAt(i));
+            }
+        }
+
+        @Override
+        public CurrencyMoney decode(ByteBuffer in) {
+            long minorUnits = readNonNegative(in, Long.MAX_VALUE);
+            byte[] code = new byte[CODE_LENGTH];
+            in.get(code);
+            CurrencyUnit currency = valid(CurrencyUnit.of(new String(code, StandardCharsets.US_ASCII)));
+            return valid(CurrencyMoney.ofMinor(minorUnits, currency));
+        }
+    }
+
+    /**
+     * UUID の上位・下位 64bit をそのまま 16 バイトで書きます。
+     */
+    private static final class RequestIdEncoder implements Encoder<RequestId> {
+
+        @Override
+        public void encode(RequestId value, ByteBuffer out) {
+            out.putLong(value.value().getMostSignificantBits());
+            out.putLong(value.value().getLeastSignificantBits());
+        }
+
+        @Override
+        public RequestId decode(ByteBuffer in) {
+            return new RequestId(new UUID(in.getLong(), in.getLong()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 可変長整数 (LEB128: 7bit ずつ下位から、継続ビット付き) の読み書き。
+ * 小さな値ほど短くなり、127 以下は1バイトです。
+ */
+final class Varints {
+
+    private Varints() {}
+
+    static void writeUnsigned(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readUnsigned(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            // 10バイト目は64bit目 (最下位ビット) しか持てない
+            if (shift == 63 && (b & 0x7E) != 0) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    // 負の数も短くなるよう ZigZag 符号化する (0, -1, 1, -2, ... → 0, 1, 2, 3, ...)
+    static void writeSigned(ByteBuffer out, long value) {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSigned(ByteBuffer in) {
+        long u = readUnsigned(in);
+        return (u >>> 1) ^ -(u & 1);
+    }
+}
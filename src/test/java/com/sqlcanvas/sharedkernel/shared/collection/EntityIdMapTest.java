@@ -0,0 +1,116 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityIdMapTest {
+
+    private record UserId(UUID value) implements EntityId<UUID> {
+    }
+
+    @Test
+    void puts_gets_and_removes_by_id() {
+        EntityIdMap<String> map = new EntityIdMap<>();
+        UserId alice = new UserId(UUID.randomUUID());
+        RequestId request = RequestId.generate();
+
+        assertThat(map.put(alice, "alice")).isNull();
+        assertThat(map.put(request, "request")).isNull();
+        assertThat(map.put(alice, "alice2")).isEqualTo("alice");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(alice)).isEqualTo("alice2");
+        assertThat(map.get(new UserId(alice.value()))).isEqualTo("alice2");
+        assertThat(map.get(request.value())).isEqualTo("request");
+        assertThat(map.containsKey(new UserId(UUID.randomUUID()))).isFalse();
+
+        assertThat(map.remove(alice)).isEqualTo("alice2");
+        assertThat(map.remove(alice)).isNull();
+        assertThat(map.containsKey(alice)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void behaves_like_hash_map_under_random_operations() {
+        SplittableRandom random = new SplittableRandom(7);
+        // キーの種類を絞って、衝突・削除後の再挿入を多く起こす
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(new UUID(random.nextLong(4), random.nextLong()));
+        }
+        EntityIdMap<Integer> map = new EntityIdMap<>();
+        Map<UUID, Integer> expected = new HashMap<>();
+        for (int op = 0; op < 200_000; op++) {
+            UUID key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, op)).isEqualTo(expected.put(key, op));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (UUID key : keys) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        Map<UUID, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    void snapshot_is_not_affected_by_later_updates() {
+        EntityIdMap<String> map = new EntityIdMap<>();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        map.put(a, "a");
+
+        EntityIdMap.Snapshot<String> snapshot = map.snapshot();
+        map.put(a, "a2");
+        map.put(b, "b");
+        map.remove(a);
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.get(a)).isEqualTo("a");
+        assertThat(snapshot.containsKey(b)).isFalse();
+        assertThat(map.get(b)).isEqualTo("b");
+        assertThat(map.containsKey(a)).isFalse();
+
+        EntityIdMap.Snapshot<String> second = map.snapshot();
+        map.clear();
+        assertThat(second.get(b)).isEqualTo("b");
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void snapshot_survives_growth() {
+        EntityIdMap<Integer> map = new EntityIdMap<>();
+        UUID first = UUID.randomUUID();
+        map.put(first, 0);
+        EntityIdMap.Snapshot<Integer> snapshot = map.snapshot();
+        for (int i = 1; i < 1_000; i++) {
+            map.put(UUID.randomUUID(), i);
+        }
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.get(first)).isEqualTo(0);
+        assertThat(map.get(first)).isEqualTo(0);
+        assertThat(map.size()).isEqualTo(1_000);
+    }
+
+    @Test
+    void null_values_are_rejected() {
+        EntityIdMap<String> map = new EntityIdMap<>(100);
+        assertThatThrownBy(() -> map.put(UUID.randomUUID(), null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new EntityIdMap<>(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
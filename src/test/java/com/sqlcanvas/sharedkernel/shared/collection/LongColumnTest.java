@@ -0,0 +1,117 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongColumnTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appends_and_reads_values() {
+        try (LongColumn column = new LongColumn()) {
+            column.append(300);
+            column.append(Money.valueOf(100));
+            column.appendAll(new long[]{0, 5, 7, 9}, 1, 2);
+            column.appendAll(List.of(Money.valueOf(1), Money.valueOf(2)));
+
+            assertThat(column.size()).isEqualTo(6);
+            assertThat(column.toArray()).containsExactly(300, 100, 5, 7, 1, 2);
+            assertThat(column.moneyAt(1)).isEqualTo(Money.valueOf(100));
+            assertThatThrownBy(() -> column.getLong(6)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void sorts_in_place_like_arrays_sort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 2, 15, 16, 17, 1000, 50_000}) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++) {
+                // 重複の多い列とランダムな列
+                values[i] = n % 2 == 0 ? random.nextInt(10) : random.nextLong();
+            }
+            try (LongColumn column = new LongColumn()) {
+                column.appendAll(values);
+                column.sort();
+
+                long[] expected = values.clone();
+                Arrays.sort(expected);
+                assertThat(column.toArray()).as("n=%d", n).containsExactly(expected);
+                assertThat(column.isSorted()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void sorts_already_ordered_and_reversed_input() {
+        try (LongColumn column = new LongColumn()) {
+            for (int i = 100_000; i > 0; i--) {
+                column.append(i);
+            }
+            assertThat(column.isSorted()).isFalse();
+            column.sort();
+            assertThat(column.getLong(0)).isEqualTo(1);
+            assertThat(column.getLong(99_999)).isEqualTo(100_000);
+        }
+    }
+
+    @Test
+    void binary_search_returns_the_same_as_arrays() {
+        try (LongColumn column = new LongColumn()) {
+            column.appendAll(new long[]{10, 20, 30, 40});
+
+            assertThat(column.isSorted()).isTrue();
+            assertThat(column.binarySearch(30)).isEqualTo(2);
+            assertThat(column.binarySearch(25)).isEqualTo(Arrays.binarySearch(new long[]{10, 20, 30, 40}, 25));
+            assertThat(column.contains(41)).isFalse();
+
+            column.append(5);
+            assertThatThrownBy(() -> column.binarySearch(5)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void spills_to_a_memory_mapped_file_over_the_threshold() throws Exception {
+        LongColumn column = new LongColumn(16 * 1024, dir);
+        for (int i = 0; i < 1000; i++) {
+            column.append(i);
+        }
+        assertThat(column.isSpilled()).isFalse();
+
+        for (int i = 1000; i < 10_000; i++) {
+            column.append(10_000 - i);
+        }
+        assertThat(column.isSpilled()).isTrue();
+        assertThat(column.getLong(999)).isEqualTo(999);
+        assertThat(column.getLong(1000)).isEqualTo(9000);
+
+        column.sort();
+        assertThat(column.binarySearch(999)).isGreaterThanOrEqualTo(0);
+
+        column.close();
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isZero();
+        }
+        assertThatThrownBy(() -> column.getLong(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void negative_values_are_not_money() {
+        try (LongColumn column = new LongColumn()) {
+            column.append(-1);
+            assertThatThrownBy(() -> column.moneyAt(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
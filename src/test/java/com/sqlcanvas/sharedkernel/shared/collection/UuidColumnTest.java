@@ -0,0 +1,71 @@
+package com.sqlcanvas.sharedkernel.shared.collection;
+
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidColumnTest {
+
+    private record UserId(UUID value) implements EntityId<UUID> {
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appends_and_reads_ids() {
+        UserId first = new UserId(UUID.randomUUID());
+        UserId second = new UserId(UUID.randomUUID());
+        try (UuidColumn column = new UuidColumn()) {
+            column.append(first);
+            column.appendAll(List.of(second));
+
+            assertThat(column.size()).isEqualTo(2);
+            assertThat(column.get(0, UserId::new)).isEqualTo(first);
+            assertThat(column.getUuid(1)).isEqualTo(second.value());
+        }
+    }
+
+    @Test
+    void sorts_in_uuid_order_and_searches() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        // 上位 64bit が等しく下位だけ異なるもの
+        uuids.add(new UUID(1, 2));
+        uuids.add(new UUID(1, -2));
+        try (UuidColumn column = new UuidColumn(64 * 1024, dir)) {
+            uuids.forEach(column::append);
+            column.sort();
+
+            List<UUID> expected = new ArrayList<>(uuids);
+            Collections.sort(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(column.getUuid(i)).isEqualTo(expected.get(i));
+            }
+            assertThat(column.isSpilled()).isTrue();
+            assertThat(column.contains(new UserId(uuids.get(123)))).isTrue();
+            assertThat(column.binarySearch(new UUID(1, 2))).isEqualTo(Collections.binarySearch(expected, new UUID(1, 2)));
+            assertThat(column.contains(UUID.randomUUID())).isFalse();
+        }
+    }
+
+    @Test
+    void search_requires_sorted_column() {
+        try (UuidColumn column = new UuidColumn()) {
+            column.append(new UUID(0, 2));
+            column.append(new UUID(0, 1));
+            assertThatThrownBy(() -> column.contains(new UUID(0, 1))).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
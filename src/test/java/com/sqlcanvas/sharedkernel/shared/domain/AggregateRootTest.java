@@ -3,6 +3,7 @@ package com.sqlcanvas.sharedkernel.shared.domain;
 import org.junit.jupiter.api.Test;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class AggregateRootTest {
 
@@ -32,4 +33,27 @@ class AggregateRootTest {
         // クリアの検証
         assertThat(agg.pullDomainEvents()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void events_are_handed_over_without_copying() {
+        TestAggregate agg = new TestAggregate("id-456");
+
+        // イベントがなければ共有の空リスト
+        assertThat(agg.getDomainEvents()).isEmpty();
+        assertThat(agg.pullDomainEvents()).isSameAs(List.of());
+
+        agg.doSomething();
+        agg.doSomething();
+        assertThat(agg.getDomainEvents()).hasSize(2);
+
+        List<Object> events = agg.pullDomainEvents();
+        assertThat(events).hasSize(2);
+        assertThatThrownBy(() -> events.add("x")).isInstanceOf(UnsupportedOperationException.class);
+
+        // 取り出した後のイベントは別のリストに溜まる
+        agg.doSomething();
+        assertThat(events).hasSize(2);
+        assertThat(agg.pullDomainEvents()).hasSize(1);
+        assertThat(agg.getDomainEvents()).isEmpty();
+    }
+}
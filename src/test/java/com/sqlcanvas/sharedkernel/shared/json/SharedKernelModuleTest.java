@@ -0,0 +1,194 @@
+package com.sqlcanvas.sharedkernel.shared.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.ErrorDetail;
+import com.sqlcanvas.sharedkernel.shared.result.FailureReason;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.result.ResultFailureException;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyMoney;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedKernelModuleTest {
+
+    enum OrderErrorCode implements ErrorCode {
+        OUT_OF_STOCK;
+
+        @Override
+        public String getCode() {
+            return "ORD-001";
+        }
+
+        @Override
+        public String getDefaultMessage() {
+            return "在庫がありません。";
+        }
+
+        @Override
+        public HttpStatus getStatus() {
+            return HttpStatus.CONFLICT;
+        }
+    }
+
+    record Customer(RequestId id, Email email, PhoneNumber phone, PostalCode postalCode) {}
+
+    record OrderLine(Money amount, PositiveInt quantity) {}
+
+    record Order(Customer customer, List<OrderLine> lines, NonNegativeLong points, PositiveBigDecimal weight) {}
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new SharedKernelModule(OrderErrorCode.values()));
+    private final ObjectMapper plain = new ObjectMapper();
+
+    private Order sampleOrder() {
+        Customer customer = new Customer(
+                RequestId.from("0190f3a1-7b2c-7def-8123-456789abcdef").unwrap(),
+                Email.of("taro@example.com").unwrap(),
+                PhoneNumber.of("090-1234-5678").unwrap(),
+                PostalCode.of("123-4567").unwrap());
+        return new Order(customer,
+                List.of(new OrderLine(Money.valueOf(1200), PositiveInt.valueOf(2))),
+                NonNegativeLong.valueOf(0),
+                PositiveBigDecimal.of(new BigDecimal("1.25")).unwrap());
+    }
+
+    @Test
+    void value_objects_keep_the_default_json_shape() throws Exception {
+        Order order = sampleOrder();
+
+        String json = mapper.writeValueAsString(order);
+
+        // Money の派生プロパティ zero 以外は既定のマッピングと同じ
+        assertThat(json).isEqualTo(plain.writeValueAsString(order).replace(",\"zero\":false", ""));
+        assertThat(json).contains("\"id\":{\"value\":\"0190f3a1-7b2c-7def-8123-456789abcdef\"}");
+        assertThat(mapper.readValue(json, Order.class)).isEqualTo(order);
+        assertThat(mapper.readValue(plain.writeValueAsString(order), Order.class)).isEqualTo(order);
+    }
+
+    @Test
+    void scalar_values_are_accepted() throws Exception {
+        assertThat(mapper.readValue("1000", Money.class)).isEqualTo(Money.valueOf(1000));
+        assertThat(mapper.readValue("\"a@example.com\"", Email.class)).isEqualTo(Email.of("a@example.com").unwrap());
+        assertThat(mapper.readValue("\"0190F3A1-7B2C-7DEF-8123-456789ABCDEF\"", RequestId.class).value())
+                .isEqualTo(UUID.fromString("0190f3a1-7b2c-7def-8123-456789abcdef"));
+    }
+
+    @Test
+    void currency_money_uses_the_currency_code() throws Exception {
+        CurrencyMoney money = CurrencyMoney.ofMinor(1234, CurrencyUnit.USD).unwrap();
+
+        String json = mapper.writeValueAsString(money);
+
+        assertThat(json).isEqualTo("{\"currency\":\"USD\",\"minorUnits\":1234}");
+        assertThat(mapper.readValue(json, CurrencyMoney.class)).isEqualTo(money);
+        assertThat(mapper.readValue("\"JPY\"", CurrencyUnit.class)).isSameAs(CurrencyUnit.JPY);
+        assertThatThrownBy(() -> mapper.readValue("{\"currency\":\"ZZZ\",\"minorUnits\":1}", CurrencyMoney.class))
+                .isInstanceOf(ValueObjectJsonException.class);
+    }
+
+    @Test
+    void invalid_values_are_reported_through_the_of_factories() {
+        assertThatThrownBy(() -> mapper.readValue("{\"amount\":-1}", Money.class))
+                .isInstanceOf(ValueObjectJsonException.class)
+                .hasMessageContaining("金額は0以上である必要があります");
+        assertThatThrownBy(() -> mapper.readValue("{\"value\":0}", PositiveInt.class))
+                .isInstanceOf(ValueObjectJsonException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"amount\":1,\"extra\":2}", Money.class))
+                .isNotInstanceOf(ValueObjectJsonException.class);
+    }
+
+    @Test
+    void json_results_return_failures_with_the_field_path() throws Exception {
+        String json = mapper.writeValueAsString(sampleOrder())
+                .replace("\"amount\":1200", "\"amount\":-5");
+
+        Result<Order> result = JsonResults.read(mapper, json, Order.class);
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        List<ErrorDetail> errors = result.unwrapFailure().errors();
+        assertThat(errors.size()).isEqualTo(1);
+        assertThat(errors.get(0).field()).isEqualTo("lines[0].amount");
+        assertThat(errors.get(0).message()).isEqualTo("金額は0以上である必要があります");
+
+        assertThat(JsonResults.read(mapper, "{\"amount\":", Money.class))
+                .isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(JsonResults.read(mapper, "{\"amount\":5}".getBytes(), Money.class).unwrap())
+                .isEqualTo(Money.valueOf(5));
+    }
+
+    @Test
+    void results_round_trip_in_the_compact_shape() throws Exception {
+        TypeReference<Result<Money>> type = new TypeReference<>() {};
+
+        Result<Money> success = Result.success(Money.valueOf(300));
+        String successJson = mapper.writeValueAsString(success);
+        assertThat(successJson).isEqualTo("{\"value\":{\"amount\":300}}");
+        assertThat(mapper.readValue(successJson, type)).isEqualTo(success);
+
+        Result<Money> failure = Result.failure(OrderErrorCode.OUT_OF_STOCK, "在庫が {} 個足りません", 3);
+        String failureJson = mapper.writeValueAsString(failure);
+        assertThat(failureJson).isEqualTo("{\"error\":{\"code\":\"ORD-001\",\"message\":\"在庫が 3 個足りません\"}}");
+        Result<Money> read = mapper.readValue(failureJson, type);
+        assertThat(read).isFailure().hasErrorCode(OrderErrorCode.OUT_OF_STOCK);
+        assertThat(read.unwrapFailure().message()).isEqualTo("在庫が 3 個足りません");
+    }
+
+    @Test
+    void failures_with_details_and_unknown_codes() throws Exception {
+        Result<Money> failure = Result.failureWith(CommonErrorCode.INVALID_PARAMETER, FailureReason.of(List.of(
+                new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "email", "メールアドレスの形式が不正です"),
+                new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, null, "数量が不正です"))));
+
+        Result<Money> read = mapper.readValue(mapper.writeValueAsString(failure), new TypeReference<>() {});
+
+        assertThat(read.unwrapFailure().errors()).isEqualTo(failure.unwrapFailure().errors());
+
+        Result<Money> unknown = mapper.readValue(
+                "{\"error\":{\"code\":\"PAY-999\",\"message\":\"決済に失敗しました\"}}", new TypeReference<>() {});
+        assertThat(unknown.unwrapFailure().errorCode()).isEqualTo(new UnregisteredErrorCode("PAY-999", "決済に失敗しました"));
+
+        // 読み込んだ失敗から作った例外も直列化できる
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new ResultFailureException(unknown.unwrapFailure()));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(((ResultFailureException) in.readObject()).getErrorCode())
+                    .isEqualTo(new UnregisteredErrorCode("PAY-999", "決済に失敗しました"));
+        }
+    }
+
+    @Test
+    void results_nested_in_other_types() throws Exception {
+        record Response(Result<Email> email) {}
+
+        Response response = mapper.readValue("{\"email\":{\"value\":{\"value\":\"a@example.com\"}}}", Response.class);
+
+        assertThat(response.email().unwrap()).isEqualTo(Email.of("a@example.com").unwrap());
+        assertThatThrownBy(() -> mapper.readValue("{\"email\":{}}", Response.class))
+                .hasMessageContaining("'value' or 'error'");
+    }
+}
@@ -0,0 +1,89 @@
+package com.sqlcanvas.sharedkernel.shared.persistence;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import com.sqlcanvas.sharedkernel.shared.vo.CurrencyUnit;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import com.sqlcanvas.sharedkernel.shared.vo.EntityId;
+import com.sqlcanvas.sharedkernel.shared.vo.Money;
+import com.sqlcanvas.sharedkernel.shared.vo.NonNegativeLong;
+import com.sqlcanvas.sharedkernel.shared.vo.PhoneNumber;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveBigDecimal;
+import com.sqlcanvas.sharedkernel.shared.vo.PositiveInt;
+import com.sqlcanvas.sharedkernel.shared.vo.PostalCode;
+import jakarta.persistence.AttributeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueObjectConvertersTest {
+
+    record UserId(UUID value) implements EntityId<UUID> {}
+
+    static class UserIdConverter extends UuidEntityIdConverter<UserId> {
+        UserIdConverter() {
+            super(UserId::new);
+        }
+    }
+
+    static class UserIdBinaryConverter extends UuidEntityIdBinaryConverter<UserId> {
+        UserIdBinaryConverter() {
+            super(UserId::new);
+        }
+    }
+
+    private static <A, D> D roundTrip(AttributeConverter<A, D> converter, A attribute) {
+        D column = converter.convertToDatabaseColumn(attribute);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(attribute);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        return column;
+    }
+
+    @Test
+    void numeric_value_objects_map_to_primitive_columns() {
+        assertThat(roundTrip(new MoneyConverter(), Money.valueOf(1500))).isEqualTo(1500L);
+        assertThat(roundTrip(new PositiveIntConverter(), PositiveInt.valueOf(3))).isEqualTo(3);
+        assertThat(roundTrip(new NonNegativeLongConverter(), NonNegativeLong.valueOf(0))).isEqualTo(0L);
+        assertThat(roundTrip(new PositiveBigDecimalConverter(), PositiveBigDecimal.of(new BigDecimal("2.50")).unwrap()))
+                .isEqualTo(new BigDecimal("2.50"));
+        assertThatThrownBy(() -> new MoneyConverter().convertToEntityAttribute(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void string_value_objects_map_to_their_text() {
+        assertThat(roundTrip(new EmailConverter(), Email.of("a@example.com").unwrap())).isEqualTo("a@example.com");
+        assertThat(roundTrip(new PhoneNumberConverter(), PhoneNumber.of("03-1234-5678").unwrap())).isEqualTo("03-1234-5678");
+        assertThat(roundTrip(new PostalCodeConverter(), PostalCode.of("123-4567").unwrap())).isEqualTo("123-4567");
+        assertThat(roundTrip(new CurrencyUnitConverter(), CurrencyUnit.USD)).isEqualTo("USD");
+    }
+
+    @Test
+    void legacy_rows_that_do_not_match_the_format_are_still_readable() {
+        assertThat(new PhoneNumberConverter().convertToEntityAttribute("03 1234 5678").value()).isEqualTo("03 1234 5678");
+        assertThat(new PostalCodeConverter().convertToEntityAttribute("1234567").value()).isEqualTo("1234567");
+        assertThat(new EmailConverter().convertToEntityAttribute("legacy").value()).isEqualTo("legacy");
+    }
+
+    @Test
+    void identifiers_map_to_uuid_or_16_bytes() {
+        RequestId requestId = RequestId.generate();
+        assertThat(roundTrip(new RequestIdConverter(), requestId)).isEqualTo(requestId.value());
+
+        byte[] bytes = roundTrip(new RequestIdBinaryConverter(), requestId);
+        assertThat(bytes.length).isEqualTo(16);
+
+        UserId userId = new UserId(UUID.fromString("00112233-4455-6677-8899-aabbccddeeff"));
+        assertThat(roundTrip(new UserIdConverter(), userId)).isEqualTo(userId.value());
+        byte[] userBytes = roundTrip(new UserIdBinaryConverter(), userId);
+        assertThat(userBytes[0]).isEqualTo((byte) 0x00);
+        assertThat(userBytes[15]).isEqualTo((byte) 0xFF);
+
+        assertThatThrownBy(() -> new RequestIdBinaryConverter().convertToEntityAttribute(new byte[15]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
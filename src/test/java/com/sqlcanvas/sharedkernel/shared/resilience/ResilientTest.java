@@ -0,0 +1,227 @@
+package com.sqlcanvas.sharedkernel.shared.resilience;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Resilient.Builder builder() {
+        return Resilient.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(5))
+                .attemptTimeout(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void returns_success_on_first_attempt() {
+        Resilient.Execution<String> execution = builder().build().execute(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+
+        assertThat(execution.result()).isSuccess().hasValueSatisfying(v -> assertThat(v).isEqualTo("ok"));
+        assertThat(execution.attempts()).isEqualTo(1);
+        assertThat(execution.hedges()).isEqualTo(0);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retries_exception_then_succeeds() {
+        Resilient.Execution<String> execution = builder().build().execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("connection reset");
+            }
+            return "ok";
+        });
+
+        assertThat(execution.result()).isSuccess();
+        assertThat(execution.attempts()).isEqualTo(3);
+    }
+
+    @Test
+    void gives_up_after_max_attempts_with_service_unavailable() {
+        Result<String> result = builder().build().call(() -> {
+            calls.incrementAndGet();
+            throw new IOException("connection refused");
+        });
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(((Result.Failure<String>) result).message()).contains("connection refused");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void does_not_retry_non_retryable_failure() {
+        Resilient.Execution<String> execution = builder().build().executeResult(() -> {
+            calls.incrementAndGet();
+            return Result.failure(CommonErrorCode.RESOURCE_NOT_FOUND, "not found");
+        });
+
+        assertThat(execution.result()).isFailure().hasErrorCode(CommonErrorCode.RESOURCE_NOT_FOUND);
+        assertThat(execution.attempts()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void custom_retry_predicate_is_applied() {
+        Resilient resilient = builder()
+                .retryOn(f -> f.errorCode() == CommonErrorCode.CONFLICT)
+                .build();
+
+        Result<String> result = resilient.callResult(() -> calls.incrementAndGet() < 2
+                ? Result.failure(CommonErrorCode.CONFLICT, "version mismatch")
+                : Result.success("ok"));
+
+        assertThat(result).isSuccess();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void slow_attempt_times_out_with_gateway_timeout() {
+        Resilient resilient = builder()
+                .maxAttempts(2)
+                .attemptTimeout(Duration.ofMillis(50))
+                .build();
+
+        Resilient.Execution<String> execution = resilient.execute(() -> {
+            calls.incrementAndGet();
+            Thread.sleep(5_000);
+            return "late";
+        });
+
+        assertThat(execution.result()).isFailure().hasErrorCode(CommonErrorCode.GATEWAY_TIMEOUT);
+        assertThat(execution.attempts()).isEqualTo(2);
+        assertThat(execution.elapsed()).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void hedges_slow_call_after_warmup() throws InterruptedException {
+        Resilient resilient = builder()
+                .hedgeAtPercentile(0.9)
+                .latencyWindow(16, 4)
+                .build();
+
+        // 統計が溜まるまではヘッジしない
+        for (int i = 0; i < 4; i++) {
+            assertThat(resilient.execute(() -> "fast").hedges()).isEqualTo(0);
+        }
+
+        // 先に始まった方は中断されるまで返らない → ヘッジした2本目が採用され、1本目は中断される
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        Resilient.Execution<String> execution = resilient.execute(() -> {
+            if (started.incrementAndGet() == 1) {
+                try {
+                    neverReleased.await(10, TimeUnit.SECONDS);
+                    return "primary";
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                    throw e;
+                }
+            }
+            return "hedge";
+        });
+
+        assertThat(execution.result()).isSuccess().hasValueSatisfying(v -> assertThat(v).isEqualTo("hedge"));
+        assertThat(execution.hedges()).isEqualTo(1);
+        assertThat(execution.attempts()).isEqualTo(1);
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(primaryCancelled.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void rejected_attempt_is_service_unavailable() {
+        Resilient resilient = builder()
+                .executor(task -> {
+                    calls.incrementAndGet();
+                    throw new RejectedExecutionException("saturated");
+                })
+                .build();
+
+        Resilient.Execution<String> execution = resilient.execute(() -> "never");
+
+        assertThat(execution.result()).isFailure().hasErrorCode(CommonErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(execution.attempts()).isEqualTo(3);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void rejected_hedge_keeps_waiting_for_the_primary() {
+        AtomicBoolean saturated = new AtomicBoolean();
+        CountDownLatch hedgeRejected = new CountDownLatch(1);
+        Resilient resilient = builder()
+                .hedgeAtPercentile(0.9)
+                .latencyWindow(16, 4)
+                .executor(task -> {
+                    if (saturated.get() && calls.incrementAndGet() == 2) {
+                        hedgeRejected.countDown();
+                        throw new RejectedExecutionException("saturated");
+                    }
+                    Thread.ofVirtual().start(task);
+                })
+                .build();
+        for (int i = 0; i < 4; i++) {
+            resilient.execute(() -> "fast");
+        }
+
+        saturated.set(true);
+        Resilient.Execution<String> execution = resilient.execute(() -> {
+            hedgeRejected.await(10, TimeUnit.SECONDS);
+            return "primary";
+        });
+
+        assertThat(execution.result()).isSuccess().hasValueSatisfying(v -> assertThat(v).isEqualTo("primary"));
+        assertThat(execution.hedges()).isEqualTo(0);
+        assertThat(hedgeRejected.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    void backoff_ceiling_doubles_and_caps_without_overflow() {
+        long max = Duration.ofSeconds(2).toNanos();
+
+        assertThat(Resilient.backoffCeiling(100, max, 1)).isEqualTo(100L);
+        assertThat(Resilient.backoffCeiling(100, max, 4)).isEqualTo(800L);
+        assertThat(Resilient.backoffCeiling(100, max, 100)).isEqualTo(max);
+        // 2^34+1 を 30 ビットずらすと桁あふれで約 1 秒に戻ってしまう値
+        long initial = (1L << 34) + 1;
+        assertThat(Resilient.backoffCeiling(initial, Long.MAX_VALUE, 31)).isEqualTo(Long.MAX_VALUE);
+        assertThat(Resilient.backoffCeiling(initial, initial * 4, 31)).isEqualTo(initial * 4);
+    }
+
+    @Test
+    void null_result_is_system_error() {
+        Result<String> result = builder().build().callResult(() -> null);
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+    }
+
+    @Test
+    void builder_rejects_invalid_settings() {
+        assertThatThrownBy(() -> Resilient.builder().maxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resilient.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resilient.builder().attemptTimeout(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resilient.builder().hedgeAtPercentile(1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Resilient.builder().latencyWindow(10, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyResultTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private LazyResult<Integer> source(int value) {
+        return LazyResult.of(() -> {
+            calls.incrementAndGet();
+            return Result.success(value);
+        });
+    }
+
+    @Test
+    void nothing_runs_until_terminal_operation() {
+        AtomicInteger mapped = new AtomicInteger();
+        LazyResult<String> lazy = source(20)
+                .map(v -> {
+                    mapped.incrementAndGet();
+                    return v + 1;
+                })
+                .flatMap(v -> Result.success("v" + v));
+
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(mapped.get()).isEqualTo(0);
+        assertThat(lazy.isEvaluated()).isFalse();
+
+        assertThat(lazy.unwrap()).isEqualTo("v21");
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(lazy.orElse("other")).isEqualTo("v21");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(mapped.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shared_step_runs_at_most_once() {
+        AtomicInteger expensive = new AtomicInteger();
+        LazyResult<Integer> shared = source(2).map(v -> {
+            expensive.incrementAndGet();
+            return v * 10;
+        });
+        LazyResult<Integer> plusOne = shared.map(v -> v + 1);
+        LazyResult<Integer> plusTwo = shared.map(v -> v + 2);
+
+        assertThat(plusOne.unwrap()).isEqualTo(21);
+        assertThat(plusTwo.unwrap()).isEqualTo(22);
+        assertThat(shared.unwrap()).isEqualTo(20);
+        assertThat(expensive.get()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failure_skips_map_and_flatMap_and_is_propagated_as_is() {
+        Result<Integer> failure = Result.failure(CommonErrorCode.RESOURCE_NOT_FOUND, "not found");
+        AtomicInteger mapped = new AtomicInteger();
+
+        LazyResult<String> lazy = LazyResult.from(failure)
+                .map(v -> mapped.incrementAndGet())
+                .flatMap(v -> Result.success("x"));
+
+        assertThat(lazy.get()).isSameAs(failure);
+        assertThat(lazy.isFailure()).isTrue();
+        assertThat(mapped.get()).isEqualTo(0);
+        String folded = lazy.fold(v -> v, Result.Failure::message);
+        assertThat(folded).isEqualTo("not found");
+    }
+
+    @Test
+    void recover_turns_failure_into_success() {
+        LazyResult<Integer> lazy = LazyResult.<Integer>of(() -> Result.failure(CommonErrorCode.INVALID_PARAMETER))
+                .recover(f -> -1)
+                .map(v -> v * 2);
+
+        assertThat(lazy.get()).isSuccess().hasValueSatisfying(v -> assertThat(v).isEqualTo(-2));
+    }
+
+    @Test
+    void long_chain_does_not_overflow_stack() {
+        LazyResult<Integer> lazy = source(0);
+        for (int i = 0; i < 200_000; i++) {
+            lazy = lazy.map(v -> v + 1);
+        }
+
+        assertThat(lazy.unwrap()).isEqualTo(200_000);
+    }
+
+    @Test
+    void step_that_throws_is_retried_on_next_terminal_operation() {
+        AtomicInteger attempts = new AtomicInteger();
+        LazyResult<Integer> lazy = source(1).map(v -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return v;
+        });
+
+        assertThatThrownBy(lazy::get).isInstanceOf(IllegalStateException.class);
+        assertThat(lazy.isEvaluated()).isFalse();
+
+        assertThat(lazy.unwrap()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void unwrap_of_failure_throws_result_failure_exception() {
+        LazyResult<Integer> lazy = LazyResult.from(Result.failure(CommonErrorCode.CONFLICT));
+
+        assertThatThrownBy(lazy::unwrap).isInstanceOf(ResultFailureException.class);
+        assertThat(lazy.orElseGet(() -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void concurrent_evaluation_runs_each_step_once() throws Exception {
+        AtomicInteger mapped = new AtomicInteger();
+        LazyResult<Integer> lazy = source(1).map(v -> {
+            mapped.incrementAndGet();
+            return v + 1;
+        });
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return lazy.map(v -> v * 10).unwrap();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> f : futures) {
+                assertThat(f.get()).isEqualTo(20);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(mapped.get()).isEqualTo(1);
+    }
+
+    @Test
+    void toString_shows_evaluation_state() {
+        LazyResult<Integer> lazy = source(3);
+
+        assertThat(lazy.toString()).isEqualTo("LazyResult[<unevaluated>]");
+        lazy.get();
+        assertThat(lazy.toString()).isEqualTo("LazyResult[Success[value=3]]");
+    }
+}
@@ -0,0 +1,282 @@
+package com.sqlcanvas.sharedkernel.shared.result;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // 負数のキーは「見つからない」失敗を返すローダー
+    private Result<String> load(Integer key) {
+        loads.incrementAndGet();
+        if (key < 0) {
+            return Result.failure(CommonErrorCode.RESOURCE_NOT_FOUND, "not found: {}", key);
+        }
+        return Result.success("v" + key + "#" + loads.get());
+    }
+
+    private ResultCache.Builder<Integer, String> builder() {
+        return ResultCache.<Integer, String>builder()
+                .successTtl(Duration.ofSeconds(60))
+                .failureTtl(Duration.ofSeconds(5))
+                .ticker(now::get);
+    }
+
+    private void advance(Duration d) {
+        now.addAndGet(d.toNanos());
+    }
+
+    @Test
+    void caches_success_until_ttl() {
+        ResultCache<Integer, String> cache = builder().build(this::load);
+
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#1");
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(60));
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#2");
+
+        ResultCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1L);
+        assertThat(stats.misses()).isEqualTo(2L);
+        assertThat(stats.loadSuccesses()).isEqualTo(2L);
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void caches_failure_with_shorter_ttl() {
+        ResultCache<Integer, String> cache = builder().build(this::load);
+
+        assertThat(cache.get(-1)).isFailure().hasErrorCode(CommonErrorCode.RESOURCE_NOT_FOUND);
+        advance(Duration.ofSeconds(4));
+        cache.get(-1);
+        assertThat(loads.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(1));
+        cache.get(-1);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().loadFailures()).isEqualTo(2L);
+    }
+
+    @Test
+    void zero_failure_ttl_disables_negative_caching() {
+        ResultCache<Integer, String> cache = builder().failureTtl(Duration.ZERO).build(this::load);
+
+        cache.get(-1);
+        cache.get(-1);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getIfPresent(-1)).isNull();
+    }
+
+    @Test
+    void evicts_with_segmented_lru() {
+        ResultCache<Integer, String> cache = builder().maximumSize(3).build(this::load);
+
+        cache.get(1);
+        cache.get(1); // 2回目の参照で protected に昇格
+        cache.get(2);
+        cache.get(3);
+        cache.get(4); // 上限超過 → probation の最古 (2) を追い出す
+
+        assertThat(cache.size()).isEqualTo(3L);
+        assertThat(cache.getIfPresent(1)).isNotNull();
+        assertThat(cache.getIfPresent(2)).isNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    void invalidate() {
+        ResultCache<Integer, String> cache = builder().build(this::load);
+        cache.get(1);
+        cache.get(2);
+
+        cache.invalidate(1);
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.getIfPresent(2)).isNotNull();
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+        cache.get(2);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void coalesces_concurrent_misses() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<Integer, String> cache = builder().build(key -> {
+            started.countDown();
+            await(release);
+            return load(key);
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Result<String>>> futures = new ArrayList<>();
+            futures.add(pool.submit(() -> cache.get(1)));
+            started.await();
+            for (int i = 0; i < 7; i++) {
+                futures.add(pool.submit(() -> cache.get(1)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Result<String>> f : futures) {
+                assertThat(f.get(5, TimeUnit.SECONDS).unwrap()).isEqualTo("v1#1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidate_during_load_discards_the_stale_result() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache<Integer, String> cache = builder().build(key -> {
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+                return Result.success("stale");
+            }
+            return Result.success("fresh");
+        });
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Result<String>> slow = pool.submit(() -> cache.get(1));
+            started.await();
+            cache.invalidate(1);
+            release.countDown();
+
+            // 読み込みを始めた呼び出し元には結果を返すが、キャッシュには残さない
+            assertThat(slow.get(5, TimeUnit.SECONDS).unwrap()).isEqualTo("stale");
+            assertThat(cache.getIfPresent(1)).isNull();
+            assertThat(cache.get(1).unwrap()).isEqualTo("fresh");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void loader_exception_is_not_cached() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache<Integer, String> cache = builder().build(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return Result.success("ok");
+        });
+
+        assertThatThrownBy(() -> cache.get(1)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1).unwrap()).isEqualTo("ok");
+    }
+
+    @Test
+    void refresh_ahead_returns_stale_value_and_reloads() {
+        List<Runnable> tasks = new ArrayList<>();
+        ResultCache<Integer, String> cache = builder()
+                .refreshAfter(Duration.ofSeconds(30))
+                .refreshExecutor(tasks::add)
+                .build(this::load);
+
+        cache.get(1);
+        advance(Duration.ofSeconds(30));
+
+        // 先読みを予約し、古い値を返す
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#1");
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#1");
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        assertThat(cache.get(1).unwrap()).isEqualTo("v1#2");
+        assertThat(cache.stats().refreshes()).isEqualTo(1L);
+    }
+
+    @Test
+    void refresh_failure_keeps_stale_success() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache<Integer, String> cache = builder()
+                .refreshAfter(Duration.ofSeconds(30))
+                .refreshExecutor(Runnable::run)
+                .build(key -> calls.incrementAndGet() == 1
+                        ? Result.success("first")
+                        : Result.failure(CommonErrorCode.SERVICE_UNAVAILABLE));
+
+        cache.get(1);
+        advance(Duration.ofSeconds(30));
+
+        assertThat(cache.get(1).unwrap()).isEqualTo("first");
+        assertThat(cache.get(1).unwrap()).isEqualTo("first");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_error_does_not_disable_refresh_ahead() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache<Integer, String> cache = builder()
+                .successTtl(Duration.ofMinutes(10))
+                .refreshAfter(Duration.ofSeconds(30))
+                .refreshExecutor(task -> {
+                    try {
+                        task.run();
+                    } catch (Error ignored) {
+                        // 仮想スレッドと同じく、Executor の外には伝播しない
+                    }
+                })
+                .build(key -> switch (calls.incrementAndGet()) {
+                    case 1 -> Result.success("first");
+                    case 2 -> throw new AssertionError("boom");
+                    default -> Result.success("second");
+                });
+
+        cache.get(1);
+        advance(Duration.ofSeconds(30));
+        assertThat(cache.get(1).unwrap()).isEqualTo("first");
+        assertThat(calls.get()).isEqualTo(2);
+
+        // Error の後も、次の予定時刻になれば先読みが再び実行される
+        advance(Duration.ofSeconds(30));
+        cache.get(1);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(cache.get(1).unwrap()).isEqualTo("second");
+    }
+
+    @Test
+    void invalid_builder_arguments() {
+        assertThatThrownBy(() -> ResultCache.builder().maximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResultCache.builder().successTtl(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package com.sqlcanvas.sharedkernel.shared.result;
 
 import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.error.ErrorCode;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -137,4 +148,227 @@ class ResultTest {
         assertThat(failure.isSuccess()).isFalse();
         assertThat(failure.isFailure()).isTrue();
     }
-}
\ No newline at end of file
+
+    // --- Failure / FailureReason ---
+
+    @Test
+    void failure_keeps_string_constructor_and_message() {
+        Result.Failure<String> failure = new Result.Failure<>(CommonErrorCode.CONFLICT, "Duplicated");
+
+        assertThat(failure.message()).isEqualTo("Duplicated");
+        assertThat(failure.reason().hasDetails()).isFalse();
+        assertThat(failure.reason().details()).isEmpty();
+        assertThat(failure).isEqualTo(Result.failure(CommonErrorCode.CONFLICT, "Duplicated"));
+        assertThat(failure).hasSameHashCodeAs(Result.failure(CommonErrorCode.CONFLICT, "Duplicated"));
+        assertThat(failure).isNotEqualTo(Result.failure(CommonErrorCode.CONFLICT, "Other"));
+    }
+
+    @Test
+    void failure_errors_single() {
+        Result.Failure<String> failure = Result.<String>failure(CommonErrorCode.RESOURCE_NOT_FOUND).unwrapFailure();
+
+        assertThat(failure.errors()).hasSize(1);
+        ErrorDetail detail = failure.errors().get(0);
+        assertThat(detail.code()).isEqualTo("SYS-404");
+        assertThat(detail.field()).isNull();
+        assertThat(detail.message()).isEqualTo(CommonErrorCode.RESOURCE_NOT_FOUND.getDefaultMessage());
+    }
+
+    @Test
+    void failure_reason_renders_details_lazily() {
+        FailureReason reason = FailureReason.of(List.of(
+                new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "email", "E1"),
+                new ErrorDetail(CommonErrorCode.SYSTEM_ERROR, null, "E2")
+        ));
+
+        assertThat(reason.hasDetails()).isTrue();
+        assertThat(reason.message()).isEqualTo("[SYS-400] E1\n[SYS-500] E2");
+        assertThat(reason.message()).isSameAs(reason.message()); // メモ化
+        assertThat(reason.toString()).isEqualTo(reason.message());
+        assertThatThrownBy(() -> FailureReason.of(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failure_reason_equality_does_not_render_messages() {
+        FailureReason email = FailureReason.of(List.of(new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "email", "必須です")));
+        FailureReason phone = FailureReason.of(List.of(new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "phone", "必須です")));
+        FailureReason conflict = FailureReason.of(List.of(new ErrorDetail(CommonErrorCode.CONFLICT, "email", "必須です")));
+
+        // 表示用メッセージが同じでも、項目パスやコードが異なれば等しくない
+        assertThat(email).isNotEqualTo(phone);
+        assertThat(email).isNotEqualTo(conflict);
+        assertThat(email).isEqualTo(FailureReason.of(List.of(new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "email", "必須です"))));
+
+        // 遅延生成はサプライヤーのインスタンスで比較し、サプライヤーは呼び出さない
+        Supplier<String> bomb = () -> {
+            throw new IllegalStateException("must not be called");
+        };
+        Result<String> lazy = Result.failureLazy(CommonErrorCode.SYSTEM_ERROR, bomb);
+        assertThat(lazy).isEqualTo(Result.failureLazy(CommonErrorCode.SYSTEM_ERROR, bomb));
+        assertThat(lazy.hashCode()).isEqualTo(Result.failureLazy(CommonErrorCode.SYSTEM_ERROR, bomb).hashCode());
+        assertThat(lazy).isNotEqualTo(Result.failureLazy(CommonErrorCode.SYSTEM_ERROR, () -> "other"));
+        assertThat(lazy).isNotEqualTo(Result.failure(CommonErrorCode.SYSTEM_ERROR, "text"));
+    }
+
+    @Test
+    void failure_accepts_null_message_like_before() {
+        Result<String> failure = Result.failure(CommonErrorCode.CONFLICT, null);
+
+        assertThat(failure.unwrapFailure().message()).isNull();
+        assertThat(new Result.Failure<String>(CommonErrorCode.CONFLICT, (String) null)).isEqualTo(failure);
+        assertThat(failure.map(String::length).unwrapFailure().message()).isNull();
+    }
+
+    @Test
+    void failure_propagates_reason_through_map() {
+        FailureReason reason = FailureReason.of("Bomb");
+        Result<Integer> failure = Result.failureWith(CommonErrorCode.SYSTEM_ERROR, reason);
+
+        Result<String> mapped = failure.map(String::valueOf).flatMap(Result::success);
+
+        assertThat(mapped.unwrapFailure().reason()).isSameAs(reason);
+    }
+
+    @Test
+    void errorResponse_from_failure() {
+        ErrorResponse single = ErrorResponse.from(
+                Result.failure(CommonErrorCode.CONFLICT, "Duplicated").unwrapFailure());
+        assertThat(single.code()).isEqualTo("SYS-409");
+        assertThat(single.message()).isEqualTo("Duplicated");
+        assertThat(single.errors()).hasSize(1);
+
+        ErrorResponse multi = ErrorResponse.from(Result.failureWith(CommonErrorCode.INVALID_PARAMETER, FailureReason.of(List.of(
+                new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "email", "E1"),
+                new ErrorDetail(CommonErrorCode.INVALID_PARAMETER, "phone", "E2")
+        ))).unwrapFailure());
+        assertThat(multi.message()).isEqualTo(CommonErrorCode.INVALID_PARAMETER.getDefaultMessage());
+        assertThat(multi.errors()).hasSize(2);
+        assertThat(multi.errors().get(1).withParentField("contact").field()).isEqualTo("contact.phone");
+    }
+
+    // --- Lazy Message ---
+
+    @Test
+    void failure_with_supplier_is_lazy_and_memoized() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> failure = Result.failureLazy(CommonErrorCode.SYSTEM_ERROR, () -> {
+            calls.incrementAndGet();
+            return "Lazy " + 1;
+        });
+
+        // リカバリーされた場合はメッセージを生成しない
+        assertThat(failure.recover(f -> "OK").unwrap()).isEqualTo("OK");
+        assertThat(calls.get()).isZero();
+
+        assertThat(failure.unwrapFailure().message()).isEqualTo("Lazy 1");
+        assertThat(failure.unwrapFailure().message()).isEqualTo("Lazy 1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failure_with_template() {
+        Result<String> failure = Result.failure(CommonErrorCode.INVALID_PARAMETER, "ID {} is invalid ({})", "abc", 3);
+        assertThat(failure.unwrapFailure().message()).isEqualTo("ID abc is invalid (3)");
+
+        // プレースホルダと引数の数が一致しない場合
+        assertThat(FailureReason.format("a={} b={}", 1).message()).isEqualTo("a=1 b={}");
+        assertThat(FailureReason.format("a={}", 1, 2).message()).isEqualTo("a=1");
+        assertThat(FailureReason.format("no args").message()).isEqualTo("no args");
+        assertThat(FailureReason.format("null={}", (Object) null).message()).isEqualTo("null=null");
+    }
+
+    @Test
+    void lazy_failure_keeps_record_semantics() {
+        Result<String> lazy = Result.failure(CommonErrorCode.CONFLICT, "dup: {}", "x");
+
+        // テンプレートの失敗同士はテンプレートと引数で比較する (メッセージは生成しない)
+        assertThat(lazy).isEqualTo(Result.failure(CommonErrorCode.CONFLICT, "dup: {}", "x"));
+        assertThat(lazy).hasSameHashCodeAs(Result.failure(CommonErrorCode.CONFLICT, "dup: {}", "x"));
+        assertThat(lazy).isNotEqualTo(Result.failure(CommonErrorCode.CONFLICT, "dup: {}", "y"));
+
+        String text = switch (lazy) {
+            case Result.Success<String>(var value) -> value;
+            case Result.Failure<String>(var code, var reason) -> code.getCode() + " " + reason;
+        };
+        assertThat(text).isEqualTo("SYS-409 dup: x");
+    }
+
+    // --- Exceptions ---
+
+    @Test
+    void unwrap_throws_stackless_result_failure_exception() {
+        Result<String> failure = Result.failure(CommonErrorCode.SYSTEM_ERROR, "Bomb");
+
+        assertThatThrownBy(failure::unwrap)
+                .isInstanceOf(ResultFailureException.class)
+                .hasMessage("Result failure: [SYSTEM_ERROR] Bomb")
+                .satisfies(e -> {
+                    ResultFailureException ex = (ResultFailureException) e;
+                    assertThat(ex.getErrorCode()).isEqualTo(CommonErrorCode.SYSTEM_ERROR);
+                    assertThat(ex.getFailure()).isEqualTo(failure);
+                    assertThat(ex.getStackTrace()).isEmpty();
+                });
+        assertThatThrownBy(failure::orElseThrow).isInstanceOf(ResultFailureException.class);
+        assertThat(Result.success("OK").orElseThrow()).isEqualTo("OK");
+    }
+
+    @Test
+    void result_failure_exception_with_stack_trace() {
+        var ex = new ResultFailureException(
+                Result.failure(CommonErrorCode.CONFLICT, "dup").unwrapFailure(), true);
+
+        assertThat(ex.getStackTrace()).isNotEmpty();
+        assertThat(ex.getMessage()).isSameAs(ex.getMessage());
+    }
+
+    @Test
+    void result_failure_exception_survives_serialization() throws Exception {
+        ResultFailureException known = roundTrip(new ResultFailureException(
+                Result.failure(CommonErrorCode.CONFLICT, "dup").unwrapFailure()));
+        assertThat(known.getErrorCode()).isEqualTo(CommonErrorCode.CONFLICT);
+        assertThat(known.getCode()).isEqualTo(CommonErrorCode.CONFLICT.getCode());
+
+        // Serializable でない ErrorCode はコード文字列とメッセージだけ残る
+        ErrorCode custom = new ErrorCode() {
+            @Override
+            public String getCode() {
+                return "EXT-1";
+            }
+
+            @Override
+            public String getDefaultMessage() {
+                return "external";
+            }
+
+            @Override
+            public HttpStatus getStatus() {
+                return HttpStatus.SERVICE_UNAVAILABLE;
+            }
+        };
+        ResultFailureException original = new ResultFailureException(Result.failure(custom, "down").unwrapFailure());
+        String message = original.getMessage();
+        ResultFailureException restored = roundTrip(original);
+        assertThat(restored.getErrorCode()).isNull();
+        assertThat(restored.getCode()).isEqualTo("EXT-1");
+        assertThat(restored.getMessage()).isEqualTo(message);
+    }
+
+    private static ResultFailureException roundTrip(ResultFailureException ex) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (ResultFailureException) in.readObject();
+        }
+    }
+
+    @Test
+    void unwrapFailure_on_success_is_stackless() {
+        assertThatThrownBy(Result.success(42)::unwrapFailure)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Called unwrapFailure() on a Success result: 42")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+}
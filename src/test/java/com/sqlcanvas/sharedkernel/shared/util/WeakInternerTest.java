@@ -0,0 +1,117 @@
+package com.sqlcanvas.sharedkernel.shared.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeakInternerTest {
+
+    @Test
+    void equal_values_share_one_instance() {
+        WeakInterner<String> interner = new WeakInterner<>(100);
+        String first = new String("value");
+        String second = new String("value");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(first);
+
+        WeakInterner.Stats stats = interner.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void values_over_the_limit_are_returned_without_interning() {
+        WeakInterner<String> interner = new WeakInterner<>(1);
+        String kept = new String("a");
+        interner.intern(kept);
+
+        String other = new String("b");
+        assertThat(interner.intern(other)).isSameAs(other);
+        assertThat(interner.intern(new String("b"))).isNotSameAs(other);
+        assertThat(interner.intern(new String("a"))).isSameAs(kept);
+
+        WeakInterner.Stats stats = interner.stats();
+        assertThat(stats.rejected()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.maxSize()).isEqualTo(1);
+    }
+
+    // 割り当てを JIT に消されないよう書き込む先
+    private static volatile byte[] sink;
+
+    @Test
+    void unreferenced_values_are_released() {
+        WeakInterner<String> interner = new WeakInterner<>(10_000);
+        List<WeakReference<String>> sentinels = internUnreferenced(interner, 1_000);
+
+        // System.gc() には頼らず (-XX:+DisableExplicitGC でも動くよう)、全ての値が回収されるまで割り当てて GC を起こす。
+        // 巨大オブジェクトとして若い世代を素通りしないよう小さな配列で割り当てる。
+        // 確認には refersTo を使う (get() で参照先を取り出すと、並行 GC ではその値が生き延びることがある)。
+        // 回収された値のエントリは、参照キューに積まれ次第 size() で取り除かれる
+        for (long allocated = 0; allocated < (64L << 30)
+                && (!sentinels.stream().allMatch(ref -> ref.refersTo(null)) || interner.stats().size() > 0); ) {
+            for (int i = 0; i < 128; i++) {
+                sink = new byte[8 << 10];
+            }
+            allocated += 128 * (8 << 10);
+        }
+
+        assertThat(sentinels.stream().allMatch(ref -> ref.refersTo(null))).isTrue();
+        assertThat(interner.stats().size()).isEqualTo(0);
+    }
+
+    // 別メソッドで登録し、テスト側のローカル変数が値を生かし続けないようにする
+    private static List<WeakReference<String>> internUnreferenced(WeakInterner<String> interner, int count) {
+        List<WeakReference<String>> sentinels = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String value = new String("v" + i);
+            interner.intern(value);
+            sentinels.add(new WeakReference<>(value));
+        }
+        return sentinels;
+    }
+
+    @Test
+    void concurrent_interning_yields_a_single_instance_per_value() throws Exception {
+        WeakInterner<String> interner = new WeakInterner<>(10_000);
+        ConcurrentHashMap<String, String> seen = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        String canonical = interner.intern(new String("k" + (i % 500)));
+                        String previous = seen.putIfAbsent(canonical, canonical);
+                        assertThat(previous == null || previous == canonical).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(interner.stats().misses()).isEqualTo(500);
+    }
+
+    @Test
+    void rejects_invalid_arguments() {
+        assertThatThrownBy(() -> new WeakInterner<>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeakInterner<String>(1).intern(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sqlcanvas.sharedkernel.shared.validation;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import com.sqlcanvas.sharedkernel.shared.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkValidatorTest {
+
+    // 3行に1行が不正なメールアドレスになる入力
+    private static List<String> emails(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % 3 == 0 ? "invalid-" + i : "user" + i + "@example.com")
+                .toList();
+    }
+
+    @Test
+    void validate_keeps_input_order_across_chunks() {
+        List<String> input = emails(10_000);
+        List<Result<Email>> results = new ArrayList<>();
+
+        BulkValidator.Stats stats = BulkValidator.of(Email::of)
+                .withChunkSize(1_000)
+                .validate(input.iterator(), results::add);
+
+        assertThat(results).hasSize(10_000);
+        for (int i = 0; i < input.size(); i++) {
+            Result<Email> r = results.get(i);
+            if (i % 3 == 0) {
+                assertThat(r.isFailure()).isTrue();
+            } else {
+                assertThat(r.unwrap().value()).isEqualTo(input.get(i));
+            }
+        }
+
+        assertThat(stats.rows()).isEqualTo(10_000L);
+        assertThat(stats.failures()).isEqualTo(3_334L);
+        assertThat(stats.successes()).isEqualTo(6_666L);
+        assertThat(stats.chunks()).isEqualTo(10L);
+        assertThat(stats.rowsPerSecond()).isPositive();
+    }
+
+    @Test
+    void validateFailures_reports_row_numbers() {
+        List<Long> rows = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BulkValidator.Stats stats = BulkValidator.of(Email::of)
+                    .withPool(pool)
+                    .withChunkSize(7)
+                    .validateFailures(emails(20).iterator(), (failure, row) -> {
+                        assertThat(failure.errorCode()).isEqualTo(CommonErrorCode.INVALID_PARAMETER);
+                        rows.add(row);
+                    });
+
+            assertThat(rows).containsExactly(0L, 3L, 6L, 9L, 12L, 15L, 18L);
+            assertThat(stats.chunks()).isEqualTo(3L);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void empty_source() {
+        BulkValidator.Stats stats = BulkValidator.of(Email::of)
+                .validate(Collections.<String>emptyIterator(), r -> {});
+
+        assertThat(stats.rows()).isZero();
+        assertThat(stats.chunks()).isZero();
+    }
+
+    @Test
+    void invalid_chunk_size() {
+        assertThatThrownBy(() -> BulkValidator.of(Email::of).withChunkSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
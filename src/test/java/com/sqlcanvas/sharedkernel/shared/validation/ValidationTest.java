@@ -93,4 +93,257 @@ class ValidationTest {
                 .contains("NG1")
                 .contains("NG2");
     }
-}
\ No newline at end of file
+
+    // --- Applicative Builder ---
+
+    @Test
+    void builder_applies_every_arity() {
+        Result<Integer> ok = Result.success(1);
+
+        assertThat(Validation.of(ok).apply(a1 -> a1).unwrap()).isEqualTo(1);
+        assertThat(Validation.of(ok).and(ok).apply((a1, a2) -> a1 + a2).unwrap()).isEqualTo(2);
+        assertThat(Validation.of(ok).and(ok).and(ok).apply((a1, a2, a3) -> a1 + a2 + a3).unwrap()).isEqualTo(3);
+        assertThat(Validation.of(ok).and(ok).and(ok).and(ok).apply((a1, a2, a3, a4) -> a1 + a2 + a3 + a4).unwrap()).isEqualTo(4);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5) ->
+                        a1 + a2 + a3 + a4 + a5)
+                .unwrap()).isEqualTo(5);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6) ->
+                        a1 + a2 + a3 + a4 + a5 + a6)
+                .unwrap()).isEqualTo(6);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7)
+                .unwrap()).isEqualTo(7);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8)
+                .unwrap()).isEqualTo(8);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9)
+                .unwrap()).isEqualTo(9);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10)
+                .unwrap()).isEqualTo(10);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11)
+                .unwrap()).isEqualTo(11);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11 + a12)
+                .unwrap()).isEqualTo(12);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11 + a12 + a13)
+                .unwrap()).isEqualTo(13);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11 + a12 + a13 + a14)
+                .unwrap()).isEqualTo(14);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14, a15) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11 + a12 + a13 + a14 + a15)
+                .unwrap()).isEqualTo(15);
+        assertThat(Validation.of(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14, a15, a16) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8
+                        + a9 + a10 + a11 + a12 + a13 + a14 + a15 + a16)
+                .unwrap()).isEqualTo(16);
+    }
+
+    @Test
+    void builder_failure_every_arity() {
+        Result<Integer> ok = Result.success(1);
+        Result<Integer> ng = Result.failure(CommonErrorCode.INVALID_PARAMETER, "NG");
+
+        assertThat(Validation.of(ng).apply(a1 -> 0)).isFailure();
+        assertThat(Validation.of(ng).and(ok).apply((a1, a2) -> 0)).isFailure();
+        assertThat(Validation.of(ng).and(ok).and(ok).apply((a1, a2, a3) -> 0)).isFailure();
+        assertThat(Validation.of(ng).and(ok).and(ok).and(ok).apply((a1, a2, a3, a4) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14, a15) -> 0)).isFailure();
+        assertThat(Validation.of(ng)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .and(ok).and(ok).and(ok).and(ok).and(ok)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8,
+                        a9, a10, a11, a12, a13, a14, a15, a16) -> 0)).isFailure();
+    }
+
+    @Test
+    void builder_collects_all_errors() {
+        Result<String> ok = Result.success("OK");
+        Result<String> ng1 = Result.failure(CommonErrorCode.INVALID_PARAMETER, "NG1");
+        Result<String> ng2 = Result.failure(CommonErrorCode.RESOURCE_NOT_FOUND, "NG2");
+
+        Result<String> combined = Validation.of(ok).and(ng1).and(ok).and(ok).and(ng2)
+                .apply((a, b, c, d, e) -> a + b + c + d + e);
+
+        assertThat(combined)
+                .isFailure()
+                .hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(combined.unwrapFailure().message())
+                .isEqualTo("[SYS-400] NG1\n[SYS-404] NG2");
+    }
+
+    @Test
+    void builder_does_not_call_combiner_on_failure() {
+        Result<String> ng = Result.failure(CommonErrorCode.INVALID_PARAMETER, "NG");
+
+        Result<String> combined = Validation.of(ng).and(ng).apply((a, b) -> {
+            throw new AssertionError("combiner must not be called");
+        });
+
+        assertThat(combined).isFailure();
+    }
+
+    // --- Structured Errors ---
+
+    @Test
+    void combine_keeps_structured_errors() {
+        Result<String> ng1 = Result.failure(CommonErrorCode.INVALID_PARAMETER, "NG1");
+        Result<String> ng2 = Result.failure(CommonErrorCode.RESOURCE_NOT_FOUND, "NG2");
+
+        Result.Failure<String> failure = Validation.combine(ng1, ng2, (a, b) -> a + b).unwrapFailure();
+
+        assertThat(failure.reason().hasDetails()).isTrue();
+        assertThat(failure.errors()).hasSize(2);
+        assertThat(failure.errors().get(0).errorCode()).isEqualTo(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(failure.errors().get(0).message()).isEqualTo("NG1");
+        assertThat(failure.errors().get(1).code()).isEqualTo("SYS-404");
+        assertThat(failure.errors().get(1).message()).isEqualTo("NG2");
+    }
+
+    @Test
+    void nested_combine_flattens_errors() {
+        Result<String> ng = Result.failure(CommonErrorCode.INVALID_PARAMETER, "NG");
+        Result<String> inner = Validation.combine(ng, ng, (a, b) -> a + b);
+
+        Result<String> outer = Validation.combine(inner, ng, (a, b) -> a + b);
+
+        assertThat(outer.unwrapFailure().errors()).hasSize(3);
+        assertThat(outer.unwrapFailure().message())
+                .isEqualTo("[SYS-400] NG\n[SYS-400] NG\n[SYS-400] NG");
+    }
+
+    @Test
+    void field_adds_path_to_errors() {
+        Result<String> email = Validation.field("email",
+                Result.failure(CommonErrorCode.INVALID_PARAMETER, "メールアドレスの形式が不正です"));
+        Result<String> postalCode = Validation.field("postalCode",
+                Result.failure(CommonErrorCode.INVALID_PARAMETER, "郵便番号は必須です"));
+        Result<String> address = Validation.field("address",
+                Validation.of(postalCode).and(Result.success("Tokyo")).apply((p, c) -> p + c));
+
+        Result<String> user = Validation.combine(email, address, (e, a) -> e + a);
+
+        var errors = user.unwrapFailure().errors();
+        assertThat(errors).hasSize(2);
+        assertThat(errors.get(0).field()).isEqualTo("email");
+        assertThat(errors.get(1).field()).isEqualTo("address.postalCode");
+        assertThat(errors.get(1).message()).isEqualTo("郵便番号は必須です");
+    }
+
+    @Test
+    void field_keeps_success() {
+        Result<String> ok = Result.success("OK");
+        assertThat(Validation.field("name", ok)).isSameAs(ok);
+    }
+}
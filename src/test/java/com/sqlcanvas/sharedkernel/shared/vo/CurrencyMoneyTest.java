@@ -0,0 +1,99 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyMoneyTest {
+
+    private static final CurrencyUnit JPY = CurrencyUnit.JPY;
+    private static final CurrencyUnit USD = CurrencyUnit.USD;
+
+    @Test
+    void currency_units_are_interned() {
+        CurrencyUnit gbp = CurrencyUnit.of("GBP").unwrap();
+
+        assertThat(CurrencyUnit.of("GBP").unwrap()).isSameAs(gbp);
+        assertThat(CurrencyUnit.of("JPY").unwrap()).isSameAs(JPY);
+        assertThat(CurrencyUnit.byId(gbp.id())).isSameAs(gbp);
+        assertThat(gbp.fractionDigits()).isEqualTo(2);
+        assertThat(JPY.fractionDigits()).isEqualTo(0);
+    }
+
+    @Test
+    void unknown_currency_is_failure() {
+        assertThat(CurrencyUnit.of("ZZZ")).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(CurrencyUnit.of("XXX")).isFailure();
+        assertThat(CurrencyUnit.of(null)).isFailure();
+    }
+
+    @Test
+    void creates_from_major_and_minor_units() {
+        CurrencyMoney usd = CurrencyMoney.of(new BigDecimal("12.34"), USD).unwrap();
+
+        assertThat(usd.minorUnits()).isEqualTo(1234L);
+        assertThat(usd.currency()).isSameAs(USD);
+        assertThat(usd.toMajor()).isEqualTo(new BigDecimal("12.34"));
+        assertThat(usd.toString()).isEqualTo("USD 12.34");
+        assertThat(usd).isEqualTo(CurrencyMoney.ofMinor(1234, USD).unwrap());
+        assertThat(CurrencyMoney.of(Money.valueOf(500), JPY).toString()).isEqualTo("JPY 500");
+        assertThat(CurrencyMoney.of(Money.valueOf(500), JPY).money()).isEqualTo(Money.valueOf(500));
+    }
+
+    @Test
+    void rejects_invalid_amounts() {
+        // JPY に小数は無い
+        assertThat(CurrencyMoney.of(new BigDecimal("1.5"), JPY)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(CurrencyMoney.of(new BigDecimal("-1"), USD)).isFailure();
+        assertThat(CurrencyMoney.ofMinor(-1, USD)).isFailure();
+        assertThatThrownBy(() -> CurrencyMoney.ofMinor(1, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void same_currency_arithmetic() {
+        CurrencyMoney a = CurrencyMoney.ofMinor(1000, JPY).unwrap();
+        CurrencyMoney b = CurrencyMoney.ofMinor(300, JPY).unwrap();
+
+        assertThat(a.add(b).unwrap().minorUnits()).isEqualTo(1300L);
+        assertThat(a.subtract(b).unwrap().minorUnits()).isEqualTo(700L);
+        assertThat(b.subtract(a)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(a.isGreaterThan(b).unwrap()).isTrue();
+        assertThat(CurrencyMoney.ofMinor(Long.MAX_VALUE, JPY).unwrap().add(b))
+                .isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+        assertThat(CurrencyMoney.zero(JPY).isZero()).isTrue();
+    }
+
+    @Test
+    void cross_currency_operations_are_failures() {
+        CurrencyMoney jpy = CurrencyMoney.ofMinor(1000, JPY).unwrap();
+        CurrencyMoney usd = CurrencyMoney.ofMinor(1000, USD).unwrap();
+
+        assertThat(jpy.add(usd)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(jpy.subtract(usd)).isFailure();
+        assertThat(jpy.isGreaterThan(usd)).isFailure();
+        assertThat(jpy.add(usd).unwrapFailure().message()).isEqualTo("通貨が一致しません: JPY と USD");
+        assertThat(jpy).isNotEqualTo(usd);
+        assertThat(jpy.compareTo(usd)).isLessThan(0);
+    }
+
+    @Test
+    void serializes_by_currency_code() throws Exception {
+        CurrencyMoney original = CurrencyMoney.ofMinor(1234, USD).unwrap();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(original);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailCanonicalTest {
+
+    @Test
+    void domain_is_lower_cased_and_local_part_is_kept() {
+        assertThat(Email.canonical("Taro.Yamada@Example.CO.JP").unwrap().value()).isEqualTo("Taro.Yamada@example.co.jp");
+        assertThat(Email.canonical("user@example.com").unwrap().value()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void equal_addresses_share_one_instance() {
+        Email first = Email.canonical("dedup@Example.com").unwrap();
+        Email second = Email.canonical(new StringBuilder("dedup@EXAMPLE.COM")).unwrap();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second).isEqualTo(Email.of("dedup@example.com").unwrap());
+        assertThat(Email.internerStats().hits()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void invalid_addresses_fail_like_of() {
+        assertThat(Email.canonical("not-an-email")).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(Email.canonical(null)).isFailure();
+    }
+
+    @Test
+    void equality_is_unchanged() {
+        assertThat(Email.of("a@example.com").unwrap()).isEqualTo(new Email("a@example.com"));
+        assertThat(Email.of("a@example.com").unwrap().hashCode()).isEqualTo("a@example.com".hashCode());
+        assertThat(Email.of("a@example.com").unwrap()).isNotEqualTo(Email.of("A@example.com").unwrap());
+    }
+}
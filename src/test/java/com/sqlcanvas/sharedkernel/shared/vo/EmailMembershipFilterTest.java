@@ -0,0 +1,176 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailMembershipFilterTest {
+
+    private static Email email(int i) {
+        return Email.of("user" + i + "@example.com").unwrap();
+    }
+
+    @Test
+    void added_addresses_are_always_reported() {
+        EmailMembershipFilter filter = new EmailMembershipFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(email(i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(email(i))).isTrue();
+        }
+        assertThat(filter.approximateCount()).isBetween(9_800L, 10_000L);
+    }
+
+    @Test
+    void false_positive_rate_stays_within_the_target_after_growth() {
+        EmailMembershipFilter filter = new EmailMembershipFilter(1_000, 0.01);
+        // 想定件数の20倍まで追加してステージを拡張させる
+        for (int i = 0; i < 20_000; i++) {
+            filter.add(email(i));
+        }
+        int falsePositives = 0;
+        int trials = 50_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(email(1_000_000 + i))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / trials).isLessThan(0.01);
+        assertThat(filter.toString()).contains("stages=5");
+    }
+
+    @Test
+    void domain_case_is_ignored() {
+        EmailMembershipFilter filter = new EmailMembershipFilter(100, 0.01);
+        assertThat(filter.add(Email.of("Taro@Example.COM").unwrap())).isTrue();
+
+        assertThat(filter.mightContain(Email.of("Taro@example.com").unwrap())).isTrue();
+        assertThat(filter.add(Email.canonical("Taro@EXAMPLE.com").unwrap())).isFalse();
+        assertThat(EmailMembershipFilter.hash("Taro@Example.COM")).isNotEqualTo(EmailMembershipFilter.hash("taro@example.com"));
+    }
+
+    @Test
+    void concurrent_adds_are_not_lost() throws Exception {
+        EmailMembershipFilter filter = new EmailMembershipFilter(1_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 10_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.add(email(base + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(filter.mightContain(email(i))).isTrue();
+        }
+    }
+
+    @Test
+    void survives_a_round_trip_through_a_file(@TempDir Path dir) throws IOException {
+        EmailMembershipFilter filter = new EmailMembershipFilter(100, 0.001);
+        for (int i = 0; i < 500; i++) {
+            filter.add(email(i));
+        }
+        Path file = dir.resolve("emails.bloom");
+        filter.writeTo(file);
+
+        EmailMembershipFilter restored = EmailMembershipFilter.readFrom(file);
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(restored.mightContain(email(i))).isTrue();
+        }
+        assertThat(restored.approximateCount()).isEqualTo(filter.approximateCount());
+        assertThat(restored.sizeInBytes()).isEqualTo(filter.sizeInBytes());
+        assertThat(restored.falsePositiveRate()).isEqualTo(0.001);
+        assertThat(restored.add(email(1))).isFalse();
+    }
+
+    @Test
+    void rejects_invalid_arguments_and_corrupted_input() {
+        assertThatThrownBy(() -> new EmailMembershipFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmailMembershipFilter(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmailMembershipFilter(10, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmailMembershipFilter.readFrom(new ByteArrayInputStream(new byte[16])))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void rejects_stage_headers_that_do_not_match_the_filter_layout() throws IOException {
+        // 先頭から: magic(4) version(4) expected(8) rate(8) stages(4) | capacity(8) rate(8) hashes(4) count(8) length(4)
+        assertCorrupted(header -> header.putInt(24, Integer.MAX_VALUE));
+        assertCorrupted(header -> header.putDouble(36, 1.5));
+        assertCorrupted(header -> header.putDouble(36, Double.NaN));
+        assertCorrupted(header -> header.putInt(44, Integer.MAX_VALUE));
+        assertCorrupted(header -> header.putLong(48, -1));
+        // 容量・偽陽性率と合わない長さは配列を確保する前に弾く
+        assertCorrupted(header -> header.putInt(56, Integer.MAX_VALUE - 8));
+        assertCorrupted(header -> header.putInt(56, header.getInt(56) + 1));
+    }
+
+    @Test
+    void small_header_claiming_a_huge_capacity_does_not_allocate_it(@TempDir Path dir) throws IOException {
+        // 1e11 件 → ステージ1つで Integer.MAX_VALUE 個を超える long が必要
+        assertThatThrownBy(() -> EmailMembershipFilter.readFrom(new ByteArrayInputStream(header(100_000_000_000L))))
+                .isInstanceOf(StreamCorruptedException.class);
+
+        // 上限内でも、データが無ければ読めた分しか確保せずに失敗する
+        byte[] claim = header(30_000_000_000L);
+        assertThatThrownBy(() -> EmailMembershipFilter.readFrom(new ByteArrayInputStream(claim)))
+                .isInstanceOf(EOFException.class);
+        Path file = dir.resolve("huge.bloom");
+        Files.write(file, claim);
+        assertThatThrownBy(() -> EmailMembershipFilter.readFrom(file))
+                .isInstanceOf(StreamCorruptedException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    // ステージ1つのヘッダーだけ (ビット配列なし)
+    private static byte[] header(long expectedInsertions) {
+        double rate = 0.5;
+        double stageRate = rate * 0.5;
+        return ByteBuffer.allocate(60)
+                .putInt(0x454D_4246).putInt(1)
+                .putLong(expectedInsertions).putDouble(rate).putInt(1)
+                .putLong(expectedInsertions).putDouble(stageRate).putInt(1).putLong(0)
+                .putInt((int) Math.min(Integer.MAX_VALUE, EmailMembershipFilter.wordsFor(expectedInsertions, stageRate)))
+                .array();
+    }
+
+    private static void assertCorrupted(Consumer<ByteBuffer> corruption) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new EmailMembershipFilter(100, 0.01).writeTo(out);
+        byte[] bytes = out.toByteArray();
+        corruption.accept(ByteBuffer.wrap(bytes));
+
+        assertThatThrownBy(() -> EmailMembershipFilter.readFrom(new ByteArrayInputStream(bytes)))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailSyntaxTest {
+
+    private static final Pattern REFERENCE = Pattern.compile(Email.EMAIL_REGEX);
+
+    // 書式上意味のある文字を偏らせて含むアルファベット
+    private static final char[] ALPHABET = "aZ09_-.@.@!#$%&'*+/=?^`{|}~ \t\néあ\u0000\\\"()[],;:<>".toCharArray();
+
+    private static boolean reference(String s) {
+        return REFERENCE.matcher(s).matches();
+    }
+
+    @Test
+    void known_examples() {
+        String[] valid = {"user@example.com", "a.b-c_d+e@sub.example.co.jp", "x@a.b", "!#$%&'*+/=?^`{|}~-@a-b.c_d",
+                "a@b-c.d", "a@b--c.d"};
+        String[] invalid = {"", "@example.com", "user@", "user@example", ".a@b.c", "a.@b.c", "a..b@c.d",
+                "a@-b.c", "a@b-.c", "a@b.c-", "a@b..c", "a@.b.c", "a@b.c.", "a@@b.c", "a b@c.d", "あ@b.c", "a@b.c\n"};
+        for (String s : valid) {
+            assertThat(EmailSyntax.isValid(s)).as(s).isTrue();
+            assertThat(reference(s)).as(s).isTrue();
+        }
+        for (String s : invalid) {
+            assertThat(EmailSyntax.isValid(s)).as(s).isFalse();
+            assertThat(reference(s)).as(s).isFalse();
+        }
+    }
+
+    @Test
+    void differential_fuzz_against_reference_regex() {
+        Random random = new Random(20240401);
+        StringBuilder sb = new StringBuilder();
+        for (int round = 0; round < 200_000; round++) {
+            sb.setLength(0);
+            int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                // 半分は英字で埋めて、妥当な形に近い入力も十分に生成する
+                sb.append(random.nextBoolean() ? (char) ('a' + random.nextInt(3)) : ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            String s = sb.toString();
+            assertThat(EmailSyntax.isValid(s)).as("input: %s", s).isEqualTo(reference(s));
+        }
+    }
+
+    @Test
+    void mutations_of_valid_addresses_agree_with_reference() {
+        Random random = new Random(7);
+        String[] seeds = {"user.name+tag@mail.example.com", "a@b.c", "x_y-z@a-b.c-d.e"};
+        for (int round = 0; round < 50_000; round++) {
+            StringBuilder sb = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+            for (int m = random.nextInt(3); m >= 0; m--) {
+                int at = random.nextInt(sb.length() + 1);
+                char c = ALPHABET[random.nextInt(ALPHABET.length)];
+                switch (random.nextInt(3)) {
+                    case 0 -> sb.insert(at, c);
+                    case 1 -> {
+                        if (at < sb.length()) {
+                            sb.setCharAt(at, c);
+                        }
+                    }
+                    default -> {
+                        if (at < sb.length()) {
+                            sb.deleteCharAt(at);
+                        }
+                    }
+                }
+            }
+            String s = sb.toString();
+            assertThat(EmailSyntax.isValid(s)).as("input: %s", s).isEqualTo(reference(s));
+        }
+    }
+
+    @Test
+    void hostile_input_is_scanned_once() {
+        // 正規表現ではバックトラックが増える形 (長いラベルの連続と末尾の不正文字)。
+        // 時間ではなく、各文字を高々1回しか見ないことを確認する
+        String hostile = "a@" + "a-".repeat(150) + "!";
+        CountingChars chars = new CountingChars(hostile);
+
+        assertThat(EmailSyntax.isValid(chars)).isFalse();
+        assertThat(chars.reads).isLessThanOrEqualTo(hostile.length());
+
+        CountingChars valid = new CountingChars("user.name@sub.example.com");
+        assertThat(EmailSyntax.isValid(valid)).isTrue();
+        assertThat(valid.reads).isLessThanOrEqualTo(valid.length());
+    }
+
+    // charAt の呼び出し回数を数える
+    private static final class CountingChars implements CharSequence {
+
+        private final String value;
+        int reads;
+
+        CountingChars(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            reads++;
+            return value.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    @Test
+    void length_limit() {
+        String local = "a".repeat(64);
+        String ok = local + "@" + "b".repeat(EmailSyntax.MAX_LENGTH - 64 - 3) + ".c";
+        String tooLong = "a" + ok;
+
+        assertThat(ok.length()).isEqualTo(EmailSyntax.MAX_LENGTH);
+        assertThat(Email.of(ok)).isSuccess();
+        assertThat(Email.of(tooLong)).isFailure();
+        assertThat(Email.of(tooLong).unwrapFailure().message()).isEqualTo("メールアドレスが長すぎます");
+    }
+}
@@ -0,0 +1,104 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void sums_single_thread() {
+        MoneyAccumulator acc = new MoneyAccumulator();
+        acc.add(Money.valueOf(100));
+        acc.add(Money.valueOf(250));
+        acc.add(Money.zero());
+
+        assertThat(acc.sum().unwrap()).isEqualTo(Money.valueOf(350));
+        assertThat(acc.toString()).isEqualTo("MoneyAccumulator[350]");
+    }
+
+    @Test
+    void sums_concurrent_adds_exactly() throws Exception {
+        MoneyAccumulator acc = new MoneyAccumulator(8);
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    Money yen = Money.valueOf(3);
+                    for (int i = 0; i < perThread; i++) {
+                        acc.add(yen);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(acc.sum().unwrap().amount()).isEqualTo(3L * threads * perThread);
+    }
+
+    @Test
+    void overflow_in_cell_is_sticky_until_reset() {
+        MoneyAccumulator acc = new MoneyAccumulator(1);
+        acc.add(Money.valueOf(Long.MAX_VALUE));
+        acc.add(Money.valueOf(1));
+
+        assertThat(acc.sum()).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+        assertThat(acc.toString()).isEqualTo("MoneyAccumulator[overflow]");
+
+        acc.reset();
+        acc.add(Money.valueOf(5));
+        assertThat(acc.sum().unwrap()).isEqualTo(Money.valueOf(5));
+    }
+
+    @Test
+    void overflow_across_cells_is_detected() throws Exception {
+        MoneyAccumulator acc = new MoneyAccumulator(4);
+        // 別スレッドからの加算は別セルに入ることがあるので、合計時にも検知されること
+        Thread a = Thread.ofPlatform().start(() -> acc.add(Money.valueOf(Long.MAX_VALUE)));
+        Thread b = Thread.ofPlatform().start(() -> acc.add(Money.valueOf(Long.MAX_VALUE)));
+        a.join();
+        b.join();
+
+        assertThat(acc.sum()).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+        assertThat(acc.sumThenReset()).isFailure();
+        assertThat(acc.sum().unwrap()).isEqualTo(Money.zero());
+    }
+
+    @Test
+    void sumThenReset_returns_total_and_clears() {
+        MoneyAccumulator acc = new MoneyAccumulator(2);
+        acc.add(Money.valueOf(40));
+        acc.add(Money.valueOf(2));
+
+        assertThat(acc.sumThenReset().unwrap()).isEqualTo(Money.valueOf(42));
+        assertThat(acc.sum().unwrap()).isEqualTo(Money.zero());
+    }
+
+    @Test
+    void rejects_invalid_concurrency() {
+        assertThatThrownBy(() -> new MoneyAccumulator(0)).isInstanceOf(IllegalArgumentException.class);
+        // 上限を超える並行度でも生成できる
+        new MoneyAccumulator(Integer.MAX_VALUE).add(Money.valueOf(1));
+    }
+}
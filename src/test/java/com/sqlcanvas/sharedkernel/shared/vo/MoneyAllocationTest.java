@@ -0,0 +1,85 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyAllocationTest {
+
+    private static long[] amounts(Money[] monies) {
+        return Arrays.stream(monies).mapToLong(Money::amount).toArray();
+    }
+
+    @Test
+    void allocate_by_ratios_gives_leftover_to_largest_remainders() {
+        Money total = Money.valueOf(100);
+
+        assertThat(amounts(total.allocate(1, 1, 1).unwrap())).isEqualTo(new long[]{34, 33, 33});
+        assertThat(amounts(total.allocate(3, 7).unwrap())).isEqualTo(new long[]{30, 70});
+        // 100 * (1/6, 2/6, 3/6) = 16.67, 33.33, 50 → 剰余が最大の先頭に1円
+        assertThat(amounts(total.allocate(1, 2, 3).unwrap())).isEqualTo(new long[]{17, 33, 50});
+        assertThat(amounts(total.allocate(0, 1).unwrap())).isEqualTo(new long[]{0, 100});
+    }
+
+    @Test
+    void allocate_evenly() {
+        assertThat(amounts(Money.valueOf(10).allocate(3).unwrap())).isEqualTo(new long[]{4, 3, 3});
+        assertThat(amounts(Money.valueOf(2).allocate(4).unwrap())).isEqualTo(new long[]{1, 1, 0, 0});
+        assertThat(Money.valueOf(10).allocate(0)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+    }
+
+    @Test
+    void invalid_ratios_are_failures() {
+        Money total = Money.valueOf(100);
+
+        assertThat(total.allocate(new long[0])).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(total.allocate(1, -1)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(total.allocate(0, 0)).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(total.allocate(Long.MAX_VALUE, 1)).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+    }
+
+    @Test
+    void huge_products_are_exact() {
+        // amount * ratio が 2^64 を超えるケース (BigInteger 経路)
+        Money total = Money.valueOf(Long.MAX_VALUE);
+        long[] shares = amounts(total.allocate(Long.MAX_VALUE / 3, Long.MAX_VALUE / 3, 1).unwrap());
+
+        assertThat(Arrays.stream(shares).reduce(0, Math::addExact)).isEqualTo(Long.MAX_VALUE);
+        assertThat(shares[2]).isLessThanOrEqualTo(1L);
+    }
+
+    @Test
+    void random_allocations_sum_to_total_and_stay_within_one_of_exact_share() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            long amount = random.nextLong(1L << (1 + random.nextInt(62)));
+            long[] ratios = new long[1 + random.nextInt(50)];
+            long ratioSum = 0;
+            for (int i = 0; i < ratios.length; i++) {
+                ratios[i] = random.nextLong(1L << (1 + random.nextInt(40)));
+                ratioSum += ratios[i];
+            }
+            if (ratioSum == 0) {
+                continue;
+            }
+
+            long[] shares = MoneyVector.allocate(Money.valueOf(amount), ratios).unwrap().toArray();
+
+            BigInteger sum = BigInteger.ZERO;
+            for (int i = 0; i < shares.length; i++) {
+                BigInteger floor = BigInteger.valueOf(amount).multiply(BigInteger.valueOf(ratios[i]))
+                        .divide(BigInteger.valueOf(ratioSum));
+                long diff = shares[i] - floor.longValueExact();
+                assertThat(diff).isBetween(0L, 1L);
+                sum = sum.add(BigInteger.valueOf(shares[i]));
+            }
+            assertThat(sum.longValueExact()).isEqualTo(amount);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyVectorTest {
+
+    private static MoneyVector vector(long... amounts) {
+        return MoneyVector.of(amounts).unwrap();
+    }
+
+    @Test
+    void of_rejects_negative_amount() {
+        Result<MoneyVector> result = MoneyVector.of(100, -1, 200);
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(result.unwrapFailure().message()).contains("index=1");
+    }
+
+    @Test
+    void of_copies_input_array() {
+        long[] amounts = {1, 2, 3};
+        MoneyVector v = vector(amounts);
+        amounts[0] = 99;
+
+        assertThat(v.amountAt(0)).isEqualTo(1L);
+        assertThat(v.toList()).isEqualTo(List.of(Money.valueOf(1), Money.valueOf(2), Money.valueOf(3)));
+        assertThat(MoneyVector.of(v.toList())).isEqualTo(v);
+    }
+
+    @Test
+    void sum_matches_boxed_path() {
+        Random random = new Random(42);
+        long[] amounts = new long[10_000];
+        Result<Money> boxed = Money.of(0);
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = random.nextLong(1L << 40);
+            Money m = Money.valueOf(amounts[i]);
+            boxed = boxed.flatMap(acc -> acc.add(m));
+        }
+
+        assertThat(vector(amounts).sum().unwrap()).isEqualTo(boxed.unwrap());
+        assertThat(MoneyVector.empty().sum().unwrap()).isEqualTo(Money.zero());
+    }
+
+    @Test
+    void sum_detects_overflow() {
+        assertThat(vector(Long.MAX_VALUE, 1).sum()).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+        // 途中で 2^64 を超えて正の値に戻るケースも検知する
+        assertThat(vector(Long.MAX_VALUE, Long.MAX_VALUE, 10).sum()).isFailure();
+        assertThat(vector(Long.MAX_VALUE - 1, 1).sum().unwrap().amount()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void add_and_subtract_element_wise() {
+        MoneyVector a = vector(100, 200, 300);
+        MoneyVector b = vector(10, 20, 30);
+
+        assertThat(a.add(b).unwrap()).isEqualTo(vector(110, 220, 330));
+        assertThat(a.subtract(b).unwrap()).isEqualTo(vector(90, 180, 270));
+    }
+
+    @Test
+    void add_overflow_is_single_failure() {
+        Result<MoneyVector> result = vector(1, Long.MAX_VALUE).add(vector(1, 1));
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.SYSTEM_ERROR);
+        assertThat(result.unwrapFailure().message()).contains("index=1");
+    }
+
+    @Test
+    void subtract_below_zero_is_single_failure() {
+        Result<MoneyVector> result = vector(100, 5, 300).subtract(vector(10, 20, 30));
+
+        assertThat(result).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(result.unwrapFailure().message()).isEqualTo("残高不足です: index=1");
+    }
+
+    @Test
+    void size_mismatch_is_failure() {
+        assertThat(vector(1, 2).add(vector(1))).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(vector(1, 2).subtract(vector(1))).isFailure();
+    }
+
+    @Test
+    void min_and_max() {
+        MoneyVector v = vector(500, 30, 9_000, 120);
+
+        assertThat(v.min().unwrap()).isEqualTo(Money.valueOf(30));
+        assertThat(v.max().unwrap()).isEqualTo(Money.valueOf(9_000));
+        assertThat(MoneyVector.empty().min()).isFailure();
+        assertThat(MoneyVector.empty().max()).isFailure();
+    }
+
+    @Test
+    void filters() {
+        MoneyVector v = vector(500, 30, 9_000, 120);
+
+        assertThat(v.filterGreaterThan(Money.valueOf(120))).isEqualTo(vector(500, 9_000));
+        assertThat(v.filterLessThanOrEqual(Money.valueOf(120))).isEqualTo(vector(30, 120));
+        assertThat(v.filter(a -> a % 2 == 0)).isEqualTo(vector(500, 30, 9_000, 120));
+        assertThat(v.filterGreaterThan(Money.valueOf(10_000)).isEmpty()).isTrue();
+        assertThat(v.size()).isEqualTo(4);
+    }
+}
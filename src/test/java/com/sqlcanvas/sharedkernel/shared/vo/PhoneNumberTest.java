@@ -0,0 +1,86 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhoneNumberTest {
+
+    private static final Pattern PHONE = Pattern.compile(PhoneNumber.REFERENCE_REGEX);
+
+    private static String random(Random random, String alphabet, int maxLength) {
+        char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+
+    @Test
+    void phone_scanner_matches_reference_regex() {
+        Random random = new Random(3);
+        for (int round = 0; round < 300_000; round++) {
+            // 先頭0・数字・ハイフン中心に、時々それ以外の文字を混ぜる
+            String s = (random.nextInt(4) == 0 ? "" : "0") + random(random, "0123456789---a ０", 16);
+            assertThat(PhoneNumber.parse(s) >= 0).as("input: %s", s).isEqualTo(PHONE.matcher(s).matches());
+        }
+    }
+
+    @Test
+    void phone_keeps_input_format_and_normalizes_for_equality() {
+        PhoneNumber hyphenated = PhoneNumber.of("090-1234-5678").unwrap();
+        PhoneNumber plain = PhoneNumber.of("09012345678").unwrap();
+        PhoneNumber landline = PhoneNumber.of("03-1234-5678").unwrap();
+
+        assertThat(hyphenated.value()).isEqualTo("090-1234-5678");
+        assertThat(plain.value()).isEqualTo("09012345678");
+        assertThat(PhoneNumber.of("0120-12345").unwrap().value()).isEqualTo("0120-12345");
+        assertThat(PhoneNumber.of("00-1-234").unwrap().value()).isEqualTo("00-1-234");
+        assertThat(hyphenated.asUnformatted()).isEqualTo("09012345678");
+        assertThat(hyphenated).isEqualTo(plain);
+        assertThat(hyphenated.hashCode()).isEqualTo(plain.hashCode());
+        assertThat(hyphenated).isNotEqualTo(landline);
+        // 先頭の0の数も区別する
+        assertThat(PhoneNumber.of("0012345").unwrap()).isNotEqualTo(PhoneNumber.of("012345").unwrap());
+        assertThat(hyphenated.toString()).isEqualTo("PhoneNumber[value=090-1234-5678]");
+    }
+
+    @Test
+    void constructor_keeps_values_that_do_not_match_the_format() {
+        assertThat(new PhoneNumber("03-1234-5678")).isEqualTo(PhoneNumber.of("0312345678").unwrap());
+        assertThat(new PhoneNumber("03-1234-5678").isWellFormed()).isTrue();
+
+        // 既存データの復元は失敗させない (検証は of で行う)
+        PhoneNumber legacy = new PhoneNumber("+81 3-1234-5678");
+        assertThat(legacy.isWellFormed()).isFalse();
+        assertThat(legacy.value()).isEqualTo("+81 3-1234-5678");
+        assertThat(legacy.asUnformatted()).isEqualTo("+81 312345678");
+        assertThat(legacy).isEqualTo(new PhoneNumber("+81 3-1234-5678"));
+        assertThat(legacy.hashCode()).isEqualTo(new PhoneNumber("+81 3-1234-5678").hashCode());
+        assertThat(legacy).isNotEqualTo(new PhoneNumber("+81 312345678"));
+        assertThat(PhoneNumber.of("+81 3-1234-5678").isFailure()).isTrue();
+        assertThatThrownBy(() -> new PhoneNumber(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serialization_round_trip() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(PhoneNumber.of("03-1234-5678").unwrap());
+            out.writeObject(new PhoneNumber("内線 1234"));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(((PhoneNumber) in.readObject()).value()).isEqualTo("03-1234-5678");
+            assertThat(((PhoneNumber) in.readObject()).value()).isEqualTo("内線 1234");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PositiveBigDecimalTest {
+
+    private static PositiveBigDecimal pbd(String value) {
+        return new PositiveBigDecimal(new BigDecimal(value));
+    }
+
+    // 仮数 1〜10^digits, スケール 0〜8 の正の値 (時々 long を超える値も混ぜる)
+    private static BigDecimal randomPositive(Random random) {
+        if (random.nextInt(20) == 0) {
+            return new BigDecimal("92233720368547758070000").add(BigDecimal.valueOf(random.nextInt(1000) + 1, 3));
+        }
+        long unscaled = 1 + random.nextLong(1L << (1 + random.nextInt(62)));
+        return BigDecimal.valueOf(unscaled, random.nextInt(9));
+    }
+
+    @Test
+    void equality_keeps_bigdecimal_semantics() {
+        assertThat(pbd("1.50")).isEqualTo(pbd("1.50"));
+        assertThat(pbd("1.50").hashCode()).isEqualTo(pbd("1.50").hashCode());
+        assertThat(pbd("1.50").hashCode()).isEqualTo(new BigDecimal("1.50").hashCode());
+        // スケールが違えば等しくない (BigDecimal#equals と同じ)
+        assertThat(pbd("1.5")).isNotEqualTo(pbd("1.50"));
+        assertThat(pbd("1.5").compareTo(pbd("1.50"))).isEqualTo(0);
+        assertThat(PositiveBigDecimal.of(150, 2).unwrap()).isEqualTo(pbd("1.50"));
+        assertThat(pbd("1.50").toString()).isEqualTo("PositiveBigDecimal[value=1.50]");
+    }
+
+    @Test
+    void values_beyond_long_are_supported() {
+        PositiveBigDecimal big = pbd("9223372036854775807");
+        PositiveBigDecimal bigger = big.add(pbd("1"));
+
+        assertThat(bigger.value()).isEqualTo(new BigDecimal("9223372036854775808"));
+        assertThat(bigger).isEqualTo(pbd("9223372036854775808"));
+        assertThat(bigger.compareTo(big)).isGreaterThan(0);
+        assertThat(pbd("1E+3").value()).isEqualTo(new BigDecimal("1E+3"));
+        assertThat(PositiveBigDecimal.of(5, -2).unwrap()).isEqualTo(pbd("5E+2"));
+        assertThat(PositiveBigDecimal.of(0, 2)).isFailure();
+    }
+
+    @Test
+    void operations_match_bigdecimal() {
+        Random random = new Random(11);
+        RoundingMode[] modes = {RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+        for (int i = 0; i < 5_000; i++) {
+            BigDecimal a = randomPositive(random);
+            BigDecimal b = randomPositive(random);
+            PositiveBigDecimal pa = new PositiveBigDecimal(a);
+            PositiveBigDecimal pb = new PositiveBigDecimal(b);
+
+            assertThat(pa.add(pb)).isEqualTo(new PositiveBigDecimal(a.add(b)));
+            assertThat(pa.multiply(pb)).isEqualTo(new PositiveBigDecimal(a.multiply(b)));
+            assertThat(pa.multiply(b).unwrap()).isEqualTo(new PositiveBigDecimal(a.multiply(b)));
+            assertThat(Integer.signum(pa.compareTo(pb))).isEqualTo(a.compareTo(b));
+            assertThat(pa.equals(pb)).isEqualTo(a.equals(b));
+
+            int newScale = random.nextInt(10);
+            RoundingMode mode = modes[random.nextInt(modes.length)];
+            BigDecimal expected = a.setScale(newScale, mode);
+            if (expected.signum() > 0) {
+                assertThat(pa.setScale(newScale, mode)).isEqualTo(new PositiveBigDecimal(expected));
+            } else {
+                assertThatThrownBy(() -> pa.setScale(newScale, mode)).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Test
+    void setScale_rounding_modes() {
+        PositiveBigDecimal v = pbd("2.25");
+
+        assertThat(v.setScale(1, RoundingMode.HALF_EVEN).value()).isEqualTo(new BigDecimal("2.2"));
+        assertThat(v.setScale(1, RoundingMode.HALF_UP).value()).isEqualTo(new BigDecimal("2.3"));
+        assertThat(v.setScale(4, RoundingMode.UNNECESSARY).value()).isEqualTo(new BigDecimal("2.2500"));
+        assertThatThrownBy(() -> v.setScale(1, RoundingMode.UNNECESSARY)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> pbd("0.4").setScale(0, RoundingMode.DOWN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serialization_round_trip() throws Exception {
+        PositiveBigDecimal original = pbd("12.345");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(original);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostalCodeTest {
+
+    private static final Pattern POSTAL = Pattern.compile(PostalCode.REFERENCE_REGEX);
+
+    @Test
+    void postal_scanner_matches_reference_regex() {
+        Random random = new Random(5);
+        for (int round = 0; round < 100_000; round++) {
+            String s = randomInput(random);
+            assertThat(PostalCode.parse(s) >= 0).as("input: %s", s).isEqualTo(POSTAL.matcher(s).matches());
+        }
+    }
+
+    @Test
+    void postal_code_representations() {
+        PostalCode code = PostalCode.of("012-3456").unwrap();
+
+        assertThat(code.value()).isEqualTo("012-3456");
+        assertThat(code.asUnformatted()).isEqualTo("0123456");
+        assertThat(code).isEqualTo(new PostalCode("012-3456"));
+        assertThat(code.hashCode()).isEqualTo(new PostalCode("012-3456").hashCode());
+        assertThat(code).isNotEqualTo(PostalCode.of("012-3457").unwrap());
+        assertThat(code.toString()).isEqualTo("PostalCode[value=012-3456]");
+    }
+
+    @Test
+    void constructor_keeps_values_that_do_not_match_the_format() {
+        // 既存データの復元は失敗させない (検証は of で行う)
+        PostalCode legacy = new PostalCode("1234567");
+        assertThat(legacy.isWellFormed()).isFalse();
+        assertThat(legacy.value()).isEqualTo("1234567");
+        assertThat(legacy).isEqualTo(new PostalCode("1234567"));
+        assertThat(legacy).isNotEqualTo(PostalCode.of("123-4567").unwrap());
+        assertThat(PostalCode.of("1234567").isFailure()).isTrue();
+        assertThat(new PostalCode("123-4567").isWellFormed()).isTrue();
+        assertThatThrownBy(() -> new PostalCode(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomInput(Random random) {
+        char[] chars = new char[random.nextInt(11)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = "0123456789-x".charAt(random.nextInt(12));
+        }
+        return new String(chars);
+    }
+}
@@ -82,6 +82,7 @@ class SimpleVoTest {
         // 再構築
         assertThat(RequestId.from(id.toString())).isSuccess();
         assertThat(RequestId.from("invalid-uuid")).isFailure();
+        assertThat(RequestId.from("invalid-uuid").unwrapFailure().message()).isEqualTo("無効なID形式です: invalid-uuid");
     }
 
     @Test
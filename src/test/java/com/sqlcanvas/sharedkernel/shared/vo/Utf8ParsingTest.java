@@ -0,0 +1,94 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.error.CommonErrorCode;
+import com.sqlcanvas.sharedkernel.shared.util.CharSequences;
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.sqlcanvas.sharedkernel.shared.test.ResultAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8ParsingTest {
+
+    // パーサーのバッファを模したもの: フィールドの前後に別のデータがある
+    private static byte[] framed(String field) {
+        return ("{\"x\":\"" + field + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final int OFFSET = 6;
+
+    private static int length(String field) {
+        return field.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Test
+    void email_from_char_sequence_and_bytes() {
+        String address = "user.name+tag@example.co.jp";
+
+        assertThat(Email.ofChars(new StringBuilder(address)).unwrap()).isEqualTo(Email.of(address).unwrap());
+        assertThat(Email.ofUtf8(framed(address), OFFSET, length(address)).unwrap().value()).isEqualTo(address);
+        assertThat(Email.ofUtf8(ByteBuffer.wrap(framed(address), OFFSET, length(address))).unwrap().value())
+                .isEqualTo(address);
+
+        assertThat(Email.ofChars(new StringBuilder("   "))).isFailure().hasErrorCode(CommonErrorCode.INVALID_PARAMETER);
+        assertThat(Email.ofUtf8(framed("not-an-email"), OFFSET, length("not-an-email"))).isFailure();
+    }
+
+    @Test
+    void non_ascii_bytes_are_rejected_like_decoded_strings() {
+        String address = "ユーザー@example.com";
+
+        assertThat(Email.of(address)).isFailure();
+        assertThat(Email.ofUtf8(framed(address), OFFSET, length(address))).isFailure();
+        assertThat(PhoneNumber.ofUtf8(framed("０９０-1234-5678"), OFFSET, length("０９０-1234-5678"))).isFailure();
+    }
+
+    @Test
+    void phone_and_postal_from_bytes() {
+        assertThat(PhoneNumber.ofUtf8(framed("090-1234-5678"), OFFSET, length("090-1234-5678")).unwrap())
+                .isEqualTo(PhoneNumber.of("090-1234-5678").unwrap());
+        assertThat(PostalCode.ofUtf8(framed("123-4567"), OFFSET, length("123-4567")).unwrap().value())
+                .isEqualTo("123-4567");
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(16).put("123-4567".getBytes(StandardCharsets.US_ASCII)).flip();
+        assertThat(PostalCode.ofUtf8(direct).unwrap().value()).isEqualTo("123-4567");
+        assertThat(direct.position()).isEqualTo(0);
+
+        assertThat(PostalCode.ofUtf8(framed("1234567"), OFFSET, length("1234567"))).isFailure();
+    }
+
+    @Test
+    void request_id_from_char_sequence_and_bytes() {
+        UUID uuid = UUID.randomUUID();
+        String canonical = uuid.toString();
+
+        assertThat(RequestId.fromChars(new StringBuilder(canonical)).unwrap().value()).isEqualTo(uuid);
+        assertThat(RequestId.from(canonical.toUpperCase()).unwrap().value()).isEqualTo(uuid);
+        assertThat(RequestId.fromUtf8(framed(canonical), OFFSET, canonical.length()).unwrap().value()).isEqualTo(uuid);
+
+        // 標準形式以外も UUID.fromString と同じく受け付ける
+        assertThat(RequestId.fromChars(new StringBuilder("1-2-3-4-5")).unwrap().value())
+                .isEqualTo(UUID.fromString("1-2-3-4-5"));
+
+        assertThat(RequestId.fromChars(new StringBuilder("invalid-uuid")).unwrapFailure().message())
+                .isEqualTo("無効なID形式です");
+        assertThat(RequestId.from(canonical.replace('-', '_'))).isFailure();
+        assertThat(RequestId.from(canonical.substring(0, 35) + "g")).isFailure();
+    }
+
+    @Test
+    void byte_view_behaves_as_char_sequence() {
+        byte[] bytes = framed("héllo");
+        CharSequence view = CharSequences.utf8(bytes, OFFSET, length("héllo"));
+
+        assertThat(view.length()).isEqualTo(6);
+        assertThat(view.charAt(0)).isEqualTo('h');
+        assertThat(view.subSequence(3, 6).toString()).isEqualTo("llo");
+        assertThat(view.toString()).isEqualTo("héllo");
+        assertThat(CharSequences.isBlank(CharSequences.utf8(" \t".getBytes(StandardCharsets.US_ASCII), 0, 2))).isTrue();
+    }
+}
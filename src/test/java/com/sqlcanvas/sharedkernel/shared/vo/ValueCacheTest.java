@@ -0,0 +1,69 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueCacheTest {
+
+    private static final long HIGH = ValueCache.DEFAULT_HIGH;
+
+    @Test
+    void positiveInt_small_values_are_shared() {
+        assertThat(PositiveInt.of(1)).isSameAs(PositiveInt.of(1));
+        assertThat(PositiveInt.of((int) HIGH)).isSameAs(PositiveInt.of((int) HIGH));
+        assertThat(PositiveInt.valueOf(100)).isSameAs(PositiveInt.of(100).unwrap());
+        assertThat(PositiveInt.valueOf(1).add(PositiveInt.valueOf(2))).isSameAs(PositiveInt.valueOf(3));
+    }
+
+    @Test
+    void positiveInt_outside_range_is_allocated_but_equal() {
+        int big = (int) HIGH + 1;
+
+        assertThat(PositiveInt.of(big)).isNotSameAs(PositiveInt.of(big));
+        assertThat(PositiveInt.of(big)).isEqualTo(PositiveInt.of(big));
+        assertThatThrownBy(() -> PositiveInt.valueOf(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nonNegativeLong_zero_and_small_values_are_shared() {
+        assertThat(NonNegativeLong.of(0).unwrap()).isSameAs(NonNegativeLong.ZERO);
+        assertThat(NonNegativeLong.valueOf(0)).isSameAs(NonNegativeLong.ZERO);
+        assertThat(NonNegativeLong.of(HIGH)).isSameAs(NonNegativeLong.of(HIGH));
+        assertThat(NonNegativeLong.ZERO.increment()).isSameAs(NonNegativeLong.valueOf(1));
+        assertThat(NonNegativeLong.of(HIGH + 1)).isNotSameAs(NonNegativeLong.of(HIGH + 1));
+        assertThatThrownBy(() -> NonNegativeLong.valueOf(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void zero_or_negative_high_disables_the_cache() {
+        String saved = System.getProperty(ValueCache.HIGH_PROPERTY);
+        try {
+            System.setProperty(ValueCache.HIGH_PROPERTY, "0");
+            assertThat(ValueCache.high()).isEqualTo(ValueCache.DISABLED);
+            System.setProperty(ValueCache.HIGH_PROPERTY, "-5");
+            assertThat(ValueCache.high()).isEqualTo(ValueCache.DISABLED);
+            System.setProperty(ValueCache.HIGH_PROPERTY, "1");
+            assertThat(ValueCache.high()).isEqualTo(1);
+            System.setProperty(ValueCache.HIGH_PROPERTY, String.valueOf(Integer.MAX_VALUE));
+            assertThat(ValueCache.high()).isEqualTo(1 << 20);
+        } finally {
+            if (saved == null) {
+                System.clearProperty(ValueCache.HIGH_PROPERTY);
+            } else {
+                System.setProperty(ValueCache.HIGH_PROPERTY, saved);
+            }
+        }
+    }
+
+    @Test
+    void money_small_amounts_are_shared() {
+        assertThat(Money.of(0).unwrap()).isSameAs(Money.zero());
+        assertThat(Money.of(100)).isSameAs(Money.of(100));
+        assertThat(Money.valueOf(300).subtract(Money.valueOf(200))).isSameAs(Money.of(100));
+        assertThat(Money.of(HIGH + 1)).isNotSameAs(Money.of(HIGH + 1));
+        assertThat(Money.valueOf(HIGH + 1)).isEqualTo(new Money(HIGH + 1));
+        assertThatThrownBy(() -> Money.valueOf(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
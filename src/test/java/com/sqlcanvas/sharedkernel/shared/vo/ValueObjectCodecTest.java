@@ -0,0 +1,195 @@
+package com.sqlcanvas.sharedkernel.shared.vo;
+
+import com.sqlcanvas.sharedkernel.shared.util.RequestId;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueObjectCodecTest {
+
+    private final ValueObjectCodec codec = ValueObjectCodec.standard();
+
+    private static List<Object> samples() {
+        return List.of(
+                Money.valueOf(0),
+                Money.valueOf(1000),
+                Money.valueOf(Long.MAX_VALUE),
+                PositiveInt.of(1).unwrap(),
+                PositiveInt.of(Integer.MAX_VALUE).unwrap(),
+                NonNegativeLong.valueOf(123_456_789L),
+                PositiveBigDecimal.of(1250, 2).unwrap(),
+                PositiveBigDecimal.of(new BigDecimal("1E+5")).unwrap(),
+                PositiveBigDecimal.of(new BigDecimal("123456789012345678901234567890.123")).unwrap(),
+                Email.of("user@example.com").unwrap(),
+                new Email("山田 太郎 <taro@example.com>"),
+                new Email("x".repeat(400) + "@example.com"),
+                PhoneNumber.of("03-1234-5678").unwrap(),
+                PhoneNumber.of("090-1234-5678").unwrap(),
+                new PhoneNumber("内線 1234"),
+                PostalCode.of("100-0001").unwrap(),
+                new PostalCode("1000001"),
+                CurrencyMoney.ofMinor(1234, CurrencyUnit.of("USD").unwrap()).unwrap(),
+                RequestId.generate());
+    }
+
+    @Test
+    void every_standard_type_round_trips() {
+        for (Object value : samples()) {
+            byte[] bytes = codec.toBytes(value);
+            Object restored = codec.fromBytes(bytes);
+
+            assertThat(restored).as("%s", value).isEqualTo(value);
+            assertThat(restored.toString()).isEqualTo(value.toString());
+        }
+    }
+
+    @Test
+    void small_values_are_a_few_bytes() {
+        assertThat(codec.toBytes(Money.valueOf(1000))).hasSize(3);
+        assertThat(codec.toBytes(PositiveInt.of(1).unwrap())).hasSize(2);
+        assertThat(codec.toBytes(PostalCode.of("100-0001").unwrap())).hasSize(4);
+        assertThat(codec.toBytes(RequestId.generate())).hasSize(17);
+    }
+
+    @Test
+    void values_are_read_back_in_sequence_from_one_buffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        for (Object value : samples()) {
+            codec.encode(value, buffer);
+        }
+        buffer.flip();
+
+        for (Object value : samples()) {
+            if (value instanceof RequestId) {
+                assertThat(codec.decode(buffer, RequestId.class)).isNotNull();
+            } else {
+                assertThat(codec.decode(buffer)).isEqualTo(value);
+            }
+        }
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void java_serialization_goes_through_the_codec() throws Exception {
+        for (Object value : samples()) {
+            if (value instanceof RequestId) {
+                continue;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertThat(in.readObject()).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    void java_serialized_form_is_smaller_than_a_record() throws Exception {
+        record LegacyMoney(long amount) implements java.io.Serializable {
+        }
+        assertThat(javaSerializedSize(Money.valueOf(1000))).isLessThan(javaSerializedSize(new LegacyMoney(1000)));
+    }
+
+    @Test
+    void unvalidated_emails_round_trip_as_written() {
+        // EmailConverter などでコンストラクターから復元した値 (書式外・非 ASCII) もそのまま戻る
+        Email legacy = new Email("山田@例え.jp");
+
+        byte[] bytes = codec.toBytes(legacy);
+        Email restored = (Email) codec.fromBytes(bytes);
+
+        assertThat(restored).isEqualTo(legacy);
+        assertThat(restored.value()).isEqualTo("山田@例え.jp");
+        assertThat(codec.toBytes(Email.of("a@example.com").unwrap())).hasSize(15);
+    }
+
+    @Test
+    void invalid_bytes_are_rejected() {
+        // 未登録のタグ
+        assertThatThrownBy(() -> codec.fromBytes(new byte[]{100, 1})).isInstanceOf(IllegalArgumentException.class);
+        // 途中で終わっている
+        assertThatThrownBy(() -> codec.fromBytes(new byte[]{9, 1, 2})).isInstanceOf(IllegalArgumentException.class);
+        // 余分なバイト
+        assertThatThrownBy(() -> codec.fromBytes(new byte[]{1, 1, 0})).isInstanceOf(IllegalArgumentException.class);
+        // PositiveInt の 0 (不変条件違反)
+        assertThatThrownBy(() -> codec.fromBytes(new byte[]{2, 0})).isInstanceOf(IllegalArgumentException.class);
+        // 形式が不正なメールアドレス
+        assertThatThrownBy(() -> codec.fromBytes(new byte[]{5, 3, 'a', 'b', 'c'}))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 10バイト目に64bitを超える値を持つ可変長整数
+        byte[] overlong = {1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x02};
+        assertThatThrownBy(() -> codec.fromBytes(overlong)).isInstanceOf(IllegalArgumentException.class);
+        // 別の型
+        ByteBuffer money = ByteBuffer.wrap(codec.toBytes(Money.valueOf(1)));
+        assertThatThrownBy(() -> codec.decode(money, PositiveInt.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void varints_use_all_64_bits() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        Varints.writeUnsigned(buffer, -1L);
+        Varints.writeSigned(buffer, Long.MIN_VALUE);
+        assertThat(buffer.position()).isEqualTo(20);
+        buffer.flip();
+
+        assertThat(Varints.readUnsigned(buffer)).isEqualTo(-1L);
+        assertThat(Varints.readSigned(buffer)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void unsupported_types_are_rejected() {
+        assertThat(codec.supports(Money.class)).isTrue();
+        assertThat(codec.supports(String.class)).isFalse();
+        assertThatThrownBy(() -> codec.toBytes("text")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void application_types_can_be_registered() {
+        ValueObjectCodec extended = codec.with(ValueObjectCodec.FIRST_APPLICATION_TAG, Sku.class, new SkuEncoder());
+
+        Sku sku = new Sku(42);
+        assertThat(extended.fromBytes(extended.toBytes(sku))).isEqualTo(sku);
+        assertThat(extended.fromBytes(extended.toBytes(Money.valueOf(1)))).isEqualTo(Money.valueOf(1));
+        assertThat(codec.supports(Sku.class)).isFalse();
+
+        assertThatThrownBy(() -> codec.with(1, Sku.class, new SkuEncoder()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> extended.with(ValueObjectCodec.FIRST_APPLICATION_TAG + 1, Sku.class, new SkuEncoder()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int javaSerializedSize(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+
+    private record Sku(int value) {
+    }
+
+    private static final class SkuEncoder implements ValueObjectCodec.Encoder<Sku> {
+
+        @Override
+        public void encode(Sku value, ByteBuffer out) {
+            out.putInt(value.value());
+        }
+
+        @Override
+        public Sku decode(ByteBuffer in) {
+            return new Sku(in.getInt());
+        }
+    }
+}